@@ -0,0 +1,3008 @@
+import java.util.Objects;
+
+/** Benchmark corpus: a class with many fields and many small methods. */
+public class BigClass {
+    private String field0 = "f0";
+    private Integer field1 = 1;
+    private Object field2 = new Object();
+    private long field3 = 3L;
+    private String field4 = "f4";
+    private Integer field5 = 5;
+    private Object field6 = new Object();
+    private long field7 = 7L;
+    private String field8 = "f8";
+    private Integer field9 = 9;
+    private Object field10 = new Object();
+    private long field11 = 11L;
+    private String field12 = "f12";
+    private Integer field13 = 13;
+    private Object field14 = new Object();
+    private long field15 = 15L;
+    private String field16 = "f16";
+    private Integer field17 = 17;
+    private Object field18 = new Object();
+    private long field19 = 19L;
+    private String field20 = "f20";
+    private Integer field21 = 21;
+    private Object field22 = new Object();
+    private long field23 = 23L;
+    private String field24 = "f24";
+    private Integer field25 = 25;
+    private Object field26 = new Object();
+    private long field27 = 27L;
+    private String field28 = "f28";
+    private Integer field29 = 29;
+    private Object field30 = new Object();
+    private long field31 = 31L;
+    private String field32 = "f32";
+    private Integer field33 = 33;
+    private Object field34 = new Object();
+    private long field35 = 35L;
+    private String field36 = "f36";
+    private Integer field37 = 37;
+    private Object field38 = new Object();
+    private long field39 = 39L;
+    private String field40 = "f40";
+    private Integer field41 = 41;
+    private Object field42 = new Object();
+    private long field43 = 43L;
+    private String field44 = "f44";
+    private Integer field45 = 45;
+    private Object field46 = new Object();
+    private long field47 = 47L;
+    private String field48 = "f48";
+    private Integer field49 = 49;
+    private Object field50 = new Object();
+    private long field51 = 51L;
+    private String field52 = "f52";
+    private Integer field53 = 53;
+    private Object field54 = new Object();
+    private long field55 = 55L;
+    private String field56 = "f56";
+    private Integer field57 = 57;
+    private Object field58 = new Object();
+    private long field59 = 59L;
+    private String field60 = "f60";
+    private Integer field61 = 61;
+    private Object field62 = new Object();
+    private long field63 = 63L;
+    private String field64 = "f64";
+    private Integer field65 = 65;
+    private Object field66 = new Object();
+    private long field67 = 67L;
+    private String field68 = "f68";
+    private Integer field69 = 69;
+    private Object field70 = new Object();
+    private long field71 = 71L;
+    private String field72 = "f72";
+    private Integer field73 = 73;
+    private Object field74 = new Object();
+    private long field75 = 75L;
+    private String field76 = "f76";
+    private Integer field77 = 77;
+    private Object field78 = new Object();
+    private long field79 = 79L;
+    private String field80 = "f80";
+    private Integer field81 = 81;
+    private Object field82 = new Object();
+    private long field83 = 83L;
+    private String field84 = "f84";
+    private Integer field85 = 85;
+    private Object field86 = new Object();
+    private long field87 = 87L;
+    private String field88 = "f88";
+    private Integer field89 = 89;
+    private Object field90 = new Object();
+    private long field91 = 91L;
+    private String field92 = "f92";
+    private Integer field93 = 93;
+    private Object field94 = new Object();
+    private long field95 = 95L;
+    private String field96 = "f96";
+    private Integer field97 = 97;
+    private Object field98 = new Object();
+    private long field99 = 99L;
+    private String field100 = "f100";
+    private Integer field101 = 101;
+    private Object field102 = new Object();
+    private long field103 = 103L;
+    private String field104 = "f104";
+    private Integer field105 = 105;
+    private Object field106 = new Object();
+    private long field107 = 107L;
+    private String field108 = "f108";
+    private Integer field109 = 109;
+    private Object field110 = new Object();
+    private long field111 = 111L;
+    private String field112 = "f112";
+    private Integer field113 = 113;
+    private Object field114 = new Object();
+    private long field115 = 115L;
+    private String field116 = "f116";
+    private Integer field117 = 117;
+    private Object field118 = new Object();
+    private long field119 = 119L;
+    private String field120 = "f120";
+    private Integer field121 = 121;
+    private Object field122 = new Object();
+    private long field123 = 123L;
+    private String field124 = "f124";
+    private Integer field125 = 125;
+    private Object field126 = new Object();
+    private long field127 = 127L;
+    private String field128 = "f128";
+    private Integer field129 = 129;
+    private Object field130 = new Object();
+    private long field131 = 131L;
+    private String field132 = "f132";
+    private Integer field133 = 133;
+    private Object field134 = new Object();
+    private long field135 = 135L;
+    private String field136 = "f136";
+    private Integer field137 = 137;
+    private Object field138 = new Object();
+    private long field139 = 139L;
+    private String field140 = "f140";
+    private Integer field141 = 141;
+    private Object field142 = new Object();
+    private long field143 = 143L;
+    private String field144 = "f144";
+    private Integer field145 = 145;
+    private Object field146 = new Object();
+    private long field147 = 147L;
+    private String field148 = "f148";
+    private Integer field149 = 149;
+    private Object field150 = new Object();
+    private long field151 = 151L;
+    private String field152 = "f152";
+    private Integer field153 = 153;
+    private Object field154 = new Object();
+    private long field155 = 155L;
+    private String field156 = "f156";
+    private Integer field157 = 157;
+    private Object field158 = new Object();
+    private long field159 = 159L;
+    private String field160 = "f160";
+    private Integer field161 = 161;
+    private Object field162 = new Object();
+    private long field163 = 163L;
+    private String field164 = "f164";
+    private Integer field165 = 165;
+    private Object field166 = new Object();
+    private long field167 = 167L;
+    private String field168 = "f168";
+    private Integer field169 = 169;
+    private Object field170 = new Object();
+    private long field171 = 171L;
+    private String field172 = "f172";
+    private Integer field173 = 173;
+    private Object field174 = new Object();
+    private long field175 = 175L;
+    private String field176 = "f176";
+    private Integer field177 = 177;
+    private Object field178 = new Object();
+    private long field179 = 179L;
+    private String field180 = "f180";
+    private Integer field181 = 181;
+    private Object field182 = new Object();
+    private long field183 = 183L;
+    private String field184 = "f184";
+    private Integer field185 = 185;
+    private Object field186 = new Object();
+    private long field187 = 187L;
+    private String field188 = "f188";
+    private Integer field189 = 189;
+    private Object field190 = new Object();
+    private long field191 = 191L;
+    private String field192 = "f192";
+    private Integer field193 = 193;
+    private Object field194 = new Object();
+    private long field195 = 195L;
+    private String field196 = "f196";
+    private Integer field197 = 197;
+    private Object field198 = new Object();
+    private long field199 = 199L;
+    private String field200 = "f200";
+    private Integer field201 = 201;
+    private Object field202 = new Object();
+    private long field203 = 203L;
+    private String field204 = "f204";
+    private Integer field205 = 205;
+    private Object field206 = new Object();
+    private long field207 = 207L;
+    private String field208 = "f208";
+    private Integer field209 = 209;
+    private Object field210 = new Object();
+    private long field211 = 211L;
+    private String field212 = "f212";
+    private Integer field213 = 213;
+    private Object field214 = new Object();
+    private long field215 = 215L;
+    private String field216 = "f216";
+    private Integer field217 = 217;
+    private Object field218 = new Object();
+    private long field219 = 219L;
+    private String field220 = "f220";
+    private Integer field221 = 221;
+    private Object field222 = new Object();
+    private long field223 = 223L;
+    private String field224 = "f224";
+    private Integer field225 = 225;
+    private Object field226 = new Object();
+    private long field227 = 227L;
+    private String field228 = "f228";
+    private Integer field229 = 229;
+    private Object field230 = new Object();
+    private long field231 = 231L;
+    private String field232 = "f232";
+    private Integer field233 = 233;
+    private Object field234 = new Object();
+    private long field235 = 235L;
+    private String field236 = "f236";
+    private Integer field237 = 237;
+    private Object field238 = new Object();
+    private long field239 = 239L;
+    private String field240 = "f240";
+    private Integer field241 = 241;
+    private Object field242 = new Object();
+    private long field243 = 243L;
+    private String field244 = "f244";
+    private Integer field245 = 245;
+    private Object field246 = new Object();
+    private long field247 = 247L;
+    private String field248 = "f248";
+    private Integer field249 = 249;
+
+    public String getField0() {
+        return field0;
+    }
+
+    public void setField0(String value) {
+        this.field0 = value;
+    }
+
+    public boolean sameField0(BigClass other) {
+        return Objects.equals(field0, other.field0);
+    }
+
+    public Integer getField1() {
+        return field1;
+    }
+
+    public void setField1(Integer value) {
+        this.field1 = value;
+    }
+
+    public boolean sameField1(BigClass other) {
+        return Objects.equals(field1, other.field1);
+    }
+
+    public Object getField2() {
+        return field2;
+    }
+
+    public void setField2(Object value) {
+        this.field2 = value;
+    }
+
+    public boolean sameField2(BigClass other) {
+        return Objects.equals(field2, other.field2);
+    }
+
+    public long getField3() {
+        return field3;
+    }
+
+    public void setField3(long value) {
+        this.field3 = value;
+    }
+
+    public String getField4() {
+        return field4;
+    }
+
+    public void setField4(String value) {
+        this.field4 = value;
+    }
+
+    public boolean sameField4(BigClass other) {
+        return Objects.equals(field4, other.field4);
+    }
+
+    public Integer getField5() {
+        return field5;
+    }
+
+    public void setField5(Integer value) {
+        this.field5 = value;
+    }
+
+    public boolean sameField5(BigClass other) {
+        return Objects.equals(field5, other.field5);
+    }
+
+    public Object getField6() {
+        return field6;
+    }
+
+    public void setField6(Object value) {
+        this.field6 = value;
+    }
+
+    public boolean sameField6(BigClass other) {
+        return Objects.equals(field6, other.field6);
+    }
+
+    public long getField7() {
+        return field7;
+    }
+
+    public void setField7(long value) {
+        this.field7 = value;
+    }
+
+    public String getField8() {
+        return field8;
+    }
+
+    public void setField8(String value) {
+        this.field8 = value;
+    }
+
+    public boolean sameField8(BigClass other) {
+        return Objects.equals(field8, other.field8);
+    }
+
+    public Integer getField9() {
+        return field9;
+    }
+
+    public void setField9(Integer value) {
+        this.field9 = value;
+    }
+
+    public boolean sameField9(BigClass other) {
+        return Objects.equals(field9, other.field9);
+    }
+
+    public Object getField10() {
+        return field10;
+    }
+
+    public void setField10(Object value) {
+        this.field10 = value;
+    }
+
+    public boolean sameField10(BigClass other) {
+        return Objects.equals(field10, other.field10);
+    }
+
+    public long getField11() {
+        return field11;
+    }
+
+    public void setField11(long value) {
+        this.field11 = value;
+    }
+
+    public String getField12() {
+        return field12;
+    }
+
+    public void setField12(String value) {
+        this.field12 = value;
+    }
+
+    public boolean sameField12(BigClass other) {
+        return Objects.equals(field12, other.field12);
+    }
+
+    public Integer getField13() {
+        return field13;
+    }
+
+    public void setField13(Integer value) {
+        this.field13 = value;
+    }
+
+    public boolean sameField13(BigClass other) {
+        return Objects.equals(field13, other.field13);
+    }
+
+    public Object getField14() {
+        return field14;
+    }
+
+    public void setField14(Object value) {
+        this.field14 = value;
+    }
+
+    public boolean sameField14(BigClass other) {
+        return Objects.equals(field14, other.field14);
+    }
+
+    public long getField15() {
+        return field15;
+    }
+
+    public void setField15(long value) {
+        this.field15 = value;
+    }
+
+    public String getField16() {
+        return field16;
+    }
+
+    public void setField16(String value) {
+        this.field16 = value;
+    }
+
+    public boolean sameField16(BigClass other) {
+        return Objects.equals(field16, other.field16);
+    }
+
+    public Integer getField17() {
+        return field17;
+    }
+
+    public void setField17(Integer value) {
+        this.field17 = value;
+    }
+
+    public boolean sameField17(BigClass other) {
+        return Objects.equals(field17, other.field17);
+    }
+
+    public Object getField18() {
+        return field18;
+    }
+
+    public void setField18(Object value) {
+        this.field18 = value;
+    }
+
+    public boolean sameField18(BigClass other) {
+        return Objects.equals(field18, other.field18);
+    }
+
+    public long getField19() {
+        return field19;
+    }
+
+    public void setField19(long value) {
+        this.field19 = value;
+    }
+
+    public String getField20() {
+        return field20;
+    }
+
+    public void setField20(String value) {
+        this.field20 = value;
+    }
+
+    public boolean sameField20(BigClass other) {
+        return Objects.equals(field20, other.field20);
+    }
+
+    public Integer getField21() {
+        return field21;
+    }
+
+    public void setField21(Integer value) {
+        this.field21 = value;
+    }
+
+    public boolean sameField21(BigClass other) {
+        return Objects.equals(field21, other.field21);
+    }
+
+    public Object getField22() {
+        return field22;
+    }
+
+    public void setField22(Object value) {
+        this.field22 = value;
+    }
+
+    public boolean sameField22(BigClass other) {
+        return Objects.equals(field22, other.field22);
+    }
+
+    public long getField23() {
+        return field23;
+    }
+
+    public void setField23(long value) {
+        this.field23 = value;
+    }
+
+    public String getField24() {
+        return field24;
+    }
+
+    public void setField24(String value) {
+        this.field24 = value;
+    }
+
+    public boolean sameField24(BigClass other) {
+        return Objects.equals(field24, other.field24);
+    }
+
+    public Integer getField25() {
+        return field25;
+    }
+
+    public void setField25(Integer value) {
+        this.field25 = value;
+    }
+
+    public boolean sameField25(BigClass other) {
+        return Objects.equals(field25, other.field25);
+    }
+
+    public Object getField26() {
+        return field26;
+    }
+
+    public void setField26(Object value) {
+        this.field26 = value;
+    }
+
+    public boolean sameField26(BigClass other) {
+        return Objects.equals(field26, other.field26);
+    }
+
+    public long getField27() {
+        return field27;
+    }
+
+    public void setField27(long value) {
+        this.field27 = value;
+    }
+
+    public String getField28() {
+        return field28;
+    }
+
+    public void setField28(String value) {
+        this.field28 = value;
+    }
+
+    public boolean sameField28(BigClass other) {
+        return Objects.equals(field28, other.field28);
+    }
+
+    public Integer getField29() {
+        return field29;
+    }
+
+    public void setField29(Integer value) {
+        this.field29 = value;
+    }
+
+    public boolean sameField29(BigClass other) {
+        return Objects.equals(field29, other.field29);
+    }
+
+    public Object getField30() {
+        return field30;
+    }
+
+    public void setField30(Object value) {
+        this.field30 = value;
+    }
+
+    public boolean sameField30(BigClass other) {
+        return Objects.equals(field30, other.field30);
+    }
+
+    public long getField31() {
+        return field31;
+    }
+
+    public void setField31(long value) {
+        this.field31 = value;
+    }
+
+    public String getField32() {
+        return field32;
+    }
+
+    public void setField32(String value) {
+        this.field32 = value;
+    }
+
+    public boolean sameField32(BigClass other) {
+        return Objects.equals(field32, other.field32);
+    }
+
+    public Integer getField33() {
+        return field33;
+    }
+
+    public void setField33(Integer value) {
+        this.field33 = value;
+    }
+
+    public boolean sameField33(BigClass other) {
+        return Objects.equals(field33, other.field33);
+    }
+
+    public Object getField34() {
+        return field34;
+    }
+
+    public void setField34(Object value) {
+        this.field34 = value;
+    }
+
+    public boolean sameField34(BigClass other) {
+        return Objects.equals(field34, other.field34);
+    }
+
+    public long getField35() {
+        return field35;
+    }
+
+    public void setField35(long value) {
+        this.field35 = value;
+    }
+
+    public String getField36() {
+        return field36;
+    }
+
+    public void setField36(String value) {
+        this.field36 = value;
+    }
+
+    public boolean sameField36(BigClass other) {
+        return Objects.equals(field36, other.field36);
+    }
+
+    public Integer getField37() {
+        return field37;
+    }
+
+    public void setField37(Integer value) {
+        this.field37 = value;
+    }
+
+    public boolean sameField37(BigClass other) {
+        return Objects.equals(field37, other.field37);
+    }
+
+    public Object getField38() {
+        return field38;
+    }
+
+    public void setField38(Object value) {
+        this.field38 = value;
+    }
+
+    public boolean sameField38(BigClass other) {
+        return Objects.equals(field38, other.field38);
+    }
+
+    public long getField39() {
+        return field39;
+    }
+
+    public void setField39(long value) {
+        this.field39 = value;
+    }
+
+    public String getField40() {
+        return field40;
+    }
+
+    public void setField40(String value) {
+        this.field40 = value;
+    }
+
+    public boolean sameField40(BigClass other) {
+        return Objects.equals(field40, other.field40);
+    }
+
+    public Integer getField41() {
+        return field41;
+    }
+
+    public void setField41(Integer value) {
+        this.field41 = value;
+    }
+
+    public boolean sameField41(BigClass other) {
+        return Objects.equals(field41, other.field41);
+    }
+
+    public Object getField42() {
+        return field42;
+    }
+
+    public void setField42(Object value) {
+        this.field42 = value;
+    }
+
+    public boolean sameField42(BigClass other) {
+        return Objects.equals(field42, other.field42);
+    }
+
+    public long getField43() {
+        return field43;
+    }
+
+    public void setField43(long value) {
+        this.field43 = value;
+    }
+
+    public String getField44() {
+        return field44;
+    }
+
+    public void setField44(String value) {
+        this.field44 = value;
+    }
+
+    public boolean sameField44(BigClass other) {
+        return Objects.equals(field44, other.field44);
+    }
+
+    public Integer getField45() {
+        return field45;
+    }
+
+    public void setField45(Integer value) {
+        this.field45 = value;
+    }
+
+    public boolean sameField45(BigClass other) {
+        return Objects.equals(field45, other.field45);
+    }
+
+    public Object getField46() {
+        return field46;
+    }
+
+    public void setField46(Object value) {
+        this.field46 = value;
+    }
+
+    public boolean sameField46(BigClass other) {
+        return Objects.equals(field46, other.field46);
+    }
+
+    public long getField47() {
+        return field47;
+    }
+
+    public void setField47(long value) {
+        this.field47 = value;
+    }
+
+    public String getField48() {
+        return field48;
+    }
+
+    public void setField48(String value) {
+        this.field48 = value;
+    }
+
+    public boolean sameField48(BigClass other) {
+        return Objects.equals(field48, other.field48);
+    }
+
+    public Integer getField49() {
+        return field49;
+    }
+
+    public void setField49(Integer value) {
+        this.field49 = value;
+    }
+
+    public boolean sameField49(BigClass other) {
+        return Objects.equals(field49, other.field49);
+    }
+
+    public Object getField50() {
+        return field50;
+    }
+
+    public void setField50(Object value) {
+        this.field50 = value;
+    }
+
+    public boolean sameField50(BigClass other) {
+        return Objects.equals(field50, other.field50);
+    }
+
+    public long getField51() {
+        return field51;
+    }
+
+    public void setField51(long value) {
+        this.field51 = value;
+    }
+
+    public String getField52() {
+        return field52;
+    }
+
+    public void setField52(String value) {
+        this.field52 = value;
+    }
+
+    public boolean sameField52(BigClass other) {
+        return Objects.equals(field52, other.field52);
+    }
+
+    public Integer getField53() {
+        return field53;
+    }
+
+    public void setField53(Integer value) {
+        this.field53 = value;
+    }
+
+    public boolean sameField53(BigClass other) {
+        return Objects.equals(field53, other.field53);
+    }
+
+    public Object getField54() {
+        return field54;
+    }
+
+    public void setField54(Object value) {
+        this.field54 = value;
+    }
+
+    public boolean sameField54(BigClass other) {
+        return Objects.equals(field54, other.field54);
+    }
+
+    public long getField55() {
+        return field55;
+    }
+
+    public void setField55(long value) {
+        this.field55 = value;
+    }
+
+    public String getField56() {
+        return field56;
+    }
+
+    public void setField56(String value) {
+        this.field56 = value;
+    }
+
+    public boolean sameField56(BigClass other) {
+        return Objects.equals(field56, other.field56);
+    }
+
+    public Integer getField57() {
+        return field57;
+    }
+
+    public void setField57(Integer value) {
+        this.field57 = value;
+    }
+
+    public boolean sameField57(BigClass other) {
+        return Objects.equals(field57, other.field57);
+    }
+
+    public Object getField58() {
+        return field58;
+    }
+
+    public void setField58(Object value) {
+        this.field58 = value;
+    }
+
+    public boolean sameField58(BigClass other) {
+        return Objects.equals(field58, other.field58);
+    }
+
+    public long getField59() {
+        return field59;
+    }
+
+    public void setField59(long value) {
+        this.field59 = value;
+    }
+
+    public String getField60() {
+        return field60;
+    }
+
+    public void setField60(String value) {
+        this.field60 = value;
+    }
+
+    public boolean sameField60(BigClass other) {
+        return Objects.equals(field60, other.field60);
+    }
+
+    public Integer getField61() {
+        return field61;
+    }
+
+    public void setField61(Integer value) {
+        this.field61 = value;
+    }
+
+    public boolean sameField61(BigClass other) {
+        return Objects.equals(field61, other.field61);
+    }
+
+    public Object getField62() {
+        return field62;
+    }
+
+    public void setField62(Object value) {
+        this.field62 = value;
+    }
+
+    public boolean sameField62(BigClass other) {
+        return Objects.equals(field62, other.field62);
+    }
+
+    public long getField63() {
+        return field63;
+    }
+
+    public void setField63(long value) {
+        this.field63 = value;
+    }
+
+    public String getField64() {
+        return field64;
+    }
+
+    public void setField64(String value) {
+        this.field64 = value;
+    }
+
+    public boolean sameField64(BigClass other) {
+        return Objects.equals(field64, other.field64);
+    }
+
+    public Integer getField65() {
+        return field65;
+    }
+
+    public void setField65(Integer value) {
+        this.field65 = value;
+    }
+
+    public boolean sameField65(BigClass other) {
+        return Objects.equals(field65, other.field65);
+    }
+
+    public Object getField66() {
+        return field66;
+    }
+
+    public void setField66(Object value) {
+        this.field66 = value;
+    }
+
+    public boolean sameField66(BigClass other) {
+        return Objects.equals(field66, other.field66);
+    }
+
+    public long getField67() {
+        return field67;
+    }
+
+    public void setField67(long value) {
+        this.field67 = value;
+    }
+
+    public String getField68() {
+        return field68;
+    }
+
+    public void setField68(String value) {
+        this.field68 = value;
+    }
+
+    public boolean sameField68(BigClass other) {
+        return Objects.equals(field68, other.field68);
+    }
+
+    public Integer getField69() {
+        return field69;
+    }
+
+    public void setField69(Integer value) {
+        this.field69 = value;
+    }
+
+    public boolean sameField69(BigClass other) {
+        return Objects.equals(field69, other.field69);
+    }
+
+    public Object getField70() {
+        return field70;
+    }
+
+    public void setField70(Object value) {
+        this.field70 = value;
+    }
+
+    public boolean sameField70(BigClass other) {
+        return Objects.equals(field70, other.field70);
+    }
+
+    public long getField71() {
+        return field71;
+    }
+
+    public void setField71(long value) {
+        this.field71 = value;
+    }
+
+    public String getField72() {
+        return field72;
+    }
+
+    public void setField72(String value) {
+        this.field72 = value;
+    }
+
+    public boolean sameField72(BigClass other) {
+        return Objects.equals(field72, other.field72);
+    }
+
+    public Integer getField73() {
+        return field73;
+    }
+
+    public void setField73(Integer value) {
+        this.field73 = value;
+    }
+
+    public boolean sameField73(BigClass other) {
+        return Objects.equals(field73, other.field73);
+    }
+
+    public Object getField74() {
+        return field74;
+    }
+
+    public void setField74(Object value) {
+        this.field74 = value;
+    }
+
+    public boolean sameField74(BigClass other) {
+        return Objects.equals(field74, other.field74);
+    }
+
+    public long getField75() {
+        return field75;
+    }
+
+    public void setField75(long value) {
+        this.field75 = value;
+    }
+
+    public String getField76() {
+        return field76;
+    }
+
+    public void setField76(String value) {
+        this.field76 = value;
+    }
+
+    public boolean sameField76(BigClass other) {
+        return Objects.equals(field76, other.field76);
+    }
+
+    public Integer getField77() {
+        return field77;
+    }
+
+    public void setField77(Integer value) {
+        this.field77 = value;
+    }
+
+    public boolean sameField77(BigClass other) {
+        return Objects.equals(field77, other.field77);
+    }
+
+    public Object getField78() {
+        return field78;
+    }
+
+    public void setField78(Object value) {
+        this.field78 = value;
+    }
+
+    public boolean sameField78(BigClass other) {
+        return Objects.equals(field78, other.field78);
+    }
+
+    public long getField79() {
+        return field79;
+    }
+
+    public void setField79(long value) {
+        this.field79 = value;
+    }
+
+    public String getField80() {
+        return field80;
+    }
+
+    public void setField80(String value) {
+        this.field80 = value;
+    }
+
+    public boolean sameField80(BigClass other) {
+        return Objects.equals(field80, other.field80);
+    }
+
+    public Integer getField81() {
+        return field81;
+    }
+
+    public void setField81(Integer value) {
+        this.field81 = value;
+    }
+
+    public boolean sameField81(BigClass other) {
+        return Objects.equals(field81, other.field81);
+    }
+
+    public Object getField82() {
+        return field82;
+    }
+
+    public void setField82(Object value) {
+        this.field82 = value;
+    }
+
+    public boolean sameField82(BigClass other) {
+        return Objects.equals(field82, other.field82);
+    }
+
+    public long getField83() {
+        return field83;
+    }
+
+    public void setField83(long value) {
+        this.field83 = value;
+    }
+
+    public String getField84() {
+        return field84;
+    }
+
+    public void setField84(String value) {
+        this.field84 = value;
+    }
+
+    public boolean sameField84(BigClass other) {
+        return Objects.equals(field84, other.field84);
+    }
+
+    public Integer getField85() {
+        return field85;
+    }
+
+    public void setField85(Integer value) {
+        this.field85 = value;
+    }
+
+    public boolean sameField85(BigClass other) {
+        return Objects.equals(field85, other.field85);
+    }
+
+    public Object getField86() {
+        return field86;
+    }
+
+    public void setField86(Object value) {
+        this.field86 = value;
+    }
+
+    public boolean sameField86(BigClass other) {
+        return Objects.equals(field86, other.field86);
+    }
+
+    public long getField87() {
+        return field87;
+    }
+
+    public void setField87(long value) {
+        this.field87 = value;
+    }
+
+    public String getField88() {
+        return field88;
+    }
+
+    public void setField88(String value) {
+        this.field88 = value;
+    }
+
+    public boolean sameField88(BigClass other) {
+        return Objects.equals(field88, other.field88);
+    }
+
+    public Integer getField89() {
+        return field89;
+    }
+
+    public void setField89(Integer value) {
+        this.field89 = value;
+    }
+
+    public boolean sameField89(BigClass other) {
+        return Objects.equals(field89, other.field89);
+    }
+
+    public Object getField90() {
+        return field90;
+    }
+
+    public void setField90(Object value) {
+        this.field90 = value;
+    }
+
+    public boolean sameField90(BigClass other) {
+        return Objects.equals(field90, other.field90);
+    }
+
+    public long getField91() {
+        return field91;
+    }
+
+    public void setField91(long value) {
+        this.field91 = value;
+    }
+
+    public String getField92() {
+        return field92;
+    }
+
+    public void setField92(String value) {
+        this.field92 = value;
+    }
+
+    public boolean sameField92(BigClass other) {
+        return Objects.equals(field92, other.field92);
+    }
+
+    public Integer getField93() {
+        return field93;
+    }
+
+    public void setField93(Integer value) {
+        this.field93 = value;
+    }
+
+    public boolean sameField93(BigClass other) {
+        return Objects.equals(field93, other.field93);
+    }
+
+    public Object getField94() {
+        return field94;
+    }
+
+    public void setField94(Object value) {
+        this.field94 = value;
+    }
+
+    public boolean sameField94(BigClass other) {
+        return Objects.equals(field94, other.field94);
+    }
+
+    public long getField95() {
+        return field95;
+    }
+
+    public void setField95(long value) {
+        this.field95 = value;
+    }
+
+    public String getField96() {
+        return field96;
+    }
+
+    public void setField96(String value) {
+        this.field96 = value;
+    }
+
+    public boolean sameField96(BigClass other) {
+        return Objects.equals(field96, other.field96);
+    }
+
+    public Integer getField97() {
+        return field97;
+    }
+
+    public void setField97(Integer value) {
+        this.field97 = value;
+    }
+
+    public boolean sameField97(BigClass other) {
+        return Objects.equals(field97, other.field97);
+    }
+
+    public Object getField98() {
+        return field98;
+    }
+
+    public void setField98(Object value) {
+        this.field98 = value;
+    }
+
+    public boolean sameField98(BigClass other) {
+        return Objects.equals(field98, other.field98);
+    }
+
+    public long getField99() {
+        return field99;
+    }
+
+    public void setField99(long value) {
+        this.field99 = value;
+    }
+
+    public String getField100() {
+        return field100;
+    }
+
+    public void setField100(String value) {
+        this.field100 = value;
+    }
+
+    public boolean sameField100(BigClass other) {
+        return Objects.equals(field100, other.field100);
+    }
+
+    public Integer getField101() {
+        return field101;
+    }
+
+    public void setField101(Integer value) {
+        this.field101 = value;
+    }
+
+    public boolean sameField101(BigClass other) {
+        return Objects.equals(field101, other.field101);
+    }
+
+    public Object getField102() {
+        return field102;
+    }
+
+    public void setField102(Object value) {
+        this.field102 = value;
+    }
+
+    public boolean sameField102(BigClass other) {
+        return Objects.equals(field102, other.field102);
+    }
+
+    public long getField103() {
+        return field103;
+    }
+
+    public void setField103(long value) {
+        this.field103 = value;
+    }
+
+    public String getField104() {
+        return field104;
+    }
+
+    public void setField104(String value) {
+        this.field104 = value;
+    }
+
+    public boolean sameField104(BigClass other) {
+        return Objects.equals(field104, other.field104);
+    }
+
+    public Integer getField105() {
+        return field105;
+    }
+
+    public void setField105(Integer value) {
+        this.field105 = value;
+    }
+
+    public boolean sameField105(BigClass other) {
+        return Objects.equals(field105, other.field105);
+    }
+
+    public Object getField106() {
+        return field106;
+    }
+
+    public void setField106(Object value) {
+        this.field106 = value;
+    }
+
+    public boolean sameField106(BigClass other) {
+        return Objects.equals(field106, other.field106);
+    }
+
+    public long getField107() {
+        return field107;
+    }
+
+    public void setField107(long value) {
+        this.field107 = value;
+    }
+
+    public String getField108() {
+        return field108;
+    }
+
+    public void setField108(String value) {
+        this.field108 = value;
+    }
+
+    public boolean sameField108(BigClass other) {
+        return Objects.equals(field108, other.field108);
+    }
+
+    public Integer getField109() {
+        return field109;
+    }
+
+    public void setField109(Integer value) {
+        this.field109 = value;
+    }
+
+    public boolean sameField109(BigClass other) {
+        return Objects.equals(field109, other.field109);
+    }
+
+    public Object getField110() {
+        return field110;
+    }
+
+    public void setField110(Object value) {
+        this.field110 = value;
+    }
+
+    public boolean sameField110(BigClass other) {
+        return Objects.equals(field110, other.field110);
+    }
+
+    public long getField111() {
+        return field111;
+    }
+
+    public void setField111(long value) {
+        this.field111 = value;
+    }
+
+    public String getField112() {
+        return field112;
+    }
+
+    public void setField112(String value) {
+        this.field112 = value;
+    }
+
+    public boolean sameField112(BigClass other) {
+        return Objects.equals(field112, other.field112);
+    }
+
+    public Integer getField113() {
+        return field113;
+    }
+
+    public void setField113(Integer value) {
+        this.field113 = value;
+    }
+
+    public boolean sameField113(BigClass other) {
+        return Objects.equals(field113, other.field113);
+    }
+
+    public Object getField114() {
+        return field114;
+    }
+
+    public void setField114(Object value) {
+        this.field114 = value;
+    }
+
+    public boolean sameField114(BigClass other) {
+        return Objects.equals(field114, other.field114);
+    }
+
+    public long getField115() {
+        return field115;
+    }
+
+    public void setField115(long value) {
+        this.field115 = value;
+    }
+
+    public String getField116() {
+        return field116;
+    }
+
+    public void setField116(String value) {
+        this.field116 = value;
+    }
+
+    public boolean sameField116(BigClass other) {
+        return Objects.equals(field116, other.field116);
+    }
+
+    public Integer getField117() {
+        return field117;
+    }
+
+    public void setField117(Integer value) {
+        this.field117 = value;
+    }
+
+    public boolean sameField117(BigClass other) {
+        return Objects.equals(field117, other.field117);
+    }
+
+    public Object getField118() {
+        return field118;
+    }
+
+    public void setField118(Object value) {
+        this.field118 = value;
+    }
+
+    public boolean sameField118(BigClass other) {
+        return Objects.equals(field118, other.field118);
+    }
+
+    public long getField119() {
+        return field119;
+    }
+
+    public void setField119(long value) {
+        this.field119 = value;
+    }
+
+    public String getField120() {
+        return field120;
+    }
+
+    public void setField120(String value) {
+        this.field120 = value;
+    }
+
+    public boolean sameField120(BigClass other) {
+        return Objects.equals(field120, other.field120);
+    }
+
+    public Integer getField121() {
+        return field121;
+    }
+
+    public void setField121(Integer value) {
+        this.field121 = value;
+    }
+
+    public boolean sameField121(BigClass other) {
+        return Objects.equals(field121, other.field121);
+    }
+
+    public Object getField122() {
+        return field122;
+    }
+
+    public void setField122(Object value) {
+        this.field122 = value;
+    }
+
+    public boolean sameField122(BigClass other) {
+        return Objects.equals(field122, other.field122);
+    }
+
+    public long getField123() {
+        return field123;
+    }
+
+    public void setField123(long value) {
+        this.field123 = value;
+    }
+
+    public String getField124() {
+        return field124;
+    }
+
+    public void setField124(String value) {
+        this.field124 = value;
+    }
+
+    public boolean sameField124(BigClass other) {
+        return Objects.equals(field124, other.field124);
+    }
+
+    public Integer getField125() {
+        return field125;
+    }
+
+    public void setField125(Integer value) {
+        this.field125 = value;
+    }
+
+    public boolean sameField125(BigClass other) {
+        return Objects.equals(field125, other.field125);
+    }
+
+    public Object getField126() {
+        return field126;
+    }
+
+    public void setField126(Object value) {
+        this.field126 = value;
+    }
+
+    public boolean sameField126(BigClass other) {
+        return Objects.equals(field126, other.field126);
+    }
+
+    public long getField127() {
+        return field127;
+    }
+
+    public void setField127(long value) {
+        this.field127 = value;
+    }
+
+    public String getField128() {
+        return field128;
+    }
+
+    public void setField128(String value) {
+        this.field128 = value;
+    }
+
+    public boolean sameField128(BigClass other) {
+        return Objects.equals(field128, other.field128);
+    }
+
+    public Integer getField129() {
+        return field129;
+    }
+
+    public void setField129(Integer value) {
+        this.field129 = value;
+    }
+
+    public boolean sameField129(BigClass other) {
+        return Objects.equals(field129, other.field129);
+    }
+
+    public Object getField130() {
+        return field130;
+    }
+
+    public void setField130(Object value) {
+        this.field130 = value;
+    }
+
+    public boolean sameField130(BigClass other) {
+        return Objects.equals(field130, other.field130);
+    }
+
+    public long getField131() {
+        return field131;
+    }
+
+    public void setField131(long value) {
+        this.field131 = value;
+    }
+
+    public String getField132() {
+        return field132;
+    }
+
+    public void setField132(String value) {
+        this.field132 = value;
+    }
+
+    public boolean sameField132(BigClass other) {
+        return Objects.equals(field132, other.field132);
+    }
+
+    public Integer getField133() {
+        return field133;
+    }
+
+    public void setField133(Integer value) {
+        this.field133 = value;
+    }
+
+    public boolean sameField133(BigClass other) {
+        return Objects.equals(field133, other.field133);
+    }
+
+    public Object getField134() {
+        return field134;
+    }
+
+    public void setField134(Object value) {
+        this.field134 = value;
+    }
+
+    public boolean sameField134(BigClass other) {
+        return Objects.equals(field134, other.field134);
+    }
+
+    public long getField135() {
+        return field135;
+    }
+
+    public void setField135(long value) {
+        this.field135 = value;
+    }
+
+    public String getField136() {
+        return field136;
+    }
+
+    public void setField136(String value) {
+        this.field136 = value;
+    }
+
+    public boolean sameField136(BigClass other) {
+        return Objects.equals(field136, other.field136);
+    }
+
+    public Integer getField137() {
+        return field137;
+    }
+
+    public void setField137(Integer value) {
+        this.field137 = value;
+    }
+
+    public boolean sameField137(BigClass other) {
+        return Objects.equals(field137, other.field137);
+    }
+
+    public Object getField138() {
+        return field138;
+    }
+
+    public void setField138(Object value) {
+        this.field138 = value;
+    }
+
+    public boolean sameField138(BigClass other) {
+        return Objects.equals(field138, other.field138);
+    }
+
+    public long getField139() {
+        return field139;
+    }
+
+    public void setField139(long value) {
+        this.field139 = value;
+    }
+
+    public String getField140() {
+        return field140;
+    }
+
+    public void setField140(String value) {
+        this.field140 = value;
+    }
+
+    public boolean sameField140(BigClass other) {
+        return Objects.equals(field140, other.field140);
+    }
+
+    public Integer getField141() {
+        return field141;
+    }
+
+    public void setField141(Integer value) {
+        this.field141 = value;
+    }
+
+    public boolean sameField141(BigClass other) {
+        return Objects.equals(field141, other.field141);
+    }
+
+    public Object getField142() {
+        return field142;
+    }
+
+    public void setField142(Object value) {
+        this.field142 = value;
+    }
+
+    public boolean sameField142(BigClass other) {
+        return Objects.equals(field142, other.field142);
+    }
+
+    public long getField143() {
+        return field143;
+    }
+
+    public void setField143(long value) {
+        this.field143 = value;
+    }
+
+    public String getField144() {
+        return field144;
+    }
+
+    public void setField144(String value) {
+        this.field144 = value;
+    }
+
+    public boolean sameField144(BigClass other) {
+        return Objects.equals(field144, other.field144);
+    }
+
+    public Integer getField145() {
+        return field145;
+    }
+
+    public void setField145(Integer value) {
+        this.field145 = value;
+    }
+
+    public boolean sameField145(BigClass other) {
+        return Objects.equals(field145, other.field145);
+    }
+
+    public Object getField146() {
+        return field146;
+    }
+
+    public void setField146(Object value) {
+        this.field146 = value;
+    }
+
+    public boolean sameField146(BigClass other) {
+        return Objects.equals(field146, other.field146);
+    }
+
+    public long getField147() {
+        return field147;
+    }
+
+    public void setField147(long value) {
+        this.field147 = value;
+    }
+
+    public String getField148() {
+        return field148;
+    }
+
+    public void setField148(String value) {
+        this.field148 = value;
+    }
+
+    public boolean sameField148(BigClass other) {
+        return Objects.equals(field148, other.field148);
+    }
+
+    public Integer getField149() {
+        return field149;
+    }
+
+    public void setField149(Integer value) {
+        this.field149 = value;
+    }
+
+    public boolean sameField149(BigClass other) {
+        return Objects.equals(field149, other.field149);
+    }
+
+    public Object getField150() {
+        return field150;
+    }
+
+    public void setField150(Object value) {
+        this.field150 = value;
+    }
+
+    public boolean sameField150(BigClass other) {
+        return Objects.equals(field150, other.field150);
+    }
+
+    public long getField151() {
+        return field151;
+    }
+
+    public void setField151(long value) {
+        this.field151 = value;
+    }
+
+    public String getField152() {
+        return field152;
+    }
+
+    public void setField152(String value) {
+        this.field152 = value;
+    }
+
+    public boolean sameField152(BigClass other) {
+        return Objects.equals(field152, other.field152);
+    }
+
+    public Integer getField153() {
+        return field153;
+    }
+
+    public void setField153(Integer value) {
+        this.field153 = value;
+    }
+
+    public boolean sameField153(BigClass other) {
+        return Objects.equals(field153, other.field153);
+    }
+
+    public Object getField154() {
+        return field154;
+    }
+
+    public void setField154(Object value) {
+        this.field154 = value;
+    }
+
+    public boolean sameField154(BigClass other) {
+        return Objects.equals(field154, other.field154);
+    }
+
+    public long getField155() {
+        return field155;
+    }
+
+    public void setField155(long value) {
+        this.field155 = value;
+    }
+
+    public String getField156() {
+        return field156;
+    }
+
+    public void setField156(String value) {
+        this.field156 = value;
+    }
+
+    public boolean sameField156(BigClass other) {
+        return Objects.equals(field156, other.field156);
+    }
+
+    public Integer getField157() {
+        return field157;
+    }
+
+    public void setField157(Integer value) {
+        this.field157 = value;
+    }
+
+    public boolean sameField157(BigClass other) {
+        return Objects.equals(field157, other.field157);
+    }
+
+    public Object getField158() {
+        return field158;
+    }
+
+    public void setField158(Object value) {
+        this.field158 = value;
+    }
+
+    public boolean sameField158(BigClass other) {
+        return Objects.equals(field158, other.field158);
+    }
+
+    public long getField159() {
+        return field159;
+    }
+
+    public void setField159(long value) {
+        this.field159 = value;
+    }
+
+    public String getField160() {
+        return field160;
+    }
+
+    public void setField160(String value) {
+        this.field160 = value;
+    }
+
+    public boolean sameField160(BigClass other) {
+        return Objects.equals(field160, other.field160);
+    }
+
+    public Integer getField161() {
+        return field161;
+    }
+
+    public void setField161(Integer value) {
+        this.field161 = value;
+    }
+
+    public boolean sameField161(BigClass other) {
+        return Objects.equals(field161, other.field161);
+    }
+
+    public Object getField162() {
+        return field162;
+    }
+
+    public void setField162(Object value) {
+        this.field162 = value;
+    }
+
+    public boolean sameField162(BigClass other) {
+        return Objects.equals(field162, other.field162);
+    }
+
+    public long getField163() {
+        return field163;
+    }
+
+    public void setField163(long value) {
+        this.field163 = value;
+    }
+
+    public String getField164() {
+        return field164;
+    }
+
+    public void setField164(String value) {
+        this.field164 = value;
+    }
+
+    public boolean sameField164(BigClass other) {
+        return Objects.equals(field164, other.field164);
+    }
+
+    public Integer getField165() {
+        return field165;
+    }
+
+    public void setField165(Integer value) {
+        this.field165 = value;
+    }
+
+    public boolean sameField165(BigClass other) {
+        return Objects.equals(field165, other.field165);
+    }
+
+    public Object getField166() {
+        return field166;
+    }
+
+    public void setField166(Object value) {
+        this.field166 = value;
+    }
+
+    public boolean sameField166(BigClass other) {
+        return Objects.equals(field166, other.field166);
+    }
+
+    public long getField167() {
+        return field167;
+    }
+
+    public void setField167(long value) {
+        this.field167 = value;
+    }
+
+    public String getField168() {
+        return field168;
+    }
+
+    public void setField168(String value) {
+        this.field168 = value;
+    }
+
+    public boolean sameField168(BigClass other) {
+        return Objects.equals(field168, other.field168);
+    }
+
+    public Integer getField169() {
+        return field169;
+    }
+
+    public void setField169(Integer value) {
+        this.field169 = value;
+    }
+
+    public boolean sameField169(BigClass other) {
+        return Objects.equals(field169, other.field169);
+    }
+
+    public Object getField170() {
+        return field170;
+    }
+
+    public void setField170(Object value) {
+        this.field170 = value;
+    }
+
+    public boolean sameField170(BigClass other) {
+        return Objects.equals(field170, other.field170);
+    }
+
+    public long getField171() {
+        return field171;
+    }
+
+    public void setField171(long value) {
+        this.field171 = value;
+    }
+
+    public String getField172() {
+        return field172;
+    }
+
+    public void setField172(String value) {
+        this.field172 = value;
+    }
+
+    public boolean sameField172(BigClass other) {
+        return Objects.equals(field172, other.field172);
+    }
+
+    public Integer getField173() {
+        return field173;
+    }
+
+    public void setField173(Integer value) {
+        this.field173 = value;
+    }
+
+    public boolean sameField173(BigClass other) {
+        return Objects.equals(field173, other.field173);
+    }
+
+    public Object getField174() {
+        return field174;
+    }
+
+    public void setField174(Object value) {
+        this.field174 = value;
+    }
+
+    public boolean sameField174(BigClass other) {
+        return Objects.equals(field174, other.field174);
+    }
+
+    public long getField175() {
+        return field175;
+    }
+
+    public void setField175(long value) {
+        this.field175 = value;
+    }
+
+    public String getField176() {
+        return field176;
+    }
+
+    public void setField176(String value) {
+        this.field176 = value;
+    }
+
+    public boolean sameField176(BigClass other) {
+        return Objects.equals(field176, other.field176);
+    }
+
+    public Integer getField177() {
+        return field177;
+    }
+
+    public void setField177(Integer value) {
+        this.field177 = value;
+    }
+
+    public boolean sameField177(BigClass other) {
+        return Objects.equals(field177, other.field177);
+    }
+
+    public Object getField178() {
+        return field178;
+    }
+
+    public void setField178(Object value) {
+        this.field178 = value;
+    }
+
+    public boolean sameField178(BigClass other) {
+        return Objects.equals(field178, other.field178);
+    }
+
+    public long getField179() {
+        return field179;
+    }
+
+    public void setField179(long value) {
+        this.field179 = value;
+    }
+
+    public String getField180() {
+        return field180;
+    }
+
+    public void setField180(String value) {
+        this.field180 = value;
+    }
+
+    public boolean sameField180(BigClass other) {
+        return Objects.equals(field180, other.field180);
+    }
+
+    public Integer getField181() {
+        return field181;
+    }
+
+    public void setField181(Integer value) {
+        this.field181 = value;
+    }
+
+    public boolean sameField181(BigClass other) {
+        return Objects.equals(field181, other.field181);
+    }
+
+    public Object getField182() {
+        return field182;
+    }
+
+    public void setField182(Object value) {
+        this.field182 = value;
+    }
+
+    public boolean sameField182(BigClass other) {
+        return Objects.equals(field182, other.field182);
+    }
+
+    public long getField183() {
+        return field183;
+    }
+
+    public void setField183(long value) {
+        this.field183 = value;
+    }
+
+    public String getField184() {
+        return field184;
+    }
+
+    public void setField184(String value) {
+        this.field184 = value;
+    }
+
+    public boolean sameField184(BigClass other) {
+        return Objects.equals(field184, other.field184);
+    }
+
+    public Integer getField185() {
+        return field185;
+    }
+
+    public void setField185(Integer value) {
+        this.field185 = value;
+    }
+
+    public boolean sameField185(BigClass other) {
+        return Objects.equals(field185, other.field185);
+    }
+
+    public Object getField186() {
+        return field186;
+    }
+
+    public void setField186(Object value) {
+        this.field186 = value;
+    }
+
+    public boolean sameField186(BigClass other) {
+        return Objects.equals(field186, other.field186);
+    }
+
+    public long getField187() {
+        return field187;
+    }
+
+    public void setField187(long value) {
+        this.field187 = value;
+    }
+
+    public String getField188() {
+        return field188;
+    }
+
+    public void setField188(String value) {
+        this.field188 = value;
+    }
+
+    public boolean sameField188(BigClass other) {
+        return Objects.equals(field188, other.field188);
+    }
+
+    public Integer getField189() {
+        return field189;
+    }
+
+    public void setField189(Integer value) {
+        this.field189 = value;
+    }
+
+    public boolean sameField189(BigClass other) {
+        return Objects.equals(field189, other.field189);
+    }
+
+    public Object getField190() {
+        return field190;
+    }
+
+    public void setField190(Object value) {
+        this.field190 = value;
+    }
+
+    public boolean sameField190(BigClass other) {
+        return Objects.equals(field190, other.field190);
+    }
+
+    public long getField191() {
+        return field191;
+    }
+
+    public void setField191(long value) {
+        this.field191 = value;
+    }
+
+    public String getField192() {
+        return field192;
+    }
+
+    public void setField192(String value) {
+        this.field192 = value;
+    }
+
+    public boolean sameField192(BigClass other) {
+        return Objects.equals(field192, other.field192);
+    }
+
+    public Integer getField193() {
+        return field193;
+    }
+
+    public void setField193(Integer value) {
+        this.field193 = value;
+    }
+
+    public boolean sameField193(BigClass other) {
+        return Objects.equals(field193, other.field193);
+    }
+
+    public Object getField194() {
+        return field194;
+    }
+
+    public void setField194(Object value) {
+        this.field194 = value;
+    }
+
+    public boolean sameField194(BigClass other) {
+        return Objects.equals(field194, other.field194);
+    }
+
+    public long getField195() {
+        return field195;
+    }
+
+    public void setField195(long value) {
+        this.field195 = value;
+    }
+
+    public String getField196() {
+        return field196;
+    }
+
+    public void setField196(String value) {
+        this.field196 = value;
+    }
+
+    public boolean sameField196(BigClass other) {
+        return Objects.equals(field196, other.field196);
+    }
+
+    public Integer getField197() {
+        return field197;
+    }
+
+    public void setField197(Integer value) {
+        this.field197 = value;
+    }
+
+    public boolean sameField197(BigClass other) {
+        return Objects.equals(field197, other.field197);
+    }
+
+    public Object getField198() {
+        return field198;
+    }
+
+    public void setField198(Object value) {
+        this.field198 = value;
+    }
+
+    public boolean sameField198(BigClass other) {
+        return Objects.equals(field198, other.field198);
+    }
+
+    public long getField199() {
+        return field199;
+    }
+
+    public void setField199(long value) {
+        this.field199 = value;
+    }
+
+    public String getField200() {
+        return field200;
+    }
+
+    public void setField200(String value) {
+        this.field200 = value;
+    }
+
+    public boolean sameField200(BigClass other) {
+        return Objects.equals(field200, other.field200);
+    }
+
+    public Integer getField201() {
+        return field201;
+    }
+
+    public void setField201(Integer value) {
+        this.field201 = value;
+    }
+
+    public boolean sameField201(BigClass other) {
+        return Objects.equals(field201, other.field201);
+    }
+
+    public Object getField202() {
+        return field202;
+    }
+
+    public void setField202(Object value) {
+        this.field202 = value;
+    }
+
+    public boolean sameField202(BigClass other) {
+        return Objects.equals(field202, other.field202);
+    }
+
+    public long getField203() {
+        return field203;
+    }
+
+    public void setField203(long value) {
+        this.field203 = value;
+    }
+
+    public String getField204() {
+        return field204;
+    }
+
+    public void setField204(String value) {
+        this.field204 = value;
+    }
+
+    public boolean sameField204(BigClass other) {
+        return Objects.equals(field204, other.field204);
+    }
+
+    public Integer getField205() {
+        return field205;
+    }
+
+    public void setField205(Integer value) {
+        this.field205 = value;
+    }
+
+    public boolean sameField205(BigClass other) {
+        return Objects.equals(field205, other.field205);
+    }
+
+    public Object getField206() {
+        return field206;
+    }
+
+    public void setField206(Object value) {
+        this.field206 = value;
+    }
+
+    public boolean sameField206(BigClass other) {
+        return Objects.equals(field206, other.field206);
+    }
+
+    public long getField207() {
+        return field207;
+    }
+
+    public void setField207(long value) {
+        this.field207 = value;
+    }
+
+    public String getField208() {
+        return field208;
+    }
+
+    public void setField208(String value) {
+        this.field208 = value;
+    }
+
+    public boolean sameField208(BigClass other) {
+        return Objects.equals(field208, other.field208);
+    }
+
+    public Integer getField209() {
+        return field209;
+    }
+
+    public void setField209(Integer value) {
+        this.field209 = value;
+    }
+
+    public boolean sameField209(BigClass other) {
+        return Objects.equals(field209, other.field209);
+    }
+
+    public Object getField210() {
+        return field210;
+    }
+
+    public void setField210(Object value) {
+        this.field210 = value;
+    }
+
+    public boolean sameField210(BigClass other) {
+        return Objects.equals(field210, other.field210);
+    }
+
+    public long getField211() {
+        return field211;
+    }
+
+    public void setField211(long value) {
+        this.field211 = value;
+    }
+
+    public String getField212() {
+        return field212;
+    }
+
+    public void setField212(String value) {
+        this.field212 = value;
+    }
+
+    public boolean sameField212(BigClass other) {
+        return Objects.equals(field212, other.field212);
+    }
+
+    public Integer getField213() {
+        return field213;
+    }
+
+    public void setField213(Integer value) {
+        this.field213 = value;
+    }
+
+    public boolean sameField213(BigClass other) {
+        return Objects.equals(field213, other.field213);
+    }
+
+    public Object getField214() {
+        return field214;
+    }
+
+    public void setField214(Object value) {
+        this.field214 = value;
+    }
+
+    public boolean sameField214(BigClass other) {
+        return Objects.equals(field214, other.field214);
+    }
+
+    public long getField215() {
+        return field215;
+    }
+
+    public void setField215(long value) {
+        this.field215 = value;
+    }
+
+    public String getField216() {
+        return field216;
+    }
+
+    public void setField216(String value) {
+        this.field216 = value;
+    }
+
+    public boolean sameField216(BigClass other) {
+        return Objects.equals(field216, other.field216);
+    }
+
+    public Integer getField217() {
+        return field217;
+    }
+
+    public void setField217(Integer value) {
+        this.field217 = value;
+    }
+
+    public boolean sameField217(BigClass other) {
+        return Objects.equals(field217, other.field217);
+    }
+
+    public Object getField218() {
+        return field218;
+    }
+
+    public void setField218(Object value) {
+        this.field218 = value;
+    }
+
+    public boolean sameField218(BigClass other) {
+        return Objects.equals(field218, other.field218);
+    }
+
+    public long getField219() {
+        return field219;
+    }
+
+    public void setField219(long value) {
+        this.field219 = value;
+    }
+
+    public String getField220() {
+        return field220;
+    }
+
+    public void setField220(String value) {
+        this.field220 = value;
+    }
+
+    public boolean sameField220(BigClass other) {
+        return Objects.equals(field220, other.field220);
+    }
+
+    public Integer getField221() {
+        return field221;
+    }
+
+    public void setField221(Integer value) {
+        this.field221 = value;
+    }
+
+    public boolean sameField221(BigClass other) {
+        return Objects.equals(field221, other.field221);
+    }
+
+    public Object getField222() {
+        return field222;
+    }
+
+    public void setField222(Object value) {
+        this.field222 = value;
+    }
+
+    public boolean sameField222(BigClass other) {
+        return Objects.equals(field222, other.field222);
+    }
+
+    public long getField223() {
+        return field223;
+    }
+
+    public void setField223(long value) {
+        this.field223 = value;
+    }
+
+    public String getField224() {
+        return field224;
+    }
+
+    public void setField224(String value) {
+        this.field224 = value;
+    }
+
+    public boolean sameField224(BigClass other) {
+        return Objects.equals(field224, other.field224);
+    }
+
+    public Integer getField225() {
+        return field225;
+    }
+
+    public void setField225(Integer value) {
+        this.field225 = value;
+    }
+
+    public boolean sameField225(BigClass other) {
+        return Objects.equals(field225, other.field225);
+    }
+
+    public Object getField226() {
+        return field226;
+    }
+
+    public void setField226(Object value) {
+        this.field226 = value;
+    }
+
+    public boolean sameField226(BigClass other) {
+        return Objects.equals(field226, other.field226);
+    }
+
+    public long getField227() {
+        return field227;
+    }
+
+    public void setField227(long value) {
+        this.field227 = value;
+    }
+
+    public String getField228() {
+        return field228;
+    }
+
+    public void setField228(String value) {
+        this.field228 = value;
+    }
+
+    public boolean sameField228(BigClass other) {
+        return Objects.equals(field228, other.field228);
+    }
+
+    public Integer getField229() {
+        return field229;
+    }
+
+    public void setField229(Integer value) {
+        this.field229 = value;
+    }
+
+    public boolean sameField229(BigClass other) {
+        return Objects.equals(field229, other.field229);
+    }
+
+    public Object getField230() {
+        return field230;
+    }
+
+    public void setField230(Object value) {
+        this.field230 = value;
+    }
+
+    public boolean sameField230(BigClass other) {
+        return Objects.equals(field230, other.field230);
+    }
+
+    public long getField231() {
+        return field231;
+    }
+
+    public void setField231(long value) {
+        this.field231 = value;
+    }
+
+    public String getField232() {
+        return field232;
+    }
+
+    public void setField232(String value) {
+        this.field232 = value;
+    }
+
+    public boolean sameField232(BigClass other) {
+        return Objects.equals(field232, other.field232);
+    }
+
+    public Integer getField233() {
+        return field233;
+    }
+
+    public void setField233(Integer value) {
+        this.field233 = value;
+    }
+
+    public boolean sameField233(BigClass other) {
+        return Objects.equals(field233, other.field233);
+    }
+
+    public Object getField234() {
+        return field234;
+    }
+
+    public void setField234(Object value) {
+        this.field234 = value;
+    }
+
+    public boolean sameField234(BigClass other) {
+        return Objects.equals(field234, other.field234);
+    }
+
+    public long getField235() {
+        return field235;
+    }
+
+    public void setField235(long value) {
+        this.field235 = value;
+    }
+
+    public String getField236() {
+        return field236;
+    }
+
+    public void setField236(String value) {
+        this.field236 = value;
+    }
+
+    public boolean sameField236(BigClass other) {
+        return Objects.equals(field236, other.field236);
+    }
+
+    public Integer getField237() {
+        return field237;
+    }
+
+    public void setField237(Integer value) {
+        this.field237 = value;
+    }
+
+    public boolean sameField237(BigClass other) {
+        return Objects.equals(field237, other.field237);
+    }
+
+    public Object getField238() {
+        return field238;
+    }
+
+    public void setField238(Object value) {
+        this.field238 = value;
+    }
+
+    public boolean sameField238(BigClass other) {
+        return Objects.equals(field238, other.field238);
+    }
+
+    public long getField239() {
+        return field239;
+    }
+
+    public void setField239(long value) {
+        this.field239 = value;
+    }
+
+    public String getField240() {
+        return field240;
+    }
+
+    public void setField240(String value) {
+        this.field240 = value;
+    }
+
+    public boolean sameField240(BigClass other) {
+        return Objects.equals(field240, other.field240);
+    }
+
+    public Integer getField241() {
+        return field241;
+    }
+
+    public void setField241(Integer value) {
+        this.field241 = value;
+    }
+
+    public boolean sameField241(BigClass other) {
+        return Objects.equals(field241, other.field241);
+    }
+
+    public Object getField242() {
+        return field242;
+    }
+
+    public void setField242(Object value) {
+        this.field242 = value;
+    }
+
+    public boolean sameField242(BigClass other) {
+        return Objects.equals(field242, other.field242);
+    }
+
+    public long getField243() {
+        return field243;
+    }
+
+    public void setField243(long value) {
+        this.field243 = value;
+    }
+
+    public String getField244() {
+        return field244;
+    }
+
+    public void setField244(String value) {
+        this.field244 = value;
+    }
+
+    public boolean sameField244(BigClass other) {
+        return Objects.equals(field244, other.field244);
+    }
+
+    public Integer getField245() {
+        return field245;
+    }
+
+    public void setField245(Integer value) {
+        this.field245 = value;
+    }
+
+    public boolean sameField245(BigClass other) {
+        return Objects.equals(field245, other.field245);
+    }
+
+    public Object getField246() {
+        return field246;
+    }
+
+    public void setField246(Object value) {
+        this.field246 = value;
+    }
+
+    public boolean sameField246(BigClass other) {
+        return Objects.equals(field246, other.field246);
+    }
+
+    public long getField247() {
+        return field247;
+    }
+
+    public void setField247(long value) {
+        this.field247 = value;
+    }
+
+    public String getField248() {
+        return field248;
+    }
+
+    public void setField248(String value) {
+        this.field248 = value;
+    }
+
+    public boolean sameField248(BigClass other) {
+        return Objects.equals(field248, other.field248);
+    }
+
+    public Integer getField249() {
+        return field249;
+    }
+
+    public void setField249(Integer value) {
+        this.field249 = value;
+    }
+
+    public boolean sameField249(BigClass other) {
+        return Objects.equals(field249, other.field249);
+    }
+
+}
@@ -0,0 +1,147 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Benchmark corpus: deeply nested parameterized types, bounded type variables, and calls of
+ * generic methods whose type arguments must be inferred.
+ */
+public class DeepGenerics {
+
+    /** A generic pair. */
+    static class Pair<A, B> {
+        final A first;
+        final B second;
+
+        Pair(A first, B second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        <C> Pair<C, B> withFirst(C newFirst) {
+            return new Pair<>(newFirst, second);
+        }
+
+        <C> Pair<A, C> withSecond(C newSecond) {
+            return new Pair<>(first, newSecond);
+        }
+
+        static <X, Y> Pair<X, Y> of(X x, Y y) {
+            return new Pair<>(x, y);
+        }
+    }
+
+    /** A generic node of a tree. */
+    static class Node<T extends Comparable<T>, N extends Node<T, N>> {
+        T value;
+        List<N> children = new ArrayList<>();
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+
+    static class IntNode extends Node<Integer, IntNode> {
+        IntNode(Integer value) {
+            super(value);
+        }
+    }
+
+    Map<String, List<Map<Integer, Set<List<String>>>>> deep = new HashMap<>();
+
+    HashMap<String, List<Map<Integer, Set<List<String>>>>> deepHashMap = new HashMap<>();
+
+    Map<Pair<String, Integer>, Pair<List<Set<String>>, Map<String, Pair<Integer, Long>>>>
+            deepPairs = new HashMap<>();
+
+    List<? extends Map<? super String, ? extends Collection<? extends List<String>>>> wildcards =
+            new ArrayList<Map<String, Set<List<String>>>>();
+
+    static <T> List<T> singleton(T t) {
+        List<T> result = new ArrayList<>();
+        result.add(t);
+        return result;
+    }
+
+    static <K, V> Map<K, V> mapOf(K k, V v) {
+        Map<K, V> result = new HashMap<>();
+        result.put(k, v);
+        return result;
+    }
+
+    static <T extends Comparable<? super T>> T max(Collection<? extends T> values, T start) {
+        T best = start;
+        for (T value : values) {
+            if (value.compareTo(best) > 0) {
+                best = value;
+            }
+        }
+        return best;
+    }
+
+    static <T, C extends Collection<T>> C addAll(C target, Iterable<? extends T> source) {
+        for (T t : source) {
+            target.add(t);
+        }
+        return target;
+    }
+
+    static <T extends Comparable<T>, N extends Node<T, N>> int size(N node) {
+        int size = 1;
+        for (N child : node.children) {
+            size += size(child);
+        }
+        return size;
+    }
+
+    void fill() {
+        Set<List<String>> set = new HashSet<>();
+        set.add(singleton("a"));
+        Map<Integer, Set<List<String>>> inner = mapOf(1, set);
+        List<Map<Integer, Set<List<String>>>> list = singleton(inner);
+        deep.put("key", list);
+        deepHashMap.put("key", singleton(mapOf(2, Collections.singleton(singleton("b")))));
+
+        Pair<String, Integer> key = Pair.of("k", 1);
+        Pair<Integer, Long> leaf = Pair.of(1, 2L);
+        Map<String, Pair<Integer, Long>> leaves = mapOf("leaf", leaf);
+        Pair<List<Set<String>>, Map<String, Pair<Integer, Long>>> value =
+                Pair.of(singleton(Collections.singleton("s")), leaves);
+        deepPairs.put(key, value);
+        deepPairs.put(key.withFirst("other"), value.withFirst(singleton(new HashSet<String>())));
+        Pair<String, String> both = key.withSecond("two").withFirst("one");
+
+        Integer largest = max(singleton(3), 0);
+        String longest = max(addAll(new ArrayList<String>(), singleton(both.first)), "");
+        List<Integer> numbers = addAll(new ArrayList<Integer>(), singleton(largest));
+        numbers.add(longest.length());
+
+        IntNode root = new IntNode(0);
+        root.children.add(new IntNode(1));
+        root.children.get(0).children.add(new IntNode(2));
+        numbers.add(DeepGenerics.<Integer, IntNode>size(root));
+    }
+
+    <K extends Comparable<K>, V extends List<? extends K>> Map<K, List<V>> group(
+            Collection<V> values) {
+        Map<K, List<V>> result = new HashMap<>();
+        for (V value : values) {
+            if (value.isEmpty()) {
+                continue;
+            }
+            K key = max(value, value.get(0));
+            List<V> group = result.get(key);
+            if (group == null) {
+                group = new ArrayList<>();
+                result.put(key, group);
+            }
+            group.add(value);
+        }
+        return result;
+    }
+}
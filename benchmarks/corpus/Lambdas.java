@@ -0,0 +1,134 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark corpus: stream pipelines, Optional chains, and nested lambdas, in which nearly every
+ * call is a call of a generic method.
+ */
+public class Lambdas {
+
+    static class Person {
+        final String name;
+        final int age;
+        final List<String> emails;
+
+        Person(String name, int age, List<String> emails) {
+            this.name = name;
+            this.age = age;
+            this.emails = emails;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        int getAge() {
+            return age;
+        }
+
+        List<String> getEmails() {
+            return emails;
+        }
+    }
+
+    final List<Person> people = new ArrayList<>();
+
+    List<String> namesOfAdults() {
+        return people.stream()
+                .filter(p -> p.getAge() >= 18)
+                .map(Person::getName)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    Map<Integer, List<String>> namesByAge() {
+        return people.stream()
+                .collect(
+                        Collectors.groupingBy(
+                                Person::getAge,
+                                Collectors.mapping(Person::getName, Collectors.toList())));
+    }
+
+    Optional<String> firstEmail(String name) {
+        return people.stream()
+                .filter(p -> p.getName().equals(name))
+                .findFirst()
+                .map(Person::getEmails)
+                .filter(emails -> !emails.isEmpty())
+                .map(emails -> emails.get(0))
+                .map(String::trim);
+    }
+
+    String emailOrDefault(String name) {
+        return firstEmail(name).map(e -> e.toLowerCase()).orElseGet(() -> name + "@example.org");
+    }
+
+    List<String> allEmails() {
+        return people.stream()
+                .flatMap(p -> p.getEmails().stream())
+                .distinct()
+                .sorted(Comparator.comparing(String::length).thenComparing(Function.identity()))
+                .collect(Collectors.toList());
+    }
+
+    Optional<Person> oldest() {
+        return people.stream().max(Comparator.comparingInt(Person::getAge));
+    }
+
+    int totalAge() {
+        return people.stream().mapToInt(Person::getAge).sum();
+    }
+
+    List<Integer> squares(int n) {
+        return IntStream.range(0, n).map(i -> i * i).boxed().collect(Collectors.toList());
+    }
+
+    <T, R> List<R> mapAll(List<T> values, Function<? super T, ? extends R> f) {
+        return values.stream().map(f).collect(Collectors.toList());
+    }
+
+    <T> Predicate<T> and(List<Predicate<T>> predicates) {
+        return predicates.stream().reduce(x -> true, Predicate::and);
+    }
+
+    Function<Integer, Function<Integer, Function<Integer, Integer>>> curried() {
+        return a -> b -> c -> a * b + c;
+    }
+
+    BiFunction<String, Integer, Optional<String>> repeater() {
+        return (s, n) ->
+                Optional.ofNullable(s)
+                        .filter(x -> n > 0)
+                        .map(
+                                x ->
+                                        Stream.generate(() -> x)
+                                                .limit(n)
+                                                .collect(Collectors.joining(",")));
+    }
+
+    Supplier<List<String>> lazyNames() {
+        return () -> mapAll(people, Person::getName);
+    }
+
+    List<String> pipeline(List<String> input) {
+        Predicate<String> notEmpty = s -> !s.isEmpty();
+        Predicate<String> shortish = s -> s.length() < 20;
+        return input.stream()
+                .map(String::trim)
+                .filter(and(java.util.Arrays.asList(notEmpty, shortish)))
+                .map(s -> curried().apply(s.length()).apply(2).apply(3))
+                .map(i -> repeater().apply("x", i % 4).orElse(""))
+                .filter(notEmpty)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,2551 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Benchmark corpus: long straight-line and branchy methods with many locals, as found in generated
+ * serializers and parsers.
+ */
+public class LargeMethods {
+    private String name = "";
+    private int count;
+    private final Map<String, String> values = new HashMap<>();
+    private final List<String> items = new ArrayList<>();
+
+    public int method0(String input, int seed) {
+        int acc = seed;
+        String text = input;
+        String s0 = text + "0";
+        values.put(s0, text);
+        String s1 = text + "1";
+        values.put(s1, text);
+        for (int j2 = 0; j2 < 3; j2++) {
+            acc += j2;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("3");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("4");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        items.add(text.trim());
+        if (acc % 4 == 0) {
+            text = values.get("7");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s8 = text + "8";
+        values.put(s8, text);
+        for (int j9 = 0; j9 < 2; j9++) {
+            acc += j9;
+        }
+        if (acc % 2 == 0) {
+            text = values.get("10");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e12) {
+            acc--;
+        }
+        for (int j13 = 0; j13 < 2; j13++) {
+            acc += j13;
+        }
+        items.add(text.trim());
+        for (int j15 = 0; j15 < 4; j15++) {
+            acc += j15;
+        }
+        if (acc % 3 == 0) {
+            text = values.get("16");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s17 = text + "17";
+        values.put(s17, text);
+        String s18 = text + "18";
+        values.put(s18, text);
+        items.add(text.trim());
+        int v20 = acc * 8 + text.length();
+        acc = acc + v20;
+        int v21 = acc * 9 + text.length();
+        acc = acc + v21;
+        int v22 = acc * 10 + text.length();
+        acc = acc + v22;
+        int v23 = acc * 11 + text.length();
+        acc = acc + v23;
+        for (int j24 = 0; j24 < 1; j24++) {
+            acc += j24;
+        }
+        String s25 = text + "25";
+        values.put(s25, text);
+        name = text.isEmpty() ? name : text.substring(0);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e27) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e28) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e29) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e30) {
+            acc--;
+        }
+        for (int j31 = 0; j31 < 4; j31++) {
+            acc += j31;
+        }
+        int v32 = acc * 7 + text.length();
+        acc = acc + v32;
+        items.add(text.trim());
+        for (int j34 = 0; j34 < 3; j34++) {
+            acc += j34;
+        }
+        for (int j35 = 0; j35 < 4; j35++) {
+            acc += j35;
+        }
+        items.add(text.trim());
+        if (acc % 4 == 0) {
+            text = values.get("37");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j38 = 0; j38 < 3; j38++) {
+            acc += j38;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        items.add(text.trim());
+        int v41 = acc * 3 + text.length();
+        acc = acc + v41;
+        if (acc % 4 == 0) {
+            text = values.get("42");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j43 = 0; j43 < 4; j43++) {
+            acc += j43;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("44");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        for (int j46 = 0; j46 < 3; j46++) {
+            acc += j46;
+        }
+        items.add(text.trim());
+        items.add(text.trim());
+        if (acc % 6 == 0) {
+            text = values.get("49");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e50) {
+            acc--;
+        }
+        String s51 = text + "51";
+        values.put(s51, text);
+        String s52 = text + "52";
+        values.put(s52, text);
+        for (int j53 = 0; j53 < 2; j53++) {
+            acc += j53;
+        }
+        String s54 = text + "54";
+        values.put(s54, text);
+        if (acc % 2 == 0) {
+            text = values.get("55");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        items.add(text.trim());
+        String s58 = text + "58";
+        values.put(s58, text);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e59) {
+            acc--;
+        }
+        int v60 = acc * 9 + text.length();
+        acc = acc + v60;
+        for (int j61 = 0; j61 < 2; j61++) {
+            acc += j61;
+        }
+        items.add(text.trim());
+        if (acc % 5 == 0) {
+            text = values.get("63");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("64");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e65) {
+            acc--;
+        }
+        int v66 = acc * 2 + text.length();
+        acc = acc + v66;
+        items.add(text.trim());
+        int v68 = acc * 4 + text.length();
+        acc = acc + v68;
+        items.add(text.trim());
+        for (int j70 = 0; j70 < 3; j70++) {
+            acc += j70;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        items.add(text.trim());
+        if (acc % 5 == 0) {
+            text = values.get("73");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("74");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s75 = text + "75";
+        values.put(s75, text);
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e77) {
+            acc--;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        String s79 = text + "79";
+        values.put(s79, text);
+        for (int j80 = 0; j80 < 1; j80++) {
+            acc += j80;
+        }
+        items.add(text.trim());
+        if (acc % 4 == 0) {
+            text = values.get("82");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        int v83 = acc * 6 + text.length();
+        acc = acc + v83;
+        if (acc % 6 == 0) {
+            text = values.get("84");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e85) {
+            acc--;
+        }
+        if (acc % 3 == 0) {
+            text = values.get("86");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j87 = 0; j87 < 4; j87++) {
+            acc += j87;
+        }
+        int v88 = acc * 11 + text.length();
+        acc = acc + v88;
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e89) {
+            acc--;
+        }
+        if (acc % 2 == 0) {
+            text = values.get("90");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e91) {
+            acc--;
+        }
+        for (int j92 = 0; j92 < 1; j92++) {
+            acc += j92;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("93");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v95 = acc * 5 + text.length();
+        acc = acc + v95;
+        items.add(text.trim());
+        if (acc % 4 == 0) {
+            text = values.get("97");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("98");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e101) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e102) {
+            acc--;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v104 = acc * 1 + text.length();
+        acc = acc + v104;
+        for (int j105 = 0; j105 < 2; j105++) {
+            acc += j105;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        for (int j107 = 0; j107 < 4; j107++) {
+            acc += j107;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e108) {
+            acc--;
+        }
+        int v109 = acc * 6 + text.length();
+        acc = acc + v109;
+        name = text.isEmpty() ? name : text.substring(0);
+        for (int j111 = 0; j111 < 4; j111++) {
+            acc += j111;
+        }
+        String s112 = text + "112";
+        values.put(s112, text);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e113) {
+            acc--;
+        }
+        String s114 = text + "114";
+        values.put(s114, text);
+        if (acc % 2 == 0) {
+            text = values.get("115");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e117) {
+            acc--;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("118");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("119");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e120) {
+            acc--;
+        }
+        String s121 = text + "121";
+        values.put(s121, text);
+        items.add(text.trim());
+        for (int j123 = 0; j123 < 4; j123++) {
+            acc += j123;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 2 == 0) {
+            text = values.get("125");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        int v127 = acc * 11 + text.length();
+        acc = acc + v127;
+        name = text.isEmpty() ? name : text.substring(0);
+        for (int j129 = 0; j129 < 2; j129++) {
+            acc += j129;
+        }
+        String s130 = text + "130";
+        values.put(s130, text);
+        if (acc % 3 == 0) {
+            text = values.get("131");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s132 = text + "132";
+        values.put(s132, text);
+        int v133 = acc * 4 + text.length();
+        acc = acc + v133;
+        if (acc % 6 == 0) {
+            text = values.get("134");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e135) {
+            acc--;
+        }
+        if (acc % 3 == 0) {
+            text = values.get("136");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j137 = 0; j137 < 2; j137++) {
+            acc += j137;
+        }
+        int v138 = acc * 9 + text.length();
+        acc = acc + v138;
+        for (int j139 = 0; j139 < 4; j139++) {
+            acc += j139;
+        }
+        if (acc % 2 == 0) {
+            text = values.get("140");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 5 == 0) {
+            text = values.get("143");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e145) {
+            acc--;
+        }
+        items.add(text.trim());
+        String s147 = text + "147";
+        values.put(s147, text);
+        int v148 = acc * 6 + text.length();
+        acc = acc + v148;
+        items.add(text.trim());
+        name = text.isEmpty() ? name : text.substring(0);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e151) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e152) {
+            acc--;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        for (int j154 = 0; j154 < 3; j154++) {
+            acc += j154;
+        }
+        String s155 = text + "155";
+        values.put(s155, text);
+        name = text.isEmpty() ? name : text.substring(0);
+        for (int j157 = 0; j157 < 2; j157++) {
+            acc += j157;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e158) {
+            acc--;
+        }
+        items.add(text.trim());
+        for (int j160 = 0; j160 < 1; j160++) {
+            acc += j160;
+        }
+        for (int j161 = 0; j161 < 2; j161++) {
+            acc += j161;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v163 = acc * 8 + text.length();
+        acc = acc + v163;
+        if (acc % 6 == 0) {
+            text = values.get("164");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s165 = text + "165";
+        values.put(s165, text);
+        String s166 = text + "166";
+        values.put(s166, text);
+        name = text.isEmpty() ? name : text.substring(0);
+        String s168 = text + "168";
+        values.put(s168, text);
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e170) {
+            acc--;
+        }
+        String s171 = text + "171";
+        values.put(s171, text);
+        items.add(text.trim());
+        items.add(text.trim());
+        for (int j174 = 0; j174 < 3; j174++) {
+            acc += j174;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e175) {
+            acc--;
+        }
+        int v176 = acc * 8 + text.length();
+        acc = acc + v176;
+        int v177 = acc * 9 + text.length();
+        acc = acc + v177;
+        for (int j178 = 0; j178 < 3; j178++) {
+            acc += j178;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("179");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        int v180 = acc * 12 + text.length();
+        acc = acc + v180;
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e181) {
+            acc--;
+        }
+        items.add(text.trim());
+        String s183 = text + "183";
+        values.put(s183, text);
+        int v184 = acc * 3 + text.length();
+        acc = acc + v184;
+        String s185 = text + "185";
+        values.put(s185, text);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e186) {
+            acc--;
+        }
+        if (acc % 4 == 0) {
+            text = values.get("187");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("188");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("189");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e190) {
+            acc--;
+        }
+        String s191 = text + "191";
+        values.put(s191, text);
+        items.add(text.trim());
+        int v193 = acc * 12 + text.length();
+        acc = acc + v193;
+        if (acc % 6 == 0) {
+            text = values.get("194");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        int v195 = acc * 1 + text.length();
+        acc = acc + v195;
+        for (int j196 = 0; j196 < 1; j196++) {
+            acc += j196;
+        }
+        items.add(text.trim());
+        items.add(text.trim());
+        if (acc % 6 == 0) {
+            text = values.get("199");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        String s201 = text + "201";
+        values.put(s201, text);
+        int v202 = acc * 8 + text.length();
+        acc = acc + v202;
+        if (acc % 5 == 0) {
+            text = values.get("203");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e205) {
+            acc--;
+        }
+        int v206 = acc * 12 + text.length();
+        acc = acc + v206;
+        items.add(text.trim());
+        if (acc % 5 == 0) {
+            text = values.get("208");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        items.add(text.trim());
+        name = text.isEmpty() ? name : text.substring(0);
+        name = text.isEmpty() ? name : text.substring(0);
+        String s213 = text + "213";
+        values.put(s213, text);
+        String s214 = text + "214";
+        values.put(s214, text);
+        int v215 = acc * 8 + text.length();
+        acc = acc + v215;
+        if (acc % 3 == 0) {
+            text = values.get("216");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j217 = 0; j217 < 2; j217++) {
+            acc += j217;
+        }
+        items.add(text.trim());
+        int v219 = acc * 12 + text.length();
+        acc = acc + v219;
+        for (int j220 = 0; j220 < 1; j220++) {
+            acc += j220;
+        }
+        int v221 = acc * 1 + text.length();
+        acc = acc + v221;
+        if (acc % 4 == 0) {
+            text = values.get("222");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("223");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j224 = 0; j224 < 1; j224++) {
+            acc += j224;
+        }
+        for (int j225 = 0; j225 < 2; j225++) {
+            acc += j225;
+        }
+        for (int j226 = 0; j226 < 3; j226++) {
+            acc += j226;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e227) {
+            acc--;
+        }
+        String s228 = text + "228";
+        values.put(s228, text);
+        if (acc % 6 == 0) {
+            text = values.get("229");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s230 = text + "230";
+        values.put(s230, text);
+        String s231 = text + "231";
+        values.put(s231, text);
+        int v232 = acc * 12 + text.length();
+        acc = acc + v232;
+        for (int j233 = 0; j233 < 2; j233++) {
+            acc += j233;
+        }
+        items.add(text.trim());
+        for (int j235 = 0; j235 < 4; j235++) {
+            acc += j235;
+        }
+        String s236 = text + "236";
+        values.put(s236, text);
+        String s237 = text + "237";
+        values.put(s237, text);
+        name = text.isEmpty() ? name : text.substring(0);
+        int v239 = acc * 6 + text.length();
+        acc = acc + v239;
+        int v240 = acc * 7 + text.length();
+        acc = acc + v240;
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 4 == 0) {
+            text = values.get("242");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s243 = text + "243";
+        values.put(s243, text);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e244) {
+            acc--;
+        }
+        items.add(text.trim());
+        String s246 = text + "246";
+        values.put(s246, text);
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e248) {
+            acc--;
+        }
+        int v249 = acc * 3 + text.length();
+        acc = acc + v249;
+        int v250 = acc * 4 + text.length();
+        acc = acc + v250;
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 4 == 0) {
+            text = values.get("252");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 2 == 0) {
+            text = values.get("255");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s256 = text + "256";
+        values.put(s256, text);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e257) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e258) {
+            acc--;
+        }
+        for (int j259 = 0; j259 < 4; j259++) {
+            acc += j259;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v261 = acc * 2 + text.length();
+        acc = acc + v261;
+        String s262 = text + "262";
+        values.put(s262, text);
+        if (acc % 5 == 0) {
+            text = values.get("263");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 3 == 0) {
+            text = values.get("266");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 5 == 0) {
+            text = values.get("268");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e269) {
+            acc--;
+        }
+        for (int j270 = 0; j270 < 3; j270++) {
+            acc += j270;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e271) {
+            acc--;
+        }
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e273) {
+            acc--;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 2 == 0) {
+            text = values.get("275");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s276 = text + "276";
+        values.put(s276, text);
+        if (acc % 4 == 0) {
+            text = values.get("277");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e279) {
+            acc--;
+        }
+        String s280 = text + "280";
+        values.put(s280, text);
+        int v281 = acc * 9 + text.length();
+        acc = acc + v281;
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e282) {
+            acc--;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v284 = acc * 12 + text.length();
+        acc = acc + v284;
+        name = text.isEmpty() ? name : text.substring(0);
+        int v286 = acc * 1 + text.length();
+        acc = acc + v286;
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e288) {
+            acc--;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("289");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s290 = text + "290";
+        values.put(s290, text);
+        for (int j291 = 0; j291 < 4; j291++) {
+            acc += j291;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e292) {
+            acc--;
+        }
+        for (int j293 = 0; j293 < 2; j293++) {
+            acc += j293;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e294) {
+            acc--;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        String s296 = text + "296";
+        values.put(s296, text);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e297) {
+            acc--;
+        }
+        for (int j298 = 0; j298 < 3; j298++) {
+            acc += j298;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("299");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        if (acc % 3 == 0) {
+            text = values.get("301");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j302 = 0; j302 < 3; j302++) {
+            acc += j302;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("303");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s304 = text + "304";
+        values.put(s304, text);
+        String s305 = text + "305";
+        values.put(s305, text);
+        String s306 = text + "306";
+        values.put(s306, text);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e307) {
+            acc--;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("308");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("309");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e312) {
+            acc--;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        for (int j314 = 0; j314 < 3; j314++) {
+            acc += j314;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v316 = acc * 5 + text.length();
+        acc = acc + v316;
+        name = text.isEmpty() ? name : text.substring(0);
+        String s318 = text + "318";
+        values.put(s318, text);
+        name = text.isEmpty() ? name : text.substring(0);
+        items.add(text.trim());
+        for (int j321 = 0; j321 < 2; j321++) {
+            acc += j321;
+        }
+        String s322 = text + "322";
+        values.put(s322, text);
+        if (acc % 5 == 0) {
+            text = values.get("323");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e324) {
+            acc--;
+        }
+        if (acc % 2 == 0) {
+            text = values.get("325");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j326 = 0; j326 < 3; j326++) {
+            acc += j326;
+        }
+        int v327 = acc * 3 + text.length();
+        acc = acc + v327;
+        for (int j328 = 0; j328 < 1; j328++) {
+            acc += j328;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("329");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        for (int j331 = 0; j331 < 4; j331++) {
+            acc += j331;
+        }
+        int v332 = acc * 8 + text.length();
+        acc = acc + v332;
+        for (int j333 = 0; j333 < 2; j333++) {
+            acc += j333;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 2 == 0) {
+            text = values.get("335");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j336 = 0; j336 < 1; j336++) {
+            acc += j336;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e337) {
+            acc--;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("338");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("339");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s340 = text + "340";
+        values.put(s340, text);
+        name = text.isEmpty() ? name : text.substring(0);
+        for (int j342 = 0; j342 < 3; j342++) {
+            acc += j342;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("343");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e344) {
+            acc--;
+        }
+        for (int j345 = 0; j345 < 2; j345++) {
+            acc += j345;
+        }
+        if (acc % 3 == 0) {
+            text = values.get("346");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 4 == 0) {
+            text = values.get("347");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j348 = 0; j348 < 1; j348++) {
+            acc += j348;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v350 = acc * 13 + text.length();
+        acc = acc + v350;
+        name = text.isEmpty() ? name : text.substring(0);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e352) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e353) {
+            acc--;
+        }
+        int v354 = acc * 4 + text.length();
+        acc = acc + v354;
+        int v355 = acc * 5 + text.length();
+        acc = acc + v355;
+        name = text.isEmpty() ? name : text.substring(0);
+        name = text.isEmpty() ? name : text.substring(0);
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e359) {
+            acc--;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 3 == 0) {
+            text = values.get("361");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 4 == 0) {
+            text = values.get("362");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v364 = acc * 1 + text.length();
+        acc = acc + v364;
+        int v365 = acc * 2 + text.length();
+        acc = acc + v365;
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e366) {
+            acc--;
+        }
+        items.add(text.trim());
+        for (int j368 = 0; j368 < 1; j368++) {
+            acc += j368;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        String s370 = text + "370";
+        values.put(s370, text);
+        for (int j371 = 0; j371 < 4; j371++) {
+            acc += j371;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e372) {
+            acc--;
+        }
+        int v373 = acc * 10 + text.length();
+        acc = acc + v373;
+        if (acc % 6 == 0) {
+            text = values.get("374");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 2 == 0) {
+            text = values.get("375");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s376 = text + "376";
+        values.put(s376, text);
+        String s377 = text + "377";
+        values.put(s377, text);
+        items.add(text.trim());
+        for (int j379 = 0; j379 < 4; j379++) {
+            acc += j379;
+        }
+        for (int j380 = 0; j380 < 1; j380++) {
+            acc += j380;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e381) {
+            acc--;
+        }
+        String s382 = text + "382";
+        values.put(s382, text);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e383) {
+            acc--;
+        }
+        for (int j384 = 0; j384 < 1; j384++) {
+            acc += j384;
+        }
+        String s385 = text + "385";
+        values.put(s385, text);
+        int v386 = acc * 10 + text.length();
+        acc = acc + v386;
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 5 == 0) {
+            text = values.get("388");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        int v389 = acc * 13 + text.length();
+        acc = acc + v389;
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e390) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e391) {
+            acc--;
+        }
+        for (int j392 = 0; j392 < 1; j392++) {
+            acc += j392;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("393");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s394 = text + "394";
+        values.put(s394, text);
+        for (int j395 = 0; j395 < 4; j395++) {
+            acc += j395;
+        }
+        int v396 = acc * 7 + text.length();
+        acc = acc + v396;
+        int v397 = acc * 8 + text.length();
+        acc = acc + v397;
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e398) {
+            acc--;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("399");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        return acc + count + items.size();
+    }
+
+    public int method1(String input, int seed) {
+        int acc = seed;
+        String text = input;
+        items.add(text.trim());
+        for (int j1 = 0; j1 < 2; j1++) {
+            acc += j1;
+        }
+        if (acc % 4 == 0) {
+            text = values.get("2");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e4) {
+            acc--;
+        }
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e6) {
+            acc--;
+        }
+        String s7 = text + "7";
+        values.put(s7, text);
+        int v8 = acc * 9 + text.length();
+        acc = acc + v8;
+        String s9 = text + "9";
+        values.put(s9, text);
+        items.add(text.trim());
+        if (acc % 3 == 0) {
+            text = values.get("11");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j12 = 0; j12 < 1; j12++) {
+            acc += j12;
+        }
+        String s13 = text + "13";
+        values.put(s13, text);
+        String s14 = text + "14";
+        values.put(s14, text);
+        if (acc % 2 == 0) {
+            text = values.get("15");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        int v16 = acc * 4 + text.length();
+        acc = acc + v16;
+        name = text.isEmpty() ? name : text.substring(0);
+        for (int j18 = 0; j18 < 3; j18++) {
+            acc += j18;
+        }
+        String s19 = text + "19";
+        values.put(s19, text);
+        for (int j20 = 0; j20 < 1; j20++) {
+            acc += j20;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v22 = acc * 10 + text.length();
+        acc = acc + v22;
+        if (acc % 5 == 0) {
+            text = values.get("23");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("24");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e25) {
+            acc--;
+        }
+        for (int j26 = 0; j26 < 3; j26++) {
+            acc += j26;
+        }
+        String s27 = text + "27";
+        values.put(s27, text);
+        for (int j28 = 0; j28 < 1; j28++) {
+            acc += j28;
+        }
+        items.add(text.trim());
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e31) {
+            acc--;
+        }
+        String s32 = text + "32";
+        values.put(s32, text);
+        int v33 = acc * 8 + text.length();
+        acc = acc + v33;
+        if (acc % 6 == 0) {
+            text = values.get("34");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v36 = acc * 11 + text.length();
+        acc = acc + v36;
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e37) {
+            acc--;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("38");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        int v39 = acc * 1 + text.length();
+        acc = acc + v39;
+        if (acc % 2 == 0) {
+            text = values.get("40");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        int v41 = acc * 3 + text.length();
+        acc = acc + v41;
+        items.add(text.trim());
+        items.add(text.trim());
+        int v44 = acc * 6 + text.length();
+        acc = acc + v44;
+        items.add(text.trim());
+        String s46 = text + "46";
+        values.put(s46, text);
+        String s47 = text + "47";
+        values.put(s47, text);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e48) {
+            acc--;
+        }
+        for (int j49 = 0; j49 < 2; j49++) {
+            acc += j49;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 3 == 0) {
+            text = values.get("51");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        for (int j53 = 0; j53 < 2; j53++) {
+            acc += j53;
+        }
+        int v54 = acc * 3 + text.length();
+        acc = acc + v54;
+        name = text.isEmpty() ? name : text.substring(0);
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e57) {
+            acc--;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("58");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e59) {
+            acc--;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 3 == 0) {
+            text = values.get("61");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s62 = text + "62";
+        values.put(s62, text);
+        String s63 = text + "63";
+        values.put(s63, text);
+        if (acc % 6 == 0) {
+            text = values.get("64");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e65) {
+            acc--;
+        }
+        items.add(text.trim());
+        for (int j67 = 0; j67 < 4; j67++) {
+            acc += j67;
+        }
+        String s68 = text + "68";
+        values.put(s68, text);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e69) {
+            acc--;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v71 = acc * 7 + text.length();
+        acc = acc + v71;
+        name = text.isEmpty() ? name : text.substring(0);
+        items.add(text.trim());
+        items.add(text.trim());
+        items.add(text.trim());
+        for (int j76 = 0; j76 < 1; j76++) {
+            acc += j76;
+        }
+        items.add(text.trim());
+        for (int j78 = 0; j78 < 3; j78++) {
+            acc += j78;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e79) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e80) {
+            acc--;
+        }
+        String s81 = text + "81";
+        values.put(s81, text);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e82) {
+            acc--;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("83");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("84");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 2 == 0) {
+            text = values.get("85");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e86) {
+            acc--;
+        }
+        int v87 = acc * 10 + text.length();
+        acc = acc + v87;
+        int v88 = acc * 11 + text.length();
+        acc = acc + v88;
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e89) {
+            acc--;
+        }
+        int v90 = acc * 13 + text.length();
+        acc = acc + v90;
+        for (int j91 = 0; j91 < 4; j91++) {
+            acc += j91;
+        }
+        int v92 = acc * 2 + text.length();
+        acc = acc + v92;
+        int v93 = acc * 3 + text.length();
+        acc = acc + v93;
+        items.add(text.trim());
+        String s95 = text + "95";
+        values.put(s95, text);
+        if (acc % 3 == 0) {
+            text = values.get("96");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j97 = 0; j97 < 2; j97++) {
+            acc += j97;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 6 == 0) {
+            text = values.get("99");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s100 = text + "100";
+        values.put(s100, text);
+        String s101 = text + "101";
+        values.put(s101, text);
+        name = text.isEmpty() ? name : text.substring(0);
+        items.add(text.trim());
+        name = text.isEmpty() ? name : text.substring(0);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e105) {
+            acc--;
+        }
+        items.add(text.trim());
+        items.add(text.trim());
+        name = text.isEmpty() ? name : text.substring(0);
+        for (int j109 = 0; j109 < 2; j109++) {
+            acc += j109;
+        }
+        items.add(text.trim());
+        int v111 = acc * 8 + text.length();
+        acc = acc + v111;
+        String s112 = text + "112";
+        values.put(s112, text);
+        String s113 = text + "113";
+        values.put(s113, text);
+        name = text.isEmpty() ? name : text.substring(0);
+        items.add(text.trim());
+        String s116 = text + "116";
+        values.put(s116, text);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e117) {
+            acc--;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        for (int j119 = 0; j119 < 4; j119++) {
+            acc += j119;
+        }
+        items.add(text.trim());
+        if (acc % 3 == 0) {
+            text = values.get("121");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        for (int j123 = 0; j123 < 4; j123++) {
+            acc += j123;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 2 == 0) {
+            text = values.get("125");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        int v126 = acc * 10 + text.length();
+        acc = acc + v126;
+        items.add(text.trim());
+        for (int j128 = 0; j128 < 1; j128++) {
+            acc += j128;
+        }
+        for (int j129 = 0; j129 < 2; j129++) {
+            acc += j129;
+        }
+        for (int j130 = 0; j130 < 3; j130++) {
+            acc += j130;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 4 == 0) {
+            text = values.get("132");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        int v133 = acc * 4 + text.length();
+        acc = acc + v133;
+        String s134 = text + "134";
+        values.put(s134, text);
+        int v135 = acc * 6 + text.length();
+        acc = acc + v135;
+        int v136 = acc * 7 + text.length();
+        acc = acc + v136;
+        name = text.isEmpty() ? name : text.substring(0);
+        int v138 = acc * 9 + text.length();
+        acc = acc + v138;
+        if (acc % 6 == 0) {
+            text = values.get("139");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        items.add(text.trim());
+        name = text.isEmpty() ? name : text.substring(0);
+        items.add(text.trim());
+        int v144 = acc * 2 + text.length();
+        acc = acc + v144;
+        String s145 = text + "145";
+        values.put(s145, text);
+        if (acc % 3 == 0) {
+            text = values.get("146");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s147 = text + "147";
+        values.put(s147, text);
+        String s148 = text + "148";
+        values.put(s148, text);
+        int v149 = acc * 7 + text.length();
+        acc = acc + v149;
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e150) {
+            acc--;
+        }
+        int v151 = acc * 9 + text.length();
+        acc = acc + v151;
+        name = text.isEmpty() ? name : text.substring(0);
+        String s153 = text + "153";
+        values.put(s153, text);
+        for (int j154 = 0; j154 < 3; j154++) {
+            acc += j154;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        name = text.isEmpty() ? name : text.substring(0);
+        name = text.isEmpty() ? name : text.substring(0);
+        for (int j158 = 0; j158 < 3; j158++) {
+            acc += j158;
+        }
+        int v159 = acc * 4 + text.length();
+        acc = acc + v159;
+        int v160 = acc * 5 + text.length();
+        acc = acc + v160;
+        int v161 = acc * 6 + text.length();
+        acc = acc + v161;
+        String s162 = text + "162";
+        values.put(s162, text);
+        int v163 = acc * 8 + text.length();
+        acc = acc + v163;
+        int v164 = acc * 9 + text.length();
+        acc = acc + v164;
+        String s165 = text + "165";
+        values.put(s165, text);
+        String s166 = text + "166";
+        values.put(s166, text);
+        if (acc % 4 == 0) {
+            text = values.get("167");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s168 = text + "168";
+        values.put(s168, text);
+        items.add(text.trim());
+        name = text.isEmpty() ? name : text.substring(0);
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e172) {
+            acc--;
+        }
+        String s173 = text + "173";
+        values.put(s173, text);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e174) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e175) {
+            acc--;
+        }
+        for (int j176 = 0; j176 < 1; j176++) {
+            acc += j176;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v178 = acc * 10 + text.length();
+        acc = acc + v178;
+        name = text.isEmpty() ? name : text.substring(0);
+        String s180 = text + "180";
+        values.put(s180, text);
+        items.add(text.trim());
+        if (acc % 4 == 0) {
+            text = values.get("182");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("183");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e185) {
+            acc--;
+        }
+        for (int j186 = 0; j186 < 3; j186++) {
+            acc += j186;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        name = text.isEmpty() ? name : text.substring(0);
+        int v189 = acc * 8 + text.length();
+        acc = acc + v189;
+        if (acc % 2 == 0) {
+            text = values.get("190");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        items.add(text.trim());
+        if (acc % 5 == 0) {
+            text = values.get("193");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("194");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s195 = text + "195";
+        values.put(s195, text);
+        String s196 = text + "196";
+        values.put(s196, text);
+        String s197 = text + "197";
+        values.put(s197, text);
+        String s198 = text + "198";
+        values.put(s198, text);
+        String s199 = text + "199";
+        values.put(s199, text);
+        int v200 = acc * 6 + text.length();
+        acc = acc + v200;
+        if (acc % 3 == 0) {
+            text = values.get("201");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j202 = 0; j202 < 3; j202++) {
+            acc += j202;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        String s204 = text + "204";
+        values.put(s204, text);
+        items.add(text.trim());
+        String s206 = text + "206";
+        values.put(s206, text);
+        for (int j207 = 0; j207 < 4; j207++) {
+            acc += j207;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e209) {
+            acc--;
+        }
+        for (int j210 = 0; j210 < 3; j210++) {
+            acc += j210;
+        }
+        int v211 = acc * 4 + text.length();
+        acc = acc + v211;
+        int v212 = acc * 5 + text.length();
+        acc = acc + v212;
+        name = text.isEmpty() ? name : text.substring(0);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e214) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e215) {
+            acc--;
+        }
+        int v216 = acc * 9 + text.length();
+        acc = acc + v216;
+        if (acc % 4 == 0) {
+            text = values.get("217");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j218 = 0; j218 < 3; j218++) {
+            acc += j218;
+        }
+        for (int j219 = 0; j219 < 4; j219++) {
+            acc += j219;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e220) {
+            acc--;
+        }
+        int v221 = acc * 1 + text.length();
+        acc = acc + v221;
+        int v222 = acc * 2 + text.length();
+        acc = acc + v222;
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e224) {
+            acc--;
+        }
+        for (int j225 = 0; j225 < 2; j225++) {
+            acc += j225;
+        }
+        for (int j226 = 0; j226 < 3; j226++) {
+            acc += j226;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e228) {
+            acc--;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("229");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s230 = text + "230";
+        values.put(s230, text);
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e232) {
+            acc--;
+        }
+        items.add(text.trim());
+        String s234 = text + "234";
+        values.put(s234, text);
+        name = text.isEmpty() ? name : text.substring(0);
+        String s236 = text + "236";
+        values.put(s236, text);
+        for (int j237 = 0; j237 < 2; j237++) {
+            acc += j237;
+        }
+        items.add(text.trim());
+        int v239 = acc * 6 + text.length();
+        acc = acc + v239;
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 3 == 0) {
+            text = values.get("241");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j242 = 0; j242 < 3; j242++) {
+            acc += j242;
+        }
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e244) {
+            acc--;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v246 = acc * 13 + text.length();
+        acc = acc + v246;
+        name = text.isEmpty() ? name : text.substring(0);
+        int v248 = acc * 2 + text.length();
+        acc = acc + v248;
+        String s249 = text + "249";
+        values.put(s249, text);
+        return acc + count + items.size();
+    }
+
+    public int method2(String input, int seed) {
+        int acc = seed;
+        String text = input;
+        String s0 = text + "0";
+        values.put(s0, text);
+        if (acc % 3 == 0) {
+            text = values.get("1");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j2 = 0; j2 < 3; j2++) {
+            acc += j2;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e4) {
+            acc--;
+        }
+        int v5 = acc * 6 + text.length();
+        acc = acc + v5;
+        int v6 = acc * 7 + text.length();
+        acc = acc + v6;
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e7) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e8) {
+            acc--;
+        }
+        for (int j9 = 0; j9 < 2; j9++) {
+            acc += j9;
+        }
+        for (int j10 = 0; j10 < 3; j10++) {
+            acc += j10;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e12) {
+            acc--;
+        }
+        items.add(text.trim());
+        name = text.isEmpty() ? name : text.substring(0);
+        items.add(text.trim());
+        items.add(text.trim());
+        int v17 = acc * 5 + text.length();
+        acc = acc + v17;
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e19) {
+            acc--;
+        }
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e21) {
+            acc--;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v23 = acc * 11 + text.length();
+        acc = acc + v23;
+        if (acc % 6 == 0) {
+            text = values.get("24");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 2 == 0) {
+            text = values.get("25");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s26 = text + "26";
+        values.put(s26, text);
+        for (int j27 = 0; j27 < 4; j27++) {
+            acc += j27;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("28");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 6 == 0) {
+            text = values.get("29");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e31) {
+            acc--;
+        }
+        for (int j32 = 0; j32 < 1; j32++) {
+            acc += j32;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("33");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 2 == 0) {
+            text = values.get("35");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        name = text.isEmpty() ? name : text.substring(0);
+        items.add(text.trim());
+        items.add(text.trim());
+        if (acc % 2 == 0) {
+            text = values.get("40");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s41 = text + "41";
+        values.put(s41, text);
+        String s42 = text + "42";
+        values.put(s42, text);
+        for (int j43 = 0; j43 < 4; j43++) {
+            acc += j43;
+        }
+        String s44 = text + "44";
+        values.put(s44, text);
+        String s45 = text + "45";
+        values.put(s45, text);
+        for (int j46 = 0; j46 < 3; j46++) {
+            acc += j46;
+        }
+        int v47 = acc * 9 + text.length();
+        acc = acc + v47;
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e48) {
+            acc--;
+        }
+        int v49 = acc * 11 + text.length();
+        acc = acc + v49;
+        if (acc % 2 == 0) {
+            text = values.get("50");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j51 = 0; j51 < 4; j51++) {
+            acc += j51;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        String s53 = text + "53";
+        values.put(s53, text);
+        for (int j54 = 0; j54 < 3; j54++) {
+            acc += j54;
+        }
+        if (acc % 2 == 0) {
+            text = values.get("55");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s56 = text + "56";
+        values.put(s56, text);
+        if (acc % 4 == 0) {
+            text = values.get("57");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 5 == 0) {
+            text = values.get("58");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        int v59 = acc * 8 + text.length();
+        acc = acc + v59;
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 3 == 0) {
+            text = values.get("61");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        int v63 = acc * 12 + text.length();
+        acc = acc + v63;
+        items.add(text.trim());
+        int v65 = acc * 1 + text.length();
+        acc = acc + v65;
+        name = text.isEmpty() ? name : text.substring(0);
+        String s67 = text + "67";
+        values.put(s67, text);
+        for (int j68 = 0; j68 < 1; j68++) {
+            acc += j68;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e70) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e71) {
+            acc--;
+        }
+        for (int j72 = 0; j72 < 1; j72++) {
+            acc += j72;
+        }
+        for (int j73 = 0; j73 < 2; j73++) {
+            acc += j73;
+        }
+        String s74 = text + "74";
+        values.put(s74, text);
+        if (acc % 2 == 0) {
+            text = values.get("75");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j76 = 0; j76 < 1; j76++) {
+            acc += j76;
+        }
+        String s77 = text + "77";
+        values.put(s77, text);
+        String s78 = text + "78";
+        values.put(s78, text);
+        String s79 = text + "79";
+        values.put(s79, text);
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 3 == 0) {
+            text = values.get("81");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        if (acc % 4 == 0) {
+            text = values.get("82");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e83) {
+            acc--;
+        }
+        items.add(text.trim());
+        if (acc % 2 == 0) {
+            text = values.get("85");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j86 = 0; j86 < 3; j86++) {
+            acc += j86;
+        }
+        if (acc % 4 == 0) {
+            text = values.get("87");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        int v89 = acc * 12 + text.length();
+        acc = acc + v89;
+        String s90 = text + "90";
+        values.put(s90, text);
+        items.add(text.trim());
+        String s92 = text + "92";
+        values.put(s92, text);
+        int v93 = acc * 3 + text.length();
+        acc = acc + v93;
+        name = text.isEmpty() ? name : text.substring(0);
+        int v95 = acc * 5 + text.length();
+        acc = acc + v95;
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e96) {
+            acc--;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        String s98 = text + "98";
+        values.put(s98, text);
+        int v99 = acc * 9 + text.length();
+        acc = acc + v99;
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e100) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e101) {
+            acc--;
+        }
+        if (acc % 4 == 0) {
+            text = values.get("102");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        String s103 = text + "103";
+        values.put(s103, text);
+        if (acc % 6 == 0) {
+            text = values.get("104");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        if (acc % 3 == 0) {
+            text = values.get("106");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        for (int j107 = 0; j107 < 4; j107++) {
+            acc += j107;
+        }
+        name = text.isEmpty() ? name : text.substring(0);
+        int v109 = acc * 6 + text.length();
+        acc = acc + v109;
+        if (acc % 2 == 0) {
+            text = values.get("110");
+            if (text == null) {
+                text = name;
+            }
+        } else {
+            count++;
+        }
+        items.add(text.trim());
+        for (int j112 = 0; j112 < 1; j112++) {
+            acc += j112;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e113) {
+            acc--;
+        }
+        int v114 = acc * 11 + text.length();
+        acc = acc + v114;
+        items.add(text.trim());
+        items.add(text.trim());
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e117) {
+            acc--;
+        }
+        try {
+            acc += Integer.parseInt(text);
+        } catch (NumberFormatException e118) {
+            acc--;
+        }
+        String s119 = text + "119";
+        values.put(s119, text);
+        return acc + count + items.size();
+    }
+
+}
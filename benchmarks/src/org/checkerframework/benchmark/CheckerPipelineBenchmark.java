@@ -0,0 +1,51 @@
+package org.checkerframework.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.interning.InterningChecker;
+import org.checkerframework.checker.nullness.NullnessChecker;
+import org.checkerframework.common.basetype.BaseTypeChecker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures type-checking of a whole corpus file, from parsing through the end of the checker.
+ * This includes stub parsing, type factory construction, flow analysis, and the visitor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xss4m")
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class CheckerPipelineBenchmark {
+
+    @Param({"LargeMethods.java", "DeepGenerics.java", "Lambdas.java", "BigClass.java"})
+    public String corpus;
+
+    @Param({"nullness", "interning"})
+    public String checker;
+
+    private BaseTypeChecker newChecker() {
+        switch (checker) {
+            case "nullness":
+                return new NullnessChecker();
+            case "interning":
+                return new InterningChecker();
+            default:
+                throw new IllegalArgumentException("Unknown checker: " + checker);
+        }
+    }
+
+    @Benchmark
+    public CorpusCompiler typeCheck() {
+        return CorpusCompiler.compile(corpus, newChecker());
+    }
+}
@@ -0,0 +1,140 @@
+package org.checkerframework.benchmark;
+
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.JavacTask;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.checkerframework.common.basetype.BaseTypeChecker;
+import org.checkerframework.framework.type.GenericAnnotatedTypeFactory;
+
+/**
+ * Compiles a file of the benchmark corpus with a checker, and gives benchmarks access to the
+ * resulting trees, type factory, and processing environment.
+ *
+ * <p>The corpus directory is {@code corpus} relative to the working directory, unless the {@code
+ * benchmarks.corpus} system property says otherwise.
+ */
+public final class CorpusCompiler {
+
+    /** The directory containing the corpus files. */
+    private static final File CORPUS_DIR =
+            new File(System.getProperty("benchmarks.corpus", "corpus"));
+
+    /** The checker that was run. */
+    public final BaseTypeChecker checker;
+
+    /** The parsed and attributed compilation units. */
+    public final List<CompilationUnitTree> units;
+
+    /** The diagnostics produced by the compilation, including checker warnings. */
+    public final DiagnosticCollector<JavaFileObject> diagnostics;
+
+    private CorpusCompiler(
+            BaseTypeChecker checker,
+            List<CompilationUnitTree> units,
+            DiagnosticCollector<JavaFileObject> diagnostics) {
+        this.checker = checker;
+        this.units = units;
+        this.diagnostics = diagnostics;
+    }
+
+    /**
+     * Type-checks the named corpus file with the given checker.
+     *
+     * @param corpusFile the name of a file in the corpus directory
+     * @param checker a fresh instance of the checker to run
+     * @return the result of the compilation
+     */
+    public static CorpusCompiler compile(String corpusFile, BaseTypeChecker checker) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(diagnostics, null, null);
+        try {
+            Iterable<? extends JavaFileObject> files =
+                    fileManager.getJavaFileObjects(new File(CORPUS_DIR, corpusFile));
+            List<String> options =
+                    Arrays.asList(
+                            "-Anocheckjdk",
+                            "-classpath",
+                            System.getProperty("java.class.path"));
+            JavacTask task =
+                    (JavacTask)
+                            compiler.getTask(
+                                    null, fileManager, diagnostics, options, null, files);
+            task.setProcessors(Collections.singletonList(checker));
+            List<CompilationUnitTree> units = new ArrayList<>();
+            for (CompilationUnitTree unit : task.parse()) {
+                units.add(unit);
+            }
+            // No code generation is needed; the checker runs as each class is analyzed.
+            task.analyze();
+            return new CorpusCompiler(checker, units, diagnostics);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            try {
+                fileManager.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /** Returns the type factory of the checker that was run. */
+    public GenericAnnotatedTypeFactory<?, ?, ?, ?> getTypeFactory() {
+        return checker.getTypeFactory();
+    }
+
+    /** Returns the processing environment of the compilation. */
+    public ProcessingEnvironment getProcessingEnvironment() {
+        return checker.getProcessingEnvironment();
+    }
+
+    /** Returns the first top-level class of the first compilation unit. */
+    public ClassTree getFirstClass() {
+        for (Tree decl : units.get(0).getTypeDecls()) {
+            if (decl.getKind() == Tree.Kind.CLASS) {
+                return (ClassTree) decl;
+            }
+        }
+        throw new IllegalStateException("No class in " + units.get(0).getSourceFile());
+    }
+
+    /** Returns the method of {@code classTree} with the most statements in its body. */
+    public static MethodTree getLargestMethod(ClassTree classTree) {
+        MethodTree largest = null;
+        for (Tree member : classTree.getMembers()) {
+            if (member.getKind() != Tree.Kind.METHOD) {
+                continue;
+            }
+            MethodTree method = (MethodTree) member;
+            if (method.getBody() == null) {
+                continue;
+            }
+            if (largest == null
+                    || method.getBody().getStatements().size()
+                            > largest.getBody().getStatements().size()) {
+                largest = method;
+            }
+        }
+        if (largest == null) {
+            throw new IllegalStateException("No method in " + classTree.getSimpleName());
+        }
+        return largest;
+    }
+}
@@ -0,0 +1,103 @@
+package org.checkerframework.benchmark;
+
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.MethodTree;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.processing.ProcessingEnvironment;
+import org.checkerframework.checker.interning.InterningChecker;
+import org.checkerframework.dataflow.cfg.CFGBuilder;
+import org.checkerframework.dataflow.cfg.ControlFlowGraph;
+import org.checkerframework.framework.flow.CFAnalysis;
+import org.checkerframework.framework.flow.CFStore;
+import org.checkerframework.framework.flow.CFTransfer;
+import org.checkerframework.framework.flow.CFValue;
+import org.checkerframework.framework.type.GenericAnnotatedTypeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures control flow graph construction, the dataflow fixpoint, and the store operations that
+ * dominate it, on the largest method of the {@code LargeMethods} corpus file.
+ *
+ * <p>The Interning Checker is used because its type factory uses the plain {@link CFAnalysis}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xss4m")
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class DataflowBenchmark {
+
+    private InterningChecker checker;
+    private GenericAnnotatedTypeFactory<CFValue, CFStore, CFTransfer, CFAnalysis> factory;
+    private ProcessingEnvironment env;
+    private CompilationUnitTree root;
+    private ClassTree classTree;
+    private MethodTree method;
+    private ControlFlowGraph cfg;
+    private CFStore exitStore;
+    private CFStore otherStore;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() {
+        checker = new InterningChecker();
+        CorpusCompiler compiled = CorpusCompiler.compile("LargeMethods.java", checker);
+        factory =
+                (GenericAnnotatedTypeFactory<CFValue, CFStore, CFTransfer, CFAnalysis>)
+                        compiled.getTypeFactory();
+        env = compiled.getProcessingEnvironment();
+        root = compiled.units.get(0);
+        classTree = compiled.getFirstClass();
+        method = CorpusCompiler.getLargestMethod(classTree);
+        cfg = CFGBuilder.build(root, env, method, classTree);
+
+        CFAnalysis analysis = analyze();
+        exitStore = analysis.getRegularExitStore();
+        if (exitStore == null) {
+            throw new IllegalStateException("Method " + method.getName() + " never exits");
+        }
+        otherStore = analysis.getExceptionalExitStore();
+        if (otherStore == null) {
+            // The method cannot throw; join the exit store with a copy of itself instead.
+            otherStore = exitStore.copy();
+        }
+    }
+
+    private CFAnalysis analyze() {
+        CFAnalysis analysis = new CFAnalysis(checker, factory, Collections.emptyList());
+        analysis.performAnalysis(cfg);
+        return analysis;
+    }
+
+    @Benchmark
+    public ControlFlowGraph buildCfg() {
+        return CFGBuilder.build(root, env, method, classTree);
+    }
+
+    @Benchmark
+    public CFAnalysis fixpoint() {
+        return analyze();
+    }
+
+    @Benchmark
+    public CFStore storeCopy() {
+        return exitStore.copy();
+    }
+
+    @Benchmark
+    public CFStore storeLeastUpperBound() {
+        return exitStore.leastUpperBound(otherStore);
+    }
+}
@@ -0,0 +1,57 @@
+package org.checkerframework.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import org.checkerframework.checker.interning.InterningChecker;
+import org.checkerframework.framework.stub.StubParser;
+import org.checkerframework.framework.type.AnnotatedTypeMirror;
+import org.checkerframework.framework.type.GenericAnnotatedTypeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures parsing of the Interning Checker's {@code jdk.astub} stub file. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xss4m")
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class StubParserBenchmark {
+
+    private static final String STUB_FILE = "jdk.astub";
+
+    private CorpusCompiler compiled;
+    private GenericAnnotatedTypeFactory<?, ?, ?, ?> factory;
+
+    @Setup
+    public void setup() {
+        compiled = CorpusCompiler.compile("BigClass.java", new InterningChecker());
+        factory = compiled.getTypeFactory();
+    }
+
+    @Benchmark
+    public Map<Element, AnnotatedTypeMirror> parse() throws IOException {
+        Map<Element, AnnotatedTypeMirror> atypes = new HashMap<>();
+        Map<String, Set<AnnotationMirror>> declAnnos = new HashMap<>();
+        try (InputStream in = InterningChecker.class.getResourceAsStream(STUB_FILE)) {
+            StubParser parser =
+                    new StubParser(STUB_FILE, in, factory, compiled.getProcessingEnvironment());
+            parser.parse(atypes, declAnnos);
+        }
+        return atypes;
+    }
+}
@@ -0,0 +1,90 @@
+package org.checkerframework.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import org.checkerframework.checker.nullness.NullnessChecker;
+import org.checkerframework.framework.type.AnnotatedTypeMirror;
+import org.checkerframework.framework.type.GenericAnnotatedTypeFactory;
+import org.checkerframework.framework.type.QualifierHierarchy;
+import org.checkerframework.framework.type.TypeHierarchy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the qualifier hierarchy, the type hierarchy, and {@link AnnotatedTypeMirror#deepCopy()}
+ * on the deeply nested field types of the {@code DeepGenerics} corpus file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xss4m")
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class TypeSystemBenchmark {
+
+    private QualifierHierarchy qualifierHierarchy;
+    private TypeHierarchy typeHierarchy;
+    private AnnotationMirror top;
+    private AnnotationMirror bottom;
+    /** The type of the field {@code deep}, a {@code Map} of nested generic types. */
+    private AnnotatedTypeMirror deep;
+    /** The type of the field {@code deepHashMap}, a subtype of {@link #deep}. */
+    private AnnotatedTypeMirror deepHashMap;
+
+    @Setup
+    public void setup() {
+        CorpusCompiler compiled =
+                CorpusCompiler.compile("DeepGenerics.java", new NullnessChecker());
+        GenericAnnotatedTypeFactory<?, ?, ?, ?> factory = compiled.getTypeFactory();
+        qualifierHierarchy = factory.getQualifierHierarchy();
+        typeHierarchy = factory.getTypeHierarchy();
+        top = qualifierHierarchy.getTopAnnotations().iterator().next();
+        bottom = qualifierHierarchy.getBottomAnnotations().iterator().next();
+
+        TypeElement deepGenerics =
+                compiled.getProcessingEnvironment()
+                        .getElementUtils()
+                        .getTypeElement("DeepGenerics");
+        for (Element field : ElementFilter.fieldsIn(deepGenerics.getEnclosedElements())) {
+            if (field.getSimpleName().contentEquals("deep")) {
+                deep = factory.getAnnotatedType(field);
+            } else if (field.getSimpleName().contentEquals("deepHashMap")) {
+                deepHashMap = factory.getAnnotatedType(field);
+            }
+        }
+        if (deep == null || deepHashMap == null) {
+            throw new IllegalStateException("DeepGenerics fields not found");
+        }
+    }
+
+    @Benchmark
+    public boolean qualifierIsSubtype() {
+        return qualifierHierarchy.isSubtype(bottom, top);
+    }
+
+    @Benchmark
+    public AnnotationMirror qualifierLeastUpperBound() {
+        return qualifierHierarchy.leastUpperBound(bottom, top);
+    }
+
+    @Benchmark
+    public boolean typeIsSubtype() {
+        return typeHierarchy.isSubtype(deepHashMap, deep);
+    }
+
+    @Benchmark
+    public AnnotatedTypeMirror deepCopy() {
+        return deep.deepCopy();
+    }
+}
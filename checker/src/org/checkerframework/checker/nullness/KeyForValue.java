@@ -69,13 +69,11 @@ public class KeyForValue extends CFAbstractValue<KeyForValue> {
         if (other == null || other.keyForMaps == null || this.keyForMaps == null) {
             return lub;
         }
-        // Lub the keyForMaps by intersecting the sets.
-        lub.keyForMaps = new LinkedHashSet<>();
-        lub.keyForMaps.addAll(this.keyForMaps);
-        lub.keyForMaps.retainAll(other.keyForMaps);
-        if (lub.keyForMaps.isEmpty()) {
-            lub.keyForMaps = null;
-        }
+        // Lub the keyForMaps by intersecting the sets. The intersection is computed before it is
+        // assigned, because lub may be this or other.
+        Set<String> lubKeyForMaps = new LinkedHashSet<>(this.keyForMaps);
+        lubKeyForMaps.retainAll(other.keyForMaps);
+        lub.keyForMaps = lubKeyForMaps.isEmpty() ? null : lubKeyForMaps;
         return lub;
     }
 
@@ -108,7 +106,7 @@ public class KeyForValue extends CFAbstractValue<KeyForValue> {
     }
 
     private void addKeyFor(Set<String> newKeyForMaps) {
-        if (newKeyForMaps == null || newKeyForMaps.isEmpty()) {
+        if (newKeyForMaps == null || newKeyForMaps.isEmpty() || newKeyForMaps == keyForMaps) {
             return;
         }
         if (keyForMaps == null) {
@@ -0,0 +1,120 @@
+import org.checkerframework.checker.nullness.qual.*;
+
+// With -AflowCoalesceExceptionalEdges, consecutive calls in a try block propagate one store to
+// their exception handlers. A handler must still see the values that a variable had before each
+// of the calls, not only before the last one.
+class CoalesceExceptionalEdges {
+
+    void mayThrow() {}
+
+    void nullBeforeEarlierCall() {
+        Object x = null;
+        try {
+            mayThrow();
+            x = "";
+            mayThrow();
+            x.toString();
+            mayThrow();
+        } catch (RuntimeException e) {
+            //:: error: (dereference.of.nullable)
+            x.toString();
+        }
+    }
+
+    void nullBeforeLaterCall() {
+        Object y = "";
+        try {
+            mayThrow();
+            y = null;
+            mayThrow();
+        } catch (RuntimeException e) {
+            //:: error: (dereference.of.nullable)
+            y.toString();
+        }
+    }
+
+    void nonNullBeforeAllCalls() {
+        Object z = "";
+        try {
+            mayThrow();
+            z.toString();
+            mayThrow();
+        } catch (RuntimeException e) {
+            z.toString();
+        }
+    }
+
+    void nonNullAfterTry() {
+        Object w = null;
+        try {
+            mayThrow();
+            w = "";
+            mayThrow();
+        } catch (RuntimeException e) {
+            w = "";
+        }
+        w.toString();
+    }
+
+    void finallySeesNull() {
+        Object f = null;
+        try {
+            mayThrow();
+            f = "";
+            mayThrow();
+        } finally {
+            //:: error: (dereference.of.nullable)
+            f.toString();
+        }
+    }
+
+    void finallyAllNonNull() {
+        Object f = "";
+        try {
+            mayThrow();
+            mayThrow();
+        } finally {
+            f.toString();
+        }
+    }
+
+    void nested() {
+        Object a = null;
+        Object b = "";
+        try {
+            try {
+                mayThrow();
+                a = "";
+                mayThrow();
+            } catch (IllegalStateException e) {
+                //:: error: (dereference.of.nullable)
+                a.toString();
+                b.toString();
+            }
+            b = null;
+            mayThrow();
+        } catch (RuntimeException e) {
+            //:: error: (dereference.of.nullable)
+            a.toString();
+            //:: error: (dereference.of.nullable)
+            b.toString();
+        }
+    }
+
+    void inLoop(int n) {
+        Object l = "";
+        for (int i = 0; i < n; i++) {
+            try {
+                mayThrow();
+                l = null;
+                mayThrow();
+                l = "";
+            } catch (RuntimeException e) {
+                //:: error: (dereference.of.nullable)
+                l.toString();
+                l = "";
+            }
+        }
+        l.toString();
+    }
+}
@@ -0,0 +1,104 @@
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+// With -AflowAnalyzeMethodsOnDemand, a class declared in a method is analyzed with the method,
+// and a member class is analyzed with its enclosing class.
+class OnDemandClasses {
+    Runnable inField =
+            new Runnable() {
+                @Override
+                public void run() {
+                    Object local = "";
+                    local.toString();
+                }
+            };
+
+    class Inner {
+        String s = "";
+        String t;
+
+        Inner() {
+            s.toString();
+            t = s;
+        }
+
+        void refine(@Nullable Object p) {
+            if (p != null) {
+                p.toString();
+            }
+            //:: error: (dereference.of.nullable)
+            p.toString();
+        }
+    }
+
+    static class Nested {
+        @Nullable Object f;
+
+        void refine() {
+            if (f != null) {
+                f.toString();
+            }
+        }
+    }
+
+    void anonymous(@Nullable Object p) {
+        Runnable r =
+                new Runnable() {
+                    Object field = "";
+
+                    @Override
+                    public void run() {
+                        field.toString();
+                        Object local = "";
+                        local.toString();
+                        //:: error: (dereference.of.nullable)
+                        p.toString();
+                    }
+                };
+        r.run();
+    }
+
+    void local() {
+        class Local {
+            String s;
+
+            Local() {
+                s = "";
+                s.toString();
+            }
+
+            //:: error: (initialization.fields.uninitialized)
+            Local(int i) {}
+        }
+        new Local().s.toString();
+    }
+
+    void lambdaInAnonymous() {
+        Runnable r =
+                new Runnable() {
+                    @Override
+                    public void run() {
+                        Runnable inner =
+                                () -> {
+                                    Object o = "";
+                                    o.toString();
+                                };
+                        inner.run();
+                    }
+                };
+    }
+
+    void anonymousInLambda() {
+        Runnable r =
+                () -> {
+                    Runnable inner =
+                            new Runnable() {
+                                @Override
+                                public void run() {
+                                    Object o = "";
+                                    o.toString();
+                                }
+                            };
+                    inner.run();
+                };
+    }
+}
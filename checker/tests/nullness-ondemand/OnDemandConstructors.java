@@ -0,0 +1,56 @@
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+// With -AflowAnalyzeMethodsOnDemand, a constructor is analyzed when it is checked, starting from
+// the initialization store of its class: the fields assigned by field initializers and
+// initializer blocks are non-null in it, and the other fields are not.
+class OnDemandConstructors {
+    static String staticInitialized = "";
+    String initialized = "";
+    String inBlock;
+    String inConstructor;
+    @Nullable String nullable;
+
+    static {
+        staticInitialized.toString();
+    }
+
+    {
+        inBlock = initialized;
+    }
+
+    OnDemandConstructors() {
+        initialized.toString();
+        inBlock.toString();
+        //:: error: (dereference.of.nullable)
+        inConstructor.toString();
+        inConstructor = "";
+        inConstructor.toString();
+    }
+
+    //:: error: (initialization.fields.uninitialized)
+    OnDemandConstructors(int i) {
+        initialized.toString();
+        inBlock.toString();
+    }
+
+    OnDemandConstructors(boolean b) {
+        if (b) {
+            inConstructor = "b";
+        } else {
+            inConstructor = "not b";
+        }
+        inConstructor.toString();
+    }
+
+    void refinesField() {
+        if (nullable != null) {
+            nullable.toString();
+        }
+        //:: error: (dereference.of.nullable)
+        nullable.toString();
+    }
+
+    {
+        inBlock.toString();
+    }
+}
@@ -0,0 +1,51 @@
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+// With -AflowAnalyzeMethodsOnDemand, a lambda is analyzed with the method that contains it, or
+// with the field initializers if a field initializer contains it.
+class OnDemandLambdas {
+    Supplier<String> inField = () -> "";
+
+    Function<@Nullable Object, String> inFieldRefines =
+            o -> {
+                if (o == null) {
+                    return "";
+                }
+                return o.toString();
+            };
+
+    void inMethod(@Nullable Object p) {
+        Runnable r =
+                () -> {
+                    Object local = "";
+                    local.toString();
+                    //:: error: (dereference.of.nullable)
+                    p.toString();
+                };
+        Supplier<Object> s = () -> p != null ? p : "";
+        s.get().toString();
+        inField.get().toString();
+    }
+
+    void nested() {
+        Runnable outer =
+                () -> {
+                    Runnable inner =
+                            () -> {
+                                Object o = "";
+                                o.toString();
+                            };
+                    inner.run();
+                };
+    }
+
+    void refinesParameter() {
+        Function<@Nullable Object, String> f =
+                o -> {
+                    //:: error: (dereference.of.nullable)
+                    o.toString();
+                    return o.toString();
+                };
+    }
+}
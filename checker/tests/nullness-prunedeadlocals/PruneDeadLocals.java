@@ -0,0 +1,100 @@
+import java.util.HashMap;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.*;
+
+// With -AflowPruneDeadLocals, a local variable is dropped from the stores once it is dead. The
+// refinement of a variable that is read later, by a lambda, in a finally block or after a loop,
+// must survive.
+class PruneDeadLocals {
+
+    void mayThrow() {}
+
+    void lambdaReadsLocal() {
+        Object o = "";
+        Object unused = "";
+        unused.toString();
+        Runnable r = () -> o.toString();
+        o.toString();
+    }
+
+    void lambdaReadsNullableLocal(@Nullable Object p) {
+        Object o = p;
+        //:: error: (dereference.of.nullable)
+        Runnable r = () -> o.toString();
+    }
+
+    void lambdaBodyLocals() {
+        Runnable r =
+                () -> {
+                    Object a = "";
+                    Object b = "";
+                    a.toString();
+                    b.toString();
+                };
+    }
+
+    void readInFinallyOnly() {
+        Object y = "";
+        try {
+            mayThrow();
+        } finally {
+            y.toString();
+        }
+    }
+
+    void readInFinallyAndAfter() {
+        Object x = "";
+        try {
+            x.toString();
+            mayThrow();
+        } finally {
+            x.toString();
+        }
+        x.toString();
+    }
+
+    void nullInTry() {
+        Object z = "";
+        try {
+            z = null;
+            mayThrow();
+        } finally {
+            //:: error: (dereference.of.nullable)
+            z.toString();
+        }
+    }
+
+    void readInCatch() {
+        Object c = "";
+        try {
+            mayThrow();
+            c = null;
+        } catch (RuntimeException e) {
+            c.toString();
+        }
+    }
+
+    void deadThenReassigned(@Nullable Object p) {
+        Object a = "";
+        a.toString();
+        a = p;
+        //:: error: (dereference.of.nullable)
+        a.toString();
+    }
+
+    void readAfterLoop(int n) {
+        Object l = "";
+        for (int i = 0; i < n; i++) {
+            mayThrow();
+        }
+        l.toString();
+    }
+
+    void keyForAfterDeadRegion(String key) {
+        Map<String, Object> m = new HashMap<>();
+        m.put(key, "");
+        Object unused = "";
+        unused.toString();
+        @NonNull Object v = m.get(key);
+    }
+}
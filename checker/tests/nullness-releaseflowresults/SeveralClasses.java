@@ -0,0 +1,81 @@
+import java.util.HashMap;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+// Several top-level classes in one compilation unit. The flow results of each class are
+// discarded once both the Nullness Checker and its KeyFor subchecker are done with it, so the
+// later classes must not depend on the flow results of the earlier ones.
+class SeveralClassesFirst {
+    static final Map<String, Object> MAP = new HashMap<>();
+
+    @Nullable Object field;
+
+    Object keyFor(String k) {
+        if (MAP.containsKey(k)) {
+            return MAP.get(k);
+        }
+        return "";
+    }
+
+    void refined() {
+        if (field != null) {
+            field.toString();
+        }
+        //:: error: (dereference.of.nullable)
+        field.toString();
+    }
+}
+
+class SeveralClassesSecond {
+    Object fromFirst(SeveralClassesFirst first, String k) {
+        if (SeveralClassesFirst.MAP.containsKey(k)) {
+            return SeveralClassesFirst.MAP.get(k);
+        }
+        //:: error: (return.type.incompatible)
+        return SeveralClassesFirst.MAP.get(k);
+    }
+
+    void keys() {
+        for (String k : SeveralClassesFirst.MAP.keySet()) {
+            SeveralClassesFirst.MAP.get(k).toString();
+        }
+    }
+
+    Object lambda(@Nullable Object o) {
+        Runnable r =
+                () -> {
+                    if (o != null) {
+                        o.toString();
+                    }
+                };
+        r.run();
+        //:: error: (return.type.incompatible)
+        return o;
+    }
+}
+
+class SeveralClassesThird {
+    @Nullable Object field;
+
+    class Inner {
+        void refined() {
+            if (field != null) {
+                field.toString();
+            }
+        }
+    }
+
+    Object anonymous(@Nullable Object o) {
+        if (o == null) {
+            return "";
+        }
+        Object a =
+                new Object() {
+                    @Override
+                    public String toString() {
+                        return "";
+                    }
+                };
+        return o;
+    }
+}
@@ -0,0 +1,69 @@
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+// Stores whose local variables are shared until an assignment must be merged and compared as
+// precisely as stores with tables of their own.
+class ShareLocals {
+    void unchangedBranches(@Nullable Object o, boolean b) {
+        if (o == null) {
+            return;
+        }
+        if (b) {
+            o.toString();
+        } else {
+            o.hashCode();
+        }
+        o.toString();
+    }
+
+    void assignedInOneBranch(@Nullable Object o, Object p, boolean b) {
+        Object q = p;
+        if (b) {
+            q = o;
+        }
+        p.toString();
+        //:: error: (dereference.of.nullable)
+        q.toString();
+    }
+
+    void assignedInBothBranches(@Nullable Object o, boolean b) {
+        Object q;
+        if (b) {
+            q = "";
+        } else {
+            q = "a";
+        }
+        q.toString();
+        //:: error: (dereference.of.nullable)
+        o.toString();
+    }
+
+    void loop(@Nullable Object o, Object p) {
+        Object q = p;
+        for (int i = 0; i < 10; i++) {
+            p.toString();
+            if (i == 5) {
+                q = o;
+            }
+        }
+        //:: error: (dereference.of.nullable)
+        q.toString();
+    }
+
+    void loopUnchanged(Object p) {
+        Object q = p;
+        for (int i = 0; i < 10; i++) {
+            q.toString();
+        }
+        q.toString();
+    }
+
+    void refinedThenInvalidated(@Nullable Object o) {
+        Object q = o;
+        if (q != null) {
+            q.toString();
+            q = o;
+            //:: error: (dereference.of.nullable)
+            q.toString();
+        }
+    }
+}
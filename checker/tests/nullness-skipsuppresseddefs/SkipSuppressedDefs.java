@@ -0,0 +1,44 @@
+import org.checkerframework.checker.nullness.qual.*;
+
+public class SkipSuppressedDefs {
+
+    @SuppressWarnings("nullness")
+    static class Suppressed {
+        Object f = null;
+
+        static Object foo() {
+            Object o = null;
+            o.toString();
+            return null;
+        }
+
+        static class NestedInSuppressed {
+            Object g = null;
+        }
+    }
+
+    static class NotSuppressed {
+        static Object foo() {
+            //:: error: (return.type.incompatible)
+            return null;
+        }
+
+        @SuppressWarnings("nullness")
+        static Object suppressedMethod() {
+            return null;
+        }
+
+        static Object bar(@Nullable Object p) {
+            //:: error: (dereference.of.nullable)
+            p.toString();
+            return p;
+        }
+    }
+
+    void useSuppressed(Suppressed s, Suppressed.NestedInSuppressed n) {
+        s.f.toString();
+        n.g.toString();
+        Suppressed.foo().toString();
+        NotSuppressed.suppressedMethod().toString();
+    }
+}
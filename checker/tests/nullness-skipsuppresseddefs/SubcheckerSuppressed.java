@@ -0,0 +1,34 @@
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.*;
+
+// Suppressing the warnings of the KeyFor Checker does not suppress those of the Nullness Checker,
+// which still needs the results of the KeyFor Checker for the suppressed declarations.
+public class SubcheckerSuppressed {
+
+    @SuppressWarnings("keyfor")
+    static class KeyForSuppressedClass {
+        void get(Map<String, Object> m, String k) {
+            if (m.containsKey(k)) {
+                @NonNull Object o = m.get(k);
+            }
+            //:: error: (assignment.type.incompatible)
+            @NonNull Object p = m.get(k);
+        }
+    }
+
+    @SuppressWarnings("keyfor")
+    void keyForSuppressedMethod(Map<String, Object> m, String k) {
+        if (m.containsKey(k)) {
+            @NonNull Object o = m.get(k);
+        }
+        //:: error: (assignment.type.incompatible)
+        @NonNull Object p = m.get(k);
+    }
+
+    @SuppressWarnings("keyfor")
+    <T> void typeVariableKey(Map<T, Object> m, T k) {
+        if (m.containsKey(k)) {
+            @NonNull Object o = m.get(k);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.*;
+
+// The key-for information about a value of a type variable must survive a merge point that the
+// value reaches unchanged along every path.
+class KeyForMergeUnchanged<T> {
+
+    void afterIf(Map<T, Object> map, T param, boolean b) {
+        if (map.containsKey(param)) {
+            if (b) {
+                map.toString();
+            }
+            @NonNull Object o = map.get(param);
+        }
+    }
+
+    void afterLoop(Map<T, Object> map, T param, int n) {
+        if (map.containsKey(param)) {
+            for (int i = 0; i < n; i++) {
+                map.toString();
+            }
+            @NonNull Object o = map.get(param);
+        }
+    }
+
+    void afterTwoMerges(Map<T, Object> map, T param, boolean b) {
+        if (map.containsKey(param)) {
+            if (b) {
+                map.toString();
+            }
+            if (!b) {
+                map.hashCode();
+            }
+            @NonNull Object o = map.get(param);
+        }
+    }
+
+    void notAKey(Map<T, Object> map, T param, boolean b) {
+        if (b) {
+            map.toString();
+        }
+        //:: error: (assignment.type.incompatible)
+        @NonNull Object o = map.get(param);
+    }
+}
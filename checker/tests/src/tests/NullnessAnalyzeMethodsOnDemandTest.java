@@ -0,0 +1,32 @@
+package tests;
+
+import java.io.File;
+import java.util.List;
+import org.checkerframework.checker.nullness.AbstractNullnessChecker;
+import org.checkerframework.framework.test.CheckerFrameworkPerDirectoryTest;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * JUnit tests for the Nullness Checker -- testing {@code -AflowAnalyzeMethodsOnDemand}
+ * command-line argument.
+ */
+public class NullnessAnalyzeMethodsOnDemandTest extends CheckerFrameworkPerDirectoryTest {
+
+    public NullnessAnalyzeMethodsOnDemandTest(List<File> testFiles) {
+        super(
+                testFiles,
+                org.checkerframework.checker.nullness.NullnessChecker.class,
+                "nullness",
+                "-AcheckPurityAnnotations",
+                "-Anomsgtext",
+                "-Xlint:deprecation",
+                "-Alint=forbidnonnullarraycomponents,"
+                        + AbstractNullnessChecker.LINT_REDUNDANTNULLCOMPARISON,
+                "-AflowAnalyzeMethodsOnDemand");
+    }
+
+    @Parameters
+    public static String[] getTestDirs() {
+        return new String[] {"nullness-ondemand", "initialization/fbc"};
+    }
+}
@@ -0,0 +1,27 @@
+package tests;
+
+import java.io.File;
+import java.util.List;
+import org.checkerframework.framework.test.CheckerFrameworkPerDirectoryTest;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * JUnit tests for the Nullness Checker -- testing {@code -AflowCoalesceExceptionalEdges}
+ * command-line argument.
+ */
+public class NullnessCoalesceExceptionalEdgesTest extends CheckerFrameworkPerDirectoryTest {
+
+    public NullnessCoalesceExceptionalEdgesTest(List<File> testFiles) {
+        super(
+                testFiles,
+                org.checkerframework.checker.nullness.NullnessChecker.class,
+                "nullness",
+                "-Anomsgtext",
+                "-AflowCoalesceExceptionalEdges");
+    }
+
+    @Parameters
+    public static String[] getTestDirs() {
+        return new String[] {"nullness-coalesceexceptionaledges"};
+    }
+}
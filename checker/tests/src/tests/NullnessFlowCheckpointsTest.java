@@ -0,0 +1,29 @@
+package tests;
+
+import java.io.File;
+import java.util.List;
+import org.checkerframework.framework.test.CheckerFrameworkPerDirectoryTest;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * JUnit tests for the Nullness Checker -- testing {@code -AflowCheckpointInterval} command-line
+ * argument. With an interval of 1, the store before every node is recorded, and the stores of
+ * the nodes between checkpoints are never replayed; with a large interval, almost all of them
+ * are.
+ */
+public class NullnessFlowCheckpointsTest extends CheckerFrameworkPerDirectoryTest {
+
+    public NullnessFlowCheckpointsTest(List<File> testFiles) {
+        super(
+                testFiles,
+                org.checkerframework.checker.nullness.NullnessChecker.class,
+                "nullness",
+                "-Anomsgtext",
+                "-AflowCheckpointInterval=1");
+    }
+
+    @Parameters
+    public static String[] getTestDirs() {
+        return new String[] {"nullness"};
+    }
+}
@@ -0,0 +1,27 @@
+package tests;
+
+import java.io.File;
+import java.util.List;
+import org.checkerframework.framework.test.CheckerFrameworkPerDirectoryTest;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * JUnit tests for the Nullness Checker -- testing {@code -AflowPruneDeadLocals} command-line
+ * argument.
+ */
+public class NullnessPruneDeadLocalsTest extends CheckerFrameworkPerDirectoryTest {
+
+    public NullnessPruneDeadLocalsTest(List<File> testFiles) {
+        super(
+                testFiles,
+                org.checkerframework.checker.nullness.NullnessChecker.class,
+                "nullness",
+                "-Anomsgtext",
+                "-AflowPruneDeadLocals");
+    }
+
+    @Parameters
+    public static String[] getTestDirs() {
+        return new String[] {"nullness-prunedeadlocals"};
+    }
+}
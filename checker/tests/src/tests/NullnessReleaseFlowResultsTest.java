@@ -0,0 +1,28 @@
+package tests;
+
+import java.io.File;
+import java.util.List;
+import org.checkerframework.framework.test.CheckerFrameworkPerDirectoryTest;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * JUnit tests for the Nullness Checker -- testing {@code -AreleaseFlowResults} command-line
+ * argument. The Nullness Checker runs the KeyFor Checker as a subchecker, so the flow results of
+ * a class are only discarded once both checkers are done with it.
+ */
+public class NullnessReleaseFlowResultsTest extends CheckerFrameworkPerDirectoryTest {
+
+    public NullnessReleaseFlowResultsTest(List<File> testFiles) {
+        super(
+                testFiles,
+                org.checkerframework.checker.nullness.NullnessChecker.class,
+                "nullness",
+                "-Anomsgtext",
+                "-AreleaseFlowResults");
+    }
+
+    @Parameters
+    public static String[] getTestDirs() {
+        return new String[] {"nullness-releaseflowresults", "nullness"};
+    }
+}
@@ -0,0 +1,26 @@
+package tests;
+
+import java.io.File;
+import java.util.List;
+import org.checkerframework.framework.test.CheckerFrameworkPerDirectoryTest;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * JUnit tests for the Nullness Checker -- testing {@code -AflowShareLocals} command-line argument.
+ */
+public class NullnessShareLocalsTest extends CheckerFrameworkPerDirectoryTest {
+
+    public NullnessShareLocalsTest(List<File> testFiles) {
+        super(
+                testFiles,
+                org.checkerframework.checker.nullness.NullnessChecker.class,
+                "nullness",
+                "-Anomsgtext",
+                "-AflowShareLocals");
+    }
+
+    @Parameters
+    public static String[] getTestDirs() {
+        return new String[] {"nullness-sharelocals", "nullness"};
+    }
+}
@@ -11,19 +11,20 @@ import com.sun.source.tree.Tree;
 import com.sun.source.tree.UnaryTree;
 import com.sun.source.tree.VariableTree;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.PriorityQueue;
 import java.util.Set;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Types;
+import org.checkerframework.dataflow.cfg.CompactCFGView;
 import org.checkerframework.dataflow.cfg.ControlFlowGraph;
 import org.checkerframework.dataflow.cfg.UnderlyingAST;
 import org.checkerframework.dataflow.cfg.UnderlyingAST.CFGLambda;
@@ -86,6 +87,39 @@ public class Analysis<
      */
     protected final int maxCountBeforeWidening;
 
+    /** The blocks at which widening is applied. */
+    public enum WideningStrategy {
+        /** Widen at any block that has been analyzed more than maxCountBeforeWidening times. */
+        EVERY_BLOCK,
+        /**
+         * Widen only at loop heads, the targets of back edges in the depth-first order of the
+         * blocks (see {@link CompactCFGView}). Every cycle of the CFG contains a loop head, so this
+         * suffices for termination, and the stores of the other blocks are not widened.
+         */
+        LOOP_HEADS
+    }
+
+    /** The blocks at which widening is applied, if maxCountBeforeWidening is not -1. */
+    protected WideningStrategy wideningStrategy = WideningStrategy.EVERY_BLOCK;
+
+    /**
+     * Number of narrowing rounds performed after the fix-point iteration, if widening was applied.
+     * See {@link #setNarrowingIterations}.
+     */
+    protected int narrowingIterations = 0;
+
+    /** Whether widening has been applied to a store since the analysis started. */
+    protected boolean widened;
+
+    /** Number of times a basic block has been analyzed since the analysis started. */
+    protected int iterationCount;
+
+    /**
+     * During a narrowing round, the transfer inputs from which the blocks are analyzed: those
+     * computed by the previous round. Null otherwise.
+     */
+    protected IdentityHashMap<Block, TransferInput<A, S>> narrowingInputs;
+
     /**
      * The transfer inputs before every basic block (assumed to be 'no information' if not present).
      */
@@ -122,6 +156,48 @@ public class Analysis<
     /** The current transfer input when the analysis is running. */
     protected TransferInput<A, S> currentInput;
 
+    /**
+     * The exceptional successors of the current exception block into which its regular store has
+     * been merged. Reused for every exception block, to avoid allocating a set for each.
+     */
+    protected final Set<Block> exceptionalRegularStoreTargets =
+            Collections.newSetFromMap(new IdentityHashMap<Block, Boolean>());
+
+    /**
+     * Whether the regular stores of consecutive exception blocks with the same exceptional
+     * successors are joined before they are propagated; see {@link #setCoalesceExceptionalEdges}.
+     */
+    protected boolean coalesceExceptionalEdges = false;
+
+    /**
+     * If {@link #coalesceExceptionalEdges}, maps each exception block of a run of consecutive
+     * exception blocks with the same exceptional successors to the last block of the run. Null
+     * otherwise.
+     */
+    protected IdentityHashMap<ExceptionBlock, ExceptionBlock> exceptionalRunEnds;
+
+    /**
+     * The least upper bound of the regular stores that the blocks of each run in {@link
+     * #exceptionalRunEnds} have propagated so far, keyed by the last block of the run. That block
+     * propagates it to the exceptional successors of the run.
+     */
+    protected IdentityHashMap<ExceptionBlock, S> exceptionalRunStores;
+
+    /**
+     * Every how many nodes of a regular block a copy of the transfer input is kept in {@link
+     * #checkpoints}. 0 means that no checkpoints are kept.
+     */
+    protected int checkpointInterval = 0;
+
+    /**
+     * Copies of the transfer input before some nodes of long regular blocks, recorded the last time
+     * their block was analyzed. The first component of each pair is the input of the block at that
+     * time; a checkpoint is only valid for that block input. {@link
+     * AnalysisResult#runAnalysisFor(Node, boolean, TransferInput, Map)} starts from the closest
+     * checkpoint rather than from the beginning of the block.
+     */
+    protected IdentityHashMap<Node, Pair<TransferInput<A, S>, TransferInput<A, S>>> checkpoints;
+
     public Tree getCurrentTree() {
         return currentTree;
     }
@@ -174,6 +250,86 @@ public class Analysis<
         return env;
     }
 
+    /**
+     * Sets every how many nodes of a regular block the transfer input is recorded, so that the
+     * store before or after a node can later be recomputed from a nearby checkpoint rather than
+     * from the beginning of its block. 0, the default, records no checkpoints.
+     *
+     * @param checkpointInterval the number of nodes between checkpoints, or 0
+     */
+    public void setCheckpointInterval(int checkpointInterval) {
+        assert checkpointInterval >= 0;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Sets whether exceptional flow from consecutive exception blocks with the same exceptional
+     * successors is propagated along a single edge. Exception blocks that follow one another
+     * without intervening branches or joins form a run; each block of a run joins the store before
+     * its node into a store kept for the run, and the last block of the run propagates that least
+     * upper bound to the exceptional successors. A try block with many method calls then updates
+     * the stores of its handlers once rather than once per call. The default is false.
+     *
+     * @param coalesceExceptionalEdges whether to coalesce the exceptional edges of runs
+     */
+    public void setCoalesceExceptionalEdges(boolean coalesceExceptionalEdges) {
+        this.coalesceExceptionalEdges = coalesceExceptionalEdges;
+    }
+
+    /**
+     * Sets the blocks at which widening is applied. This has no effect if maxCountBeforeWidening is
+     * -1.
+     *
+     * @param wideningStrategy the blocks at which widening is applied
+     */
+    public void setWideningStrategy(WideningStrategy wideningStrategy) {
+        this.wideningStrategy = wideningStrategy;
+    }
+
+    /**
+     * Sets the number of narrowing rounds performed after the fix-point iteration, if it applied
+     * widening. 0, the default, performs none.
+     *
+     * <p>Widening may yield stores that are less precise than necessary. A narrowing round
+     * analyzes every block once from the stores computed so far, and replaces the stores before
+     * each block by those that flow into it. Starting from a fix point, these are still sound, and
+     * usually more precise. The abstract values of the nodes are then recomputed from the final
+     * stores.
+     *
+     * @param narrowingIterations the number of narrowing rounds
+     */
+    public void setNarrowingIterations(int narrowingIterations) {
+        assert narrowingIterations >= 0;
+        this.narrowingIterations = narrowingIterations;
+    }
+
+    /**
+     * Returns the total number of basic block analyses performed by the last call to {@link
+     * #performAnalysis}, including narrowing rounds. A block that was analyzed three times counts
+     * three times.
+     *
+     * @return the number of basic block analyses
+     */
+    public int getIterationCount() {
+        return iterationCount;
+    }
+
+    /**
+     * Returns the transfer input recorded before {@code node}, or null if there is no checkpoint
+     * before {@code node} for the block input {@code blockInput}.
+     */
+    /*@Nullable*/ TransferInput<A, S> getCheckpoint(
+            Node node, TransferInput<A, S> blockInput) {
+        if (checkpoints == null) {
+            return null;
+        }
+        Pair<TransferInput<A, S>, TransferInput<A, S>> checkpoint = checkpoints.get(node);
+        if (checkpoint == null || checkpoint.first != blockInput) {
+            return null;
+        }
+        return checkpoint.second;
+    }
+
     /**
      * Perform the actual analysis. Should only be called once after the object has been created.
      */
@@ -185,123 +341,179 @@ public class Analysis<
 
         while (!worklist.isEmpty()) {
             Block b = worklist.poll();
+            analyzeBlock(b);
+        }
 
-            switch (b.getType()) {
-                case REGULAR_BLOCK:
-                    {
-                        RegularBlock rb = (RegularBlock) b;
-
-                        // apply transfer function to contents
-                        TransferInput<A, S> inputBefore = getInputBefore(rb);
-                        currentInput = inputBefore.copy();
-                        TransferResult<A, S> transferResult = null;
-                        Node lastNode = null;
-                        boolean addToWorklistAgain = false;
-                        for (Node n : rb.getContents()) {
-                            transferResult = callTransferFunction(n, currentInput);
-                            addToWorklistAgain |= updateNodeValues(n, transferResult);
-                            currentInput = new TransferInput<>(n, this, transferResult);
-                            lastNode = n;
+        if (narrowingIterations > 0 && widened) {
+            narrow();
+        }
+
+        assert isRunning == true;
+        isRunning = false;
+    }
+
+    /**
+     * Apply the transfer function to the contents of the basic block {@code b}, and propagate the
+     * resulting stores to its successors.
+     */
+    protected void analyzeBlock(Block b) {
+        iterationCount++;
+        switch (b.getType()) {
+            case REGULAR_BLOCK:
+                {
+                    RegularBlock rb = (RegularBlock) b;
+
+                    // apply transfer function to contents
+                    TransferInput<A, S> inputBefore = getInputToAnalyze(rb);
+                    currentInput = inputBefore.copy();
+                    TransferResult<A, S> transferResult = null;
+                    Node lastNode = null;
+                    boolean addToWorklistAgain = false;
+                    int index = 0;
+                    for (Node n : rb.getContents()) {
+                        if (checkpointInterval > 0
+                                && index > 0
+                                && index % checkpointInterval == 0) {
+                            checkpoints.put(n, Pair.of(inputBefore, currentInput.copy()));
                         }
-                        // loop will run at least one, making transferResult non-null
+                        index++;
+                        transferResult = callTransferFunction(n, currentInput);
+                        addToWorklistAgain |= updateNodeValues(n, transferResult);
+                        currentInput = new TransferInput<>(n, this, transferResult);
+                        lastNode = n;
+                    }
+                    // loop will run at least one, making transferResult non-null
+
+                    // propagate store to successors
+                    Block succ = rb.getSuccessor();
+                    assert succ != null
+                            : "regular basic block without non-exceptional successor unexpected";
+                    propagateStoresTo(
+                            succ, lastNode, currentInput, rb.getFlowRule(), addToWorklistAgain);
+                    break;
+                }
 
-                        // propagate store to successors
-                        Block succ = rb.getSuccessor();
-                        assert succ != null
-                                : "regular basic block without non-exceptional successor unexpected";
+            case EXCEPTION_BLOCK:
+                {
+                    ExceptionBlock eb = (ExceptionBlock) b;
+
+                    // apply transfer function to content
+                    TransferInput<A, S> inputBefore = getInputToAnalyze(eb);
+                    currentInput = inputBefore.copy();
+                    Node node = eb.getNode();
+                    TransferResult<A, S> transferResult = callTransferFunction(node, currentInput);
+                    boolean addToWorklistAgain = updateNodeValues(node, transferResult);
+
+                    // propagate store to successor
+                    Block succ = eb.getSuccessor();
+                    if (succ != null) {
+                        currentInput = new TransferInput<>(node, this, transferResult);
+                        // TODO? Variable wasn't used.
+                        // Store.FlowRule storeFlow = eb.getFlowRule();
                         propagateStoresTo(
-                                succ, lastNode, currentInput, rb.getFlowRule(), addToWorklistAgain);
-                        break;
+                                succ, node, currentInput, eb.getFlowRule(), addToWorklistAgain);
                     }
 
-                case EXCEPTION_BLOCK:
-                    {
-                        ExceptionBlock eb = (ExceptionBlock) b;
-
-                        // apply transfer function to content
-                        TransferInput<A, S> inputBefore = getInputBefore(eb);
-                        currentInput = inputBefore.copy();
-                        Node node = eb.getNode();
-                        TransferResult<A, S> transferResult =
-                                callTransferFunction(node, currentInput);
-                        boolean addToWorklistAgain = updateNodeValues(node, transferResult);
-
-                        // propagate store to successor
-                        Block succ = eb.getSuccessor();
-                        if (succ != null) {
-                            currentInput = new TransferInput<>(node, this, transferResult);
-                            // TODO? Variable wasn't used.
-                            // Store.FlowRule storeFlow = eb.getFlowRule();
-                            propagateStoresTo(
-                                    succ, node, currentInput, eb.getFlowRule(), addToWorklistAgain);
-                        }
-
-                        // propagate store to exceptional successors
-                        for (Entry<TypeMirror, Set<Block>> e :
-                                eb.getExceptionalSuccessors().entrySet()) {
-                            TypeMirror cause = e.getKey();
-                            S exceptionalStore = transferResult.getExceptionalStore(cause);
-                            if (exceptionalStore != null) {
-                                for (Block exceptionSucc : e.getValue()) {
-                                    addStoreBefore(
-                                            exceptionSucc,
-                                            node,
-                                            exceptionalStore,
-                                            Store.Kind.BOTH,
-                                            addToWorklistAgain);
+                    // propagate store to exceptional successors
+                    // Without widening, merging the same store into a block twice has no
+                    // further effect, so the regular store is merged into each exceptional
+                    // successor only once, however many exception types lead there.
+                    Set<Block> regularStoreTargets = null;
+                    if (blockCount == null) {
+                        regularStoreTargets = exceptionalRegularStoreTargets;
+                        regularStoreTargets.clear();
+                    }
+                    ExceptionBlock runEnd =
+                            exceptionalRunEnds == null ? null : exceptionalRunEnds.get(eb);
+                    boolean joinedIntoRun = false;
+                    for (Entry<TypeMirror, Set<Block>> e :
+                            eb.getExceptionalSuccessors().entrySet()) {
+                        TypeMirror cause = e.getKey();
+                        S exceptionalStore = transferResult.getExceptionalStore(cause);
+                        if (exceptionalStore != null) {
+                            for (Block exceptionSucc : e.getValue()) {
+                                addStoreBefore(
+                                        exceptionSucc,
+                                        node,
+                                        exceptionalStore,
+                                        Store.Kind.BOTH,
+                                        addToWorklistAgain);
+                            }
+                        } else if (runEnd != null) {
+                            // The last block of the run propagates the store below.
+                            if (!joinedIntoRun) {
+                                joinIntoRun(runEnd, eb, inputBefore.getRegularStore());
+                                joinedIntoRun = true;
+                            }
+                        } else {
+                            for (Block exceptionSucc : e.getValue()) {
+                                if (regularStoreTargets != null
+                                        && !regularStoreTargets.add(exceptionSucc)) {
+                                    continue;
                                 }
-                            } else {
-                                for (Block exceptionSucc : e.getValue()) {
+                                addStoreBefore(
+                                        exceptionSucc,
+                                        node,
+                                        inputBefore.copy().getRegularStore(),
+                                        Store.Kind.BOTH,
+                                        addToWorklistAgain);
+                            }
+                        }
+                    }
+                    if (runEnd == eb && exceptionalRunStores.containsKey(eb)) {
+                        // Every block of the run has the same exceptional successors.
+                        S runStore = exceptionalRunStores.get(eb);
+                        exceptionalRegularStoreTargets.clear();
+                        for (Set<Block> exceptionSuccs : eb.getExceptionalSuccessors().values()) {
+                            for (Block exceptionSucc : exceptionSuccs) {
+                                if (exceptionalRegularStoreTargets.add(exceptionSucc)) {
                                     addStoreBefore(
                                             exceptionSucc,
                                             node,
-                                            inputBefore.copy().getRegularStore(),
+                                            runStore.copy(),
                                             Store.Kind.BOTH,
                                             addToWorklistAgain);
                                 }
                             }
                         }
-                        break;
                     }
+                    break;
+                }
 
-                case CONDITIONAL_BLOCK:
-                    {
-                        ConditionalBlock cb = (ConditionalBlock) b;
+            case CONDITIONAL_BLOCK:
+                {
+                    ConditionalBlock cb = (ConditionalBlock) b;
 
-                        // get store before
-                        TransferInput<A, S> inputBefore = getInputBefore(cb);
-                        TransferInput<A, S> input = inputBefore.copy();
+                    // get store before
+                    TransferInput<A, S> inputBefore = getInputToAnalyze(cb);
+                    TransferInput<A, S> input = inputBefore.copy();
 
-                        // propagate store to successor
-                        Block thenSucc = cb.getThenSuccessor();
-                        Block elseSucc = cb.getElseSuccessor();
+                    // propagate store to successor
+                    Block thenSucc = cb.getThenSuccessor();
+                    Block elseSucc = cb.getElseSuccessor();
 
-                        propagateStoresTo(thenSucc, null, input, cb.getThenFlowRule(), false);
-                        propagateStoresTo(elseSucc, null, input, cb.getElseFlowRule(), false);
-                        break;
-                    }
+                    propagateStoresTo(thenSucc, null, input, cb.getThenFlowRule(), false);
+                    propagateStoresTo(elseSucc, null, input, cb.getElseFlowRule(), false);
+                    break;
+                }
 
-                case SPECIAL_BLOCK:
-                    {
-                        // special basic blocks are empty and cannot throw exceptions,
-                        // thus there is no need to perform any analysis.
-                        SpecialBlock sb = (SpecialBlock) b;
-                        Block succ = sb.getSuccessor();
-                        if (succ != null) {
-                            propagateStoresTo(
-                                    succ, null, getInputBefore(b), sb.getFlowRule(), false);
-                        }
-                        break;
+            case SPECIAL_BLOCK:
+                {
+                    // special basic blocks are empty and cannot throw exceptions,
+                    // thus there is no need to perform any analysis.
+                    SpecialBlock sb = (SpecialBlock) b;
+                    Block succ = sb.getSuccessor();
+                    if (succ != null) {
+                        propagateStoresTo(
+                                succ, null, getInputToAnalyze(b), sb.getFlowRule(), false);
                     }
-
-                default:
-                    assert false;
                     break;
-            }
-        }
+                }
 
-        assert isRunning == true;
-        isRunning = false;
+            default:
+                assert false;
+                break;
+        }
     }
 
     /**
@@ -424,6 +636,129 @@ public class Analysis<
         return transferResult;
     }
 
+    /**
+     * Returns the transfer input from which {@link #analyzeBlock} analyzes {@code b}: the input
+     * before {@code b}, or during a narrowing round the input computed by the previous round.
+     */
+    private TransferInput<A, S> getInputToAnalyze(Block b) {
+        return narrowingInputs != null ? narrowingInputs.get(b) : getInputBefore(b);
+    }
+
+    /**
+     * Joins {@code store}, the store before the node of {@code block}, into the store of the run of
+     * exception blocks that ends with {@code runEnd}. If that changes the store of the run, and the
+     * last block of the run has already been reached, it is analyzed again to propagate the new
+     * store.
+     */
+    protected void joinIntoRun(ExceptionBlock runEnd, ExceptionBlock block, S store) {
+        S runStore = exceptionalRunStores.get(runEnd);
+        S newRunStore = runStore == null ? store.copy() : store.leastUpperBound(runStore);
+        if (runStore == null || !newRunStore.equals(runStore)) {
+            exceptionalRunStores.put(runEnd, newRunStore);
+            if (runEnd != block && inputs.containsKey(runEnd)) {
+                addToWorklist(runEnd);
+            }
+        }
+    }
+
+    /**
+     * Computes {@link #exceptionalRunEnds}. A run is a sequence of exception blocks with equal
+     * exceptional successors, each of which is reached from the previous one only through regular
+     * blocks that have a single predecessor, and has no other predecessor itself.
+     */
+    protected void computeExceptionalRuns() {
+        CompactCFGView view = worklist.view;
+        // The next block of the run of each exception block, if it is not the last one.
+        IdentityHashMap<ExceptionBlock, ExceptionBlock> next = new IdentityHashMap<>();
+        BitSet hasPrevious = new BitSet(view.size());
+        for (int index = 0; index < view.size(); index++) {
+            Block b = view.getBlock(index);
+            if (b.getType() != Block.BlockType.EXCEPTION_BLOCK) {
+                continue;
+            }
+            ExceptionBlock eb = (ExceptionBlock) b;
+            if (eb.getExceptionalSuccessors().isEmpty()) {
+                continue;
+            }
+            Block succ = eb.getSuccessor();
+            while (succ != null
+                    && succ.getType() == Block.BlockType.REGULAR_BLOCK
+                    && hasSinglePredecessor(view, succ)) {
+                succ = ((RegularBlock) succ).getSuccessor();
+            }
+            if (succ != null
+                    && succ.getType() == Block.BlockType.EXCEPTION_BLOCK
+                    && view.getIndex(succ) > index
+                    && hasSinglePredecessor(view, succ)
+                    && ((ExceptionBlock) succ)
+                            .getExceptionalSuccessors()
+                            .equals(eb.getExceptionalSuccessors())) {
+                next.put(eb, (ExceptionBlock) succ);
+                hasPrevious.set(view.getIndex(succ));
+            }
+        }
+
+        exceptionalRunEnds = new IdentityHashMap<>();
+        for (ExceptionBlock first : next.keySet()) {
+            if (hasPrevious.get(view.getIndex(first))) {
+                continue;
+            }
+            List<ExceptionBlock> run = new ArrayList<>();
+            for (ExceptionBlock eb = first; eb != null; eb = next.get(eb)) {
+                run.add(eb);
+            }
+            ExceptionBlock end = run.get(run.size() - 1);
+            for (ExceptionBlock eb : run) {
+                exceptionalRunEnds.put(eb, end);
+            }
+        }
+        exceptionalRunStores = new IdentityHashMap<>();
+    }
+
+    /** Returns true if {@code block} has exactly one predecessor in {@code view}. */
+    private static boolean hasSinglePredecessor(CompactCFGView view, Block block) {
+        int index = view.getIndex(block);
+        return view.getPredecessorsEnd(index) - view.getPredecessorsStart(index) == 1;
+    }
+
+    /**
+     * Perform the narrowing rounds (see {@link #setNarrowingIterations}), and then recompute the
+     * abstract values of the nodes from the final stores.
+     */
+    protected void narrow() {
+        CompactCFGView view = worklist.view;
+        Block entry = cfg.getEntryBlock();
+        TransferInput<A, S> entryInput = inputs.get(entry);
+        for (int round = 0; round <= narrowingIterations; round++) {
+            IdentityHashMap<Block, TransferInput<A, S>> previousInputs = inputs;
+            IdentityHashMap<Block, S> previousThenStores = thenStores;
+            IdentityHashMap<Block, S> previousElseStores = elseStores;
+            narrowingInputs = previousInputs;
+            if (exceptionalRunStores != null) {
+                exceptionalRunStores.clear();
+            }
+            inputs = new IdentityHashMap<>();
+            thenStores = new IdentityHashMap<>();
+            elseStores = new IdentityHashMap<>();
+            inputs.put(entry, entryInput);
+            thenStores.put(entry, previousThenStores.get(entry));
+            elseStores.put(entry, previousElseStores.get(entry));
+            for (int index = 0; index < view.size(); index++) {
+                Block b = view.getBlock(index);
+                if (previousInputs.containsKey(b)) {
+                    analyzeBlock(b);
+                }
+            }
+            narrowingInputs = null;
+            if (round == narrowingIterations) {
+                // The last round only recomputed the node values from the final stores.
+                inputs = previousInputs;
+                thenStores = previousThenStores;
+                elseStores = previousElseStores;
+            }
+        }
+    }
+
     /** Initialize the analysis with a new control flow graph. */
     protected void init(ControlFlowGraph cfg) {
         this.cfg = cfg;
@@ -435,6 +770,15 @@ public class Analysis<
         worklist = new Worklist(cfg);
         nodeValues = new IdentityHashMap<>();
         finalLocalValues = new HashMap<>();
+        checkpoints = checkpointInterval > 0 ? new IdentityHashMap<>() : null;
+        widened = false;
+        iterationCount = 0;
+        narrowingInputs = null;
+        exceptionalRunEnds = null;
+        exceptionalRunStores = null;
+        if (coalesceExceptionalEdges) {
+            computeExceptionalRuns();
+        }
         worklist.add(cfg.getEntryBlock());
 
         List<LocalVariableNode> parameters = null;
@@ -472,7 +816,6 @@ public class Analysis<
      * Add a basic block to the worklist. If {@code b} is already present, the method does nothing.
      */
     protected void addToWorklist(Block b) {
-        // TODO: use a more efficient way to check if b is already present
         if (!worklist.contains(b)) {
             worklist.add(b);
         }
@@ -487,13 +830,17 @@ public class Analysis<
         S thenStore = getStoreBefore(b, Store.Kind.THEN);
         S elseStore = getStoreBefore(b, Store.Kind.ELSE);
         boolean shouldWiden = false;
-        if (blockCount != null) {
+        if (blockCount != null
+                && narrowingInputs == null
+                && (wideningStrategy == WideningStrategy.EVERY_BLOCK
+                        || worklist.view.isLoopHead(worklist.view.getIndex(b)))) {
             Integer count = blockCount.get(b);
             if (count == null) {
                 count = 0;
             }
             shouldWiden = count >= maxCountBeforeWidening;
             if (shouldWiden) {
+                widened = true;
                 blockCount.put(b, 0);
             } else {
                 blockCount.put(b, count + 1);
@@ -559,7 +906,7 @@ public class Analysis<
                 }
         }
 
-        if (addBlockToWorklist) {
+        if (addBlockToWorklist && narrowingInputs == null) {
             addToWorklist(b);
         }
     }
@@ -577,31 +924,21 @@ public class Analysis<
     /**
      * A worklist is a priority queue of blocks in which the order is given by depth-first ordering
      * to place non-loop predecessors ahead of successors.
+     *
+     * <p>The blocks are identified by their index in the {@link CompactCFGView} of the CFG, which
+     * numbers them in that order, so the queue is a bit set and none of its operations allocate.
      */
     protected static class Worklist {
 
-        /** Map all blocks in the CFG to their depth-first order. */
-        protected IdentityHashMap<Block, Integer> depthFirstOrder;
+        /** The view of the CFG that numbers the blocks in depth-first order. */
+        protected final CompactCFGView view;
 
-        /** Comparator to allow priority queue to order blocks by their depth-first order. */
-        public class DFOComparator implements Comparator<Block> {
-            @Override
-            public int compare(Block b1, Block b2) {
-                return depthFirstOrder.get(b1) - depthFirstOrder.get(b2);
-            }
-        }
-
-        /** The backing priority queue. */
-        protected PriorityQueue<Block> queue;
+        /** The backing priority queue: the indices of the blocks in the worklist. */
+        protected final BitSet queue;
 
         public Worklist(ControlFlowGraph cfg) {
-            depthFirstOrder = new IdentityHashMap<>();
-            int count = 1;
-            for (Block b : cfg.getDepthFirstOrderedBlocks()) {
-                depthFirstOrder.put(b, count++);
-            }
-
-            queue = new PriorityQueue<Block>(11, new DFOComparator());
+            view = cfg.getCompactView();
+            queue = new BitSet(view.size());
         }
 
         public boolean isEmpty() {
@@ -609,20 +946,32 @@ public class Analysis<
         }
 
         public boolean contains(Block block) {
-            return queue.contains(block);
+            int index = view.getIndex(block);
+            return index >= 0 && queue.get(index);
         }
 
         public void add(Block block) {
-            queue.add(block);
+            int index = view.getIndex(block);
+            assert index >= 0 : "block not reachable from the entry block: " + block;
+            queue.set(index);
         }
 
         public Block poll() {
-            return queue.poll();
+            int index = queue.nextSetBit(0);
+            if (index < 0) {
+                return null;
+            }
+            queue.clear(index);
+            return view.getBlock(index);
         }
 
         @Override
         public String toString() {
-            return "Worklist(" + queue + ")";
+            List<Block> blocks = new ArrayList<>();
+            for (int index = queue.nextSetBit(0); index >= 0; index = queue.nextSetBit(index + 1)) {
+                blocks.add(view.getBlock(index));
+            }
+            return "Worklist(" + blocks + ")";
         }
     }
 
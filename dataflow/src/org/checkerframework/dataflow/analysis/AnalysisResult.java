@@ -104,6 +104,21 @@ public class AnalysisResult<A extends AbstractValue<A>, S extends Store<S>> {
         generatedTreesLookup.putAll(other.generatedTreesLookup);
     }
 
+    /**
+     * Returns the number of entries held by this result: abstract values, tree mappings, and block
+     * inputs. It is a measure of the memory that this result retains.
+     *
+     * @return the number of entries held by this result
+     */
+    public int size() {
+        return nodeValues.size()
+                + treeLookup.size()
+                + unaryAssignNodeLookup.size()
+                + stores.size()
+                + finalLocalValues.size()
+                + generatedTreesLookup.size();
+    }
+
     /** @return the value of effectively final local variables */
     public HashMap<Element, A> getFinalLocalValues() {
         return finalLocalValues;
@@ -216,6 +231,10 @@ public class AnalysisResult<A extends AbstractValue<A>, S extends Store<S>> {
      * {@code transferInput} is not in {@code analysisCaches}, this method create new cache and
      * store it in {@code analysisCaches}. The cache is a map from a node to the analysis result of
      * the node.
+     *
+     * <p>If the analysis recorded checkpoints (see {@link Analysis#setCheckpointInterval}) for the
+     * block of {@code node}, the analysis is run again only from the last checkpoint before {@code
+     * node}.
      */
     public static <A extends AbstractValue<A>, S extends Store<S>> S runAnalysisFor(
             Node node,
@@ -251,9 +270,27 @@ public class AnalysisResult<A extends AbstractValue<A>, S extends Store<S>> {
                         RegularBlock rb = (RegularBlock) block;
 
                         // Apply transfer function to contents until we found the node we are looking for.
+                        // Start from the last checkpoint before the node, if there is one.
+                        List<Node> contents = rb.getContents();
                         TransferInput<A, S> store = transferInput;
+                        int start = 0;
+                        if (analysis.checkpoints != null) {
+                            int index = 0;
+                            for (Node n : contents) {
+                                TransferInput<A, S> checkpoint =
+                                        analysis.getCheckpoint(n, transferInput);
+                                if (checkpoint != null) {
+                                    store = checkpoint;
+                                    start = index;
+                                }
+                                if (n == node) {
+                                    break;
+                                }
+                                index++;
+                            }
+                        }
                         TransferResult<A, S> transferResult = null;
-                        for (Node n : rb.getContents()) {
+                        for (Node n : contents.subList(start, contents.size())) {
                             analysis.currentNode = n;
                             if (n == node && before) {
                                 return store.getRegularStore();
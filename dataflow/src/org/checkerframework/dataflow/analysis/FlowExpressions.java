@@ -396,6 +396,13 @@ public class FlowExpressions {
     public abstract static class Receiver {
         protected final TypeMirror type;
 
+        /**
+         * The hash code of this receiver, or 0 if it has not been computed yet. Receivers are the
+         * keys of the maps of every store, and are immutable, so their hash codes are computed
+         * once.
+         */
+        private int cachedHashCode = 0;
+
         public Receiver(TypeMirror type) {
             assert type != null;
             this.type = type;
@@ -405,6 +412,24 @@ public class FlowExpressions {
             return type;
         }
 
+        @Override
+        public int hashCode() {
+            if (cachedHashCode == 0) {
+                cachedHashCode = computeHashCode();
+            }
+            return cachedHashCode;
+        }
+
+        /**
+         * Computes the hash code of this receiver, which {@link #hashCode} caches. Subclasses that
+         * override {@code equals} override this method rather than {@code hashCode}.
+         *
+         * @return the hash code of this receiver
+         */
+        protected int computeHashCode() {
+            return super.hashCode();
+        }
+
         public abstract boolean containsOfClass(Class<? extends FlowExpressions.Receiver> clazz);
 
         public boolean containsUnknown() {
@@ -481,12 +506,15 @@ public class FlowExpressions {
             if (obj == null || !(obj instanceof FieldAccess)) {
                 return false;
             }
+            if (obj == this) {
+                return true;
+            }
             FieldAccess fa = (FieldAccess) obj;
             return fa.getField().equals(getField()) && fa.getReceiver().equals(getReceiver());
         }
 
         @Override
-        public int hashCode() {
+        protected int computeHashCode() {
             return HashCodeUtils.hash(getField(), getReceiver());
         }
 
@@ -595,7 +623,7 @@ public class FlowExpressions {
         }
 
         @Override
-        public int hashCode() {
+        protected int computeHashCode() {
             return HashCodeUtils.hash(typeString);
         }
 
@@ -664,6 +692,15 @@ public class FlowExpressions {
     public static class LocalVariable extends Receiver {
         protected Element element;
 
+        /**
+         * The unannotated type of the variable as a string, or null if it has not been computed
+         * yet.
+         */
+        private String typeString = null;
+
+        /** The owner of the variable as a string, or null if it has not been computed yet. */
+        private String ownerString = null;
+
         public LocalVariable(LocalVariableNode localVar) {
             super(localVar.getType());
             this.element = localVar.getElement();
@@ -680,6 +717,9 @@ public class FlowExpressions {
                 return false;
             }
             LocalVariable other = (LocalVariable) obj;
+            if (other.element == element) {
+                return true;
+            }
             VarSymbol vs = (VarSymbol) element;
             VarSymbol vsother = (VarSymbol) other.element;
             // Use TypeAnnotationUtils.unannotatedType(type).toString().equals(...) instead of Types.isSameType(...)
@@ -687,10 +727,25 @@ public class FlowExpressions {
             // designed to be independent of processing environment.  See also
             // calls to getType().toString() in FlowExpressions.
             return vsother.name.contentEquals(vs.name)
-                    && TypeAnnotationUtils.unannotatedType(vsother.type)
-                            .toString()
-                            .equals(TypeAnnotationUtils.unannotatedType(vs.type).toString())
-                    && vsother.owner.toString().equals(vs.owner.toString());
+                    && other.getTypeString().equals(getTypeString())
+                    && other.getOwnerString().equals(getOwnerString());
+        }
+
+        /** @return the unannotated type of the variable as a string */
+        private String getTypeString() {
+            if (typeString == null) {
+                typeString =
+                        TypeAnnotationUtils.unannotatedType(((VarSymbol) element).type).toString();
+            }
+            return typeString;
+        }
+
+        /** @return the owner of the variable as a string */
+        private String getOwnerString() {
+            if (ownerString == null) {
+                ownerString = ((VarSymbol) element).owner.toString();
+            }
+            return ownerString;
         }
 
         public Element getElement() {
@@ -698,12 +753,9 @@ public class FlowExpressions {
         }
 
         @Override
-        public int hashCode() {
+        protected int computeHashCode() {
             VarSymbol vs = (VarSymbol) element;
-            return HashCodeUtils.hash(
-                    vs.name.toString(),
-                    TypeAnnotationUtils.unannotatedType(vs.type).toString(),
-                    vs.owner.toString());
+            return HashCodeUtils.hash(vs.name.toString(), getTypeString(), getOwnerString());
         }
 
         @Override
@@ -740,6 +792,9 @@ public class FlowExpressions {
 
         protected final Object value;
 
+        /** The type of the literal as a string, or null if it has not been computed yet. */
+        private String typeString = null;
+
         public ValueLiteral(TypeMirror type, ValueLiteralNode node) {
             super(type);
             value = node.getValue();
@@ -765,11 +820,22 @@ public class FlowExpressions {
             if (obj == null || !(obj instanceof ValueLiteral)) {
                 return false;
             }
+            if (obj == this) {
+                return true;
+            }
             ValueLiteral other = (ValueLiteral) obj;
             if (value == null) {
-                return type.toString().equals(other.type.toString()) && other.value == null;
+                return getTypeString().equals(other.getTypeString()) && other.value == null;
             }
-            return type.toString().equals(other.type.toString()) && value.equals(other.value);
+            return getTypeString().equals(other.getTypeString()) && value.equals(other.value);
+        }
+
+        /** @return the type of the literal as a string */
+        private String getTypeString() {
+            if (typeString == null) {
+                typeString = type.toString();
+            }
+            return typeString;
         }
 
         @Override
@@ -783,8 +849,8 @@ public class FlowExpressions {
         }
 
         @Override
-        public int hashCode() {
-            return HashCodeUtils.hash(value, type.toString());
+        protected int computeHashCode() {
+            return HashCodeUtils.hash(value, getTypeString());
         }
 
         @Override
@@ -913,6 +979,9 @@ public class FlowExpressions {
             if (obj == null || !(obj instanceof MethodCall)) {
                 return false;
             }
+            if (obj == this) {
+                return true;
+            }
             MethodCall other = (MethodCall) obj;
             int i = 0;
             for (Receiver p : parameters) {
@@ -925,7 +994,7 @@ public class FlowExpressions {
         }
 
         @Override
-        public int hashCode() {
+        protected int computeHashCode() {
             int hash = HashCodeUtils.hash(method, receiver);
             for (Receiver p : parameters) {
                 hash = HashCodeUtils.hash(hash, p);
@@ -1026,12 +1095,15 @@ public class FlowExpressions {
             if (obj == null || !(obj instanceof ArrayAccess)) {
                 return false;
             }
+            if (obj == this) {
+                return true;
+            }
             ArrayAccess other = (ArrayAccess) obj;
             return receiver.equals(other.receiver) && index.equals(other.index);
         }
 
         @Override
-        public int hashCode() {
+        protected int computeHashCode() {
             return HashCodeUtils.hash(receiver, index);
         }
 
@@ -1082,7 +1154,7 @@ public class FlowExpressions {
         }
 
         @Override
-        public int hashCode() {
+        protected int computeHashCode() {
             final int prime = 31;
             int result = 1;
             result = prime * result + ((dimensions == null) ? 0 : dimensions.hashCode());
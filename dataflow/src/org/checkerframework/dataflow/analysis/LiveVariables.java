@@ -0,0 +1,201 @@
+package org.checkerframework.dataflow.analysis;
+
+import com.sun.source.tree.VariableTree;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.dataflow.cfg.CompactCFGView;
+import org.checkerframework.dataflow.cfg.ControlFlowGraph;
+import org.checkerframework.dataflow.cfg.UnderlyingAST;
+import org.checkerframework.dataflow.cfg.UnderlyingAST.CFGLambda;
+import org.checkerframework.dataflow.cfg.UnderlyingAST.CFGMethod;
+import org.checkerframework.dataflow.cfg.block.Block;
+import org.checkerframework.dataflow.cfg.block.ExceptionBlock;
+import org.checkerframework.dataflow.cfg.block.RegularBlock;
+import org.checkerframework.dataflow.cfg.node.AssignmentNode;
+import org.checkerframework.dataflow.cfg.node.FunctionalInterfaceNode;
+import org.checkerframework.dataflow.cfg.node.LocalVariableNode;
+import org.checkerframework.dataflow.cfg.node.Node;
+import org.checkerframework.javacutil.TreeUtils;
+
+/**
+ * The local variables that are live before each basic block of a control flow graph, that is,
+ * whose current value may still be read.
+ *
+ * <p>Liveness is a backward problem: a variable is live before a block if the block reads it
+ * before assigning it, or if the block does not assign it and it is live before a successor of the
+ * block. It is solved over the {@link CompactCFGView} of the CFG, with a bit set of variables per
+ * block, when the object is created.
+ *
+ * <p>A client may drop the information about a variable that is not live, so the analysis errs on
+ * the side of liveness:
+ *
+ * <ul>
+ *   <li>the parameters of the method or lambda are live at its exits, where postconditions may
+ *       refer to them;
+ *   <li>a lambda or method reference may read any variable in scope, since its body is analyzed
+ *       starting from the store before it;
+ *   <li>the node of an exception block does not kill the variable that it assigns, since the
+ *       exceptional successors of the block see the store before the node;
+ *   <li>a variable that is neither read nor assigned in the CFG, such as a variable of an
+ *       enclosing method, is live everywhere.
+ * </ul>
+ */
+public class LiveVariables {
+
+    /** The view of the CFG, whose block indices index {@link #liveBefore}. */
+    private final CompactCFGView view;
+
+    /** Maps each variable that is read or assigned in the CFG to its index in the bit sets. */
+    private final Map<FlowExpressions.LocalVariable, Integer> variables = new HashMap<>();
+
+    /** The variables that are live before each block. */
+    private final BitSet[] liveBefore;
+
+    /**
+     * Computes the live variables of {@code cfg}, which must be complete.
+     *
+     * @param cfg a control flow graph
+     */
+    public LiveVariables(ControlFlowGraph cfg) {
+        view = cfg.getCompactView();
+        int n = view.size();
+
+        // Number the variables first, so that a lambda can read all of them.
+        BitSet parameters = getParameters(cfg.getUnderlyingAST());
+        for (int i = 0; i < n; i++) {
+            for (Node node : getNodes(view.getBlock(i))) {
+                if (node instanceof LocalVariableNode) {
+                    indexOf((LocalVariableNode) node);
+                }
+            }
+        }
+
+        // The variables that each block reads before assigning them, and those it assigns.
+        BitSet[] gen = new BitSet[n];
+        BitSet[] kill = new BitSet[n];
+        for (int i = 0; i < n; i++) {
+            gen[i] = new BitSet();
+            kill[i] = new BitSet();
+            Block block = view.getBlock(i);
+            boolean killsAssigned = block.getType() != Block.BlockType.EXCEPTION_BLOCK;
+            List<Node> nodes = getNodes(block);
+            for (int k = nodes.size() - 1; k >= 0; k--) {
+                Node node = nodes.get(k);
+                if (node instanceof AssignmentNode) {
+                    Node target = ((AssignmentNode) node).getTarget();
+                    if (killsAssigned && target instanceof LocalVariableNode) {
+                        int var = indexOf((LocalVariableNode) target);
+                        gen[i].clear(var);
+                        kill[i].set(var);
+                    }
+                } else if (node instanceof LocalVariableNode) {
+                    if (!node.isLValue()) {
+                        gen[i].set(indexOf((LocalVariableNode) node));
+                    }
+                } else if (node instanceof FunctionalInterfaceNode) {
+                    gen[i].set(0, variables.size());
+                }
+            }
+        }
+        for (Block exit : new Block[] {cfg.getRegularExitBlock(), cfg.getExceptionalExitBlock()}) {
+            int index = view.getIndex(exit);
+            if (index >= 0) {
+                gen[index].or(parameters);
+            }
+        }
+
+        // Iterate in postorder, which visits the successors of a block before it except along
+        // back edges, until the sets are stable.
+        liveBefore = new BitSet[n];
+        for (int i = 0; i < n; i++) {
+            liveBefore[i] = new BitSet();
+        }
+        BitSet live = new BitSet();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = n - 1; i >= 0; i--) {
+                live.clear();
+                for (int k = view.getSuccessorsStart(i); k < view.getSuccessorsEnd(i); k++) {
+                    live.or(liveBefore[view.getSuccessor(k)]);
+                }
+                live.andNot(kill[i]);
+                live.or(gen[i]);
+                if (!live.equals(liveBefore[i])) {
+                    liveBefore[i] = (BitSet) live.clone();
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    /** Returns the nodes of {@code block}, in execution order. */
+    private static List<Node> getNodes(Block block) {
+        switch (block.getType()) {
+            case REGULAR_BLOCK:
+                return ((RegularBlock) block).getContents();
+            case EXCEPTION_BLOCK:
+                return Collections.singletonList(((ExceptionBlock) block).getNode());
+            default:
+                return Collections.emptyList();
+        }
+    }
+
+    /** Returns the index of the variable of {@code node}, numbering it if it is new. */
+    private int indexOf(LocalVariableNode node) {
+        return indexOf(new FlowExpressions.LocalVariable(node));
+    }
+
+    /** Returns the index of {@code var}, numbering it if it is new. */
+    private int indexOf(FlowExpressions.LocalVariable var) {
+        Integer index = variables.get(var);
+        if (index == null) {
+            index = variables.size();
+            variables.put(var, index);
+        }
+        return index;
+    }
+
+    /** Returns the indices of the parameters of the method or lambda of {@code ast}. */
+    private BitSet getParameters(UnderlyingAST ast) {
+        List<? extends VariableTree> parameters;
+        switch (ast.getKind()) {
+            case METHOD:
+                parameters = ((CFGMethod) ast).getMethod().getParameters();
+                break;
+            case LAMBDA:
+                parameters = ((CFGLambda) ast).getLambdaTree().getParameters();
+                break;
+            default:
+                return new BitSet();
+        }
+        BitSet result = new BitSet();
+        for (VariableTree parameter : parameters) {
+            result.set(
+                    indexOf(
+                            new FlowExpressions.LocalVariable(
+                                    TreeUtils.elementFromDeclaration(parameter))));
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether {@code var} may be read after the beginning of {@code block} before it is
+     * assigned.
+     *
+     * @param block a block of the CFG
+     * @param var a local variable
+     * @return false if the value of {@code var} before {@code block} is never read
+     */
+    public boolean isLiveBefore(Block block, FlowExpressions.LocalVariable var) {
+        Integer index = variables.get(var);
+        if (index == null) {
+            return true;
+        }
+        int blockIndex = view.getIndex(block);
+        return blockIndex < 0 || liveBefore[blockIndex].get(index);
+    }
+}
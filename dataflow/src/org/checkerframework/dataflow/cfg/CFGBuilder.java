@@ -471,7 +471,7 @@ public class CFGBuilder {
         protected Node node;
         /**
          * Map from exception type to labels of successors that may be reached as a result of that
-         * exception.
+         * exception. The map may be shared with other nodes, and must not be modified.
          */
         protected Map<TypeMirror, Set<Label>> exceptions;
 
@@ -728,6 +728,19 @@ public class CFGBuilder {
         protected Label exitLabel;
         protected LinkedList<TryFrame> frames;
 
+        /**
+         * The result of {@link #possibleLabels(TypeMirror)} for each exception type, for the
+         * current frames. Emptied whenever a frame is pushed or popped.
+         */
+        protected final Map<TypeMirror, Set<Label>> labelsCache = new HashMap<>();
+
+        /**
+         * The result of {@link #possibleLabels(Set)} for each set of exception types, for the
+         * current frames. Emptied whenever a frame is pushed or popped.
+         */
+        protected final Map<Set<TypeMirror>, Map<TypeMirror, Set<Label>>> exceptionsCache =
+                new HashMap<>();
+
         public TryStack(Label exitLabel) {
             this.exitLabel = exitLabel;
             this.frames = new LinkedList<>();
@@ -735,17 +748,51 @@ public class CFGBuilder {
 
         public void pushFrame(TryFrame frame) {
             frames.addFirst(frame);
+            labelsCache.clear();
+            exceptionsCache.clear();
         }
 
         public void popFrame() {
             frames.removeFirst();
+            labelsCache.clear();
+            exceptionsCache.clear();
         }
 
         /**
          * Returns the set of possible {@link Label}s where control may transfer when an exception
-         * of the given type is thrown.
+         * of the given type is thrown. The returned set is shared and must not be modified.
          */
         public Set<Label> possibleLabels(TypeMirror thrown) {
+            Set<Label> labels = labelsCache.get(thrown);
+            if (labels == null) {
+                labels = computePossibleLabels(thrown);
+                labelsCache.put(thrown, labels);
+            }
+            return labels;
+        }
+
+        /**
+         * Returns a map from each of the given exception types to the set of possible {@link
+         * Label}s where control may transfer when an exception of that type is thrown.
+         *
+         * <p>All nodes of a try block that may throw the same exceptions share one map, so large
+         * try blocks do not need a map per node. The returned map is unmodifiable.
+         */
+        public Map<TypeMirror, Set<Label>> possibleLabels(Set<TypeMirror> causes) {
+            Map<TypeMirror, Set<Label>> exceptions = exceptionsCache.get(causes);
+            if (exceptions == null) {
+                exceptions = new HashMap<>();
+                for (TypeMirror cause : causes) {
+                    exceptions.put(cause, possibleLabels(cause));
+                }
+                exceptions = Collections.unmodifiableMap(exceptions);
+                exceptionsCache.put(new HashSet<>(causes), exceptions);
+            }
+            return exceptions;
+        }
+
+        /** Computes the result of {@link #possibleLabels(TypeMirror)} for the current frames. */
+        protected Set<Label> computePossibleLabels(TypeMirror thrown) {
             // Work up from the innermost frame until the exception is known to
             // be caught.
             Set<Label> labels = new MostlySingleton<>();
@@ -880,9 +927,11 @@ public class CFGBuilder {
                 }
             }
 
-            // collect all reachable trees
+            // collect all reachable trees, and share equal sets of exceptional successors
             final Set<Tree> allReachableTrees =
                     Collections.newSetFromMap(new IdentityHashMap<Tree, Boolean>());
+            Map<Map<TypeMirror, Set<Block>>, Map<TypeMirror, Set<Block>>> exceptionalSuccessors =
+                    new HashMap<>();
             for (Block b : cfg.getAllBlocks()) {
                 if (b instanceof RegularBlock) {
                     for (Node n : ((RegularBlock) b).getContents()) {
@@ -896,6 +945,7 @@ public class CFGBuilder {
                     if (tree != null) {
                         allReachableTrees.add(tree);
                     }
+                    ((ExceptionBlockImpl) b).shareExceptionalSuccessors(exceptionalSuccessors);
                 }
             }
 
@@ -1713,11 +1763,8 @@ public class CFGBuilder {
         protected NodeWithExceptionsHolder extendWithNodeWithExceptions(
                 Node node, Set<TypeMirror> causes) {
             addToLookupMap(node);
-            Map<TypeMirror, Set<Label>> exceptions = new HashMap<>();
-            for (TypeMirror cause : causes) {
-                exceptions.put(cause, tryStack.possibleLabels(cause));
-            }
-            NodeWithExceptionsHolder exNode = new NodeWithExceptionsHolder(node, exceptions);
+            NodeWithExceptionsHolder exNode =
+                    new NodeWithExceptionsHolder(node, tryStack.possibleLabels(causes));
             extendWithExtendedNode(exNode);
             return exNode;
         }
@@ -1748,11 +1795,8 @@ public class CFGBuilder {
         protected NodeWithExceptionsHolder insertNodeWithExceptionsAfter(
                 Node node, Set<TypeMirror> causes, Node pred) {
             addToLookupMap(node);
-            Map<TypeMirror, Set<Label>> exceptions = new HashMap<>();
-            for (TypeMirror cause : causes) {
-                exceptions.put(cause, tryStack.possibleLabels(cause));
-            }
-            NodeWithExceptionsHolder exNode = new NodeWithExceptionsHolder(node, exceptions);
+            NodeWithExceptionsHolder exNode =
+                    new NodeWithExceptionsHolder(node, tryStack.possibleLabels(causes));
             insertExtendedNodeAfter(exNode, pred);
             return exNode;
         }
@@ -0,0 +1,248 @@
+package org.checkerframework.dataflow.cfg;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.type.TypeMirror;
+import org.checkerframework.dataflow.cfg.block.Block;
+import org.checkerframework.dataflow.cfg.block.Block.BlockType;
+import org.checkerframework.dataflow.cfg.block.ExceptionBlock;
+
+/**
+ * An immutable, array-based view of the blocks and edges of a complete {@link ControlFlowGraph}.
+ *
+ * <p>The reachable blocks are numbered from 0 in reverse postorder, so the entry block is block 0.
+ * The edges are stored in compressed-sparse-row form: the successors of block {@code i} are {@code
+ * getSuccessor(k)} for {@code getSuccessorsStart(i) <= k < getSuccessorsEnd(i)}, and likewise for
+ * predecessors and exceptional edges. Traversing the graph with these methods does not allocate.
+ *
+ * <p>An edge from a block to a block that does not come after it in this order is a back edge, and
+ * its target is a loop head: every cycle of the graph contains a loop head.
+ *
+ * <p>A view is obtained from {@link ControlFlowGraph#getCompactView}, which builds it once per CFG.
+ * It must not be obtained while the CFG is still being built.
+ */
+public final class CompactCFGView {
+
+    /** The reachable blocks, in reverse postorder. */
+    private final Block[] blocks;
+
+    /** Maps each reachable block to its index in {@link #blocks}. */
+    private final IdentityHashMap<Block, Integer> indices;
+
+    /**
+     * The successors of block {@code i}, regular and exceptional and without duplicates, are at
+     * {@code successors[successorsStart[i]]} to {@code successors[successorsStart[i + 1] - 1]}.
+     */
+    private final int[] successorsStart;
+
+    /** The block indices of the successors; see {@link #successorsStart}. */
+    private final int[] successors;
+
+    /** The predecessors of each block, in the same form as {@link #successorsStart}. */
+    private final int[] predecessorsStart;
+
+    /** The block indices of the predecessors; see {@link #predecessorsStart}. */
+    private final int[] predecessors;
+
+    /** The exceptional edges of each block, in the same form as {@link #successorsStart}. */
+    private final int[] exceptionalEdgesStart;
+
+    /** The block indices of the targets of the exceptional edges. */
+    private final int[] exceptionalTargets;
+
+    /** The exception type of each exceptional edge. */
+    private final TypeMirror[] exceptionalCauses;
+
+    /** The indices of the targets of back edges. */
+    private final BitSet loopHeads;
+
+    /** Builds the view of {@code cfg}, which must be complete. */
+    CompactCFGView(ControlFlowGraph cfg) {
+        blocks = computeReversePostorder(cfg.getEntryBlock());
+        int n = blocks.length;
+        indices = new IdentityHashMap<>(n);
+        for (int i = 0; i < n; i++) {
+            indices.put(blocks[i], i);
+        }
+
+        // Successors, without duplicates, and exceptional edges.
+        successorsStart = new int[n + 1];
+        exceptionalEdgesStart = new int[n + 1];
+        int[] succs = new int[2 * n + 1];
+        int succCount = 0;
+        int[] lastAddedBy = new int[n];
+        Arrays.fill(lastAddedBy, -1);
+        List<Integer> excTargets = new ArrayList<>();
+        List<TypeMirror> excCauses = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            successorsStart[i] = succCount;
+            exceptionalEdgesStart[i] = excTargets.size();
+            for (Block succ : ControlFlowGraph.getSuccessors(blocks[i])) {
+                int succIndex = indices.get(succ);
+                if (lastAddedBy[succIndex] != i) {
+                    lastAddedBy[succIndex] = i;
+                    if (succCount == succs.length) {
+                        succs = Arrays.copyOf(succs, 2 * succCount);
+                    }
+                    succs[succCount++] = succIndex;
+                }
+            }
+            if (blocks[i].getType() == BlockType.EXCEPTION_BLOCK) {
+                ExceptionBlock eb = (ExceptionBlock) blocks[i];
+                for (Map.Entry<TypeMirror, Set<Block>> entry :
+                        eb.getExceptionalSuccessors().entrySet()) {
+                    for (Block succ : entry.getValue()) {
+                        excTargets.add(indices.get(succ));
+                        excCauses.add(entry.getKey());
+                    }
+                }
+            }
+        }
+        successorsStart[n] = succCount;
+        exceptionalEdgesStart[n] = excTargets.size();
+        successors = Arrays.copyOf(succs, succCount);
+        exceptionalTargets = new int[excTargets.size()];
+        for (int k = 0; k < exceptionalTargets.length; k++) {
+            exceptionalTargets[k] = excTargets.get(k);
+        }
+        exceptionalCauses = excCauses.toArray(new TypeMirror[excCauses.size()]);
+
+        loopHeads = new BitSet(n);
+        for (int i = 0; i < n; i++) {
+            for (int k = successorsStart[i]; k < successorsStart[i + 1]; k++) {
+                if (successors[k] <= i) {
+                    loopHeads.set(successors[k]);
+                }
+            }
+        }
+
+        // Predecessors, by transposing the successor arrays.
+        predecessorsStart = new int[n + 1];
+        for (int succ : successors) {
+            predecessorsStart[succ + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            predecessorsStart[i + 1] += predecessorsStart[i];
+        }
+        predecessors = new int[successors.length];
+        int[] next = Arrays.copyOf(predecessorsStart, n);
+        for (int i = 0; i < n; i++) {
+            for (int k = successorsStart[i]; k < successorsStart[i + 1]; k++) {
+                predecessors[next[successors[k]]++] = i;
+            }
+        }
+    }
+
+    /**
+     * Returns the blocks reachable from {@code entry} in reverse postorder. The graph is traversed
+     * as by {@link ControlFlowGraph#getDepthFirstOrderedBlocks}, so the blocks are in the same
+     * order as there, but each block appears once.
+     */
+    private static Block[] computeReversePostorder(Block entry) {
+        List<Block> postorder = new ArrayList<>();
+        IdentityHashMap<Block, Boolean> visited = new IdentityHashMap<>();
+        IdentityHashMap<Block, Boolean> finished = new IdentityHashMap<>();
+        Deque<Block> worklist = new ArrayDeque<>();
+        worklist.add(entry);
+        while (!worklist.isEmpty()) {
+            Block cur = worklist.getLast();
+            if (visited.containsKey(cur)) {
+                worklist.removeLast();
+                if (!finished.containsKey(cur)) {
+                    finished.put(cur, Boolean.TRUE);
+                    postorder.add(cur);
+                }
+            } else {
+                visited.put(cur, Boolean.TRUE);
+                for (Block succ : ControlFlowGraph.getSuccessors(cur)) {
+                    if (!visited.containsKey(succ)) {
+                        worklist.add(succ);
+                    }
+                }
+            }
+        }
+        Block[] result = new Block[postorder.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = postorder.get(result.length - 1 - i);
+        }
+        return result;
+    }
+
+    /** @return the number of reachable blocks */
+    public int size() {
+        return blocks.length;
+    }
+
+    /** @return the block with index {@code index} */
+    public Block getBlock(int index) {
+        return blocks[index];
+    }
+
+    /** @return the index of {@code block}, or -1 if it is not reachable from the entry block */
+    public int getIndex(Block block) {
+        Integer index = indices.get(block);
+        return index == null ? -1 : index;
+    }
+
+    /** @return whether block {@code index} is the target of a back edge */
+    public boolean isLoopHead(int index) {
+        return loopHeads.get(index);
+    }
+
+    /** @return the position of the first successor of block {@code index} */
+    public int getSuccessorsStart(int index) {
+        return successorsStart[index];
+    }
+
+    /** @return the position after the last successor of block {@code index} */
+    public int getSuccessorsEnd(int index) {
+        return successorsStart[index + 1];
+    }
+
+    /** @return the index of the successor at position {@code position} */
+    public int getSuccessor(int position) {
+        return successors[position];
+    }
+
+    /** @return the position of the first predecessor of block {@code index} */
+    public int getPredecessorsStart(int index) {
+        return predecessorsStart[index];
+    }
+
+    /** @return the position after the last predecessor of block {@code index} */
+    public int getPredecessorsEnd(int index) {
+        return predecessorsStart[index + 1];
+    }
+
+    /** @return the index of the predecessor at position {@code position} */
+    public int getPredecessor(int position) {
+        return predecessors[position];
+    }
+
+    /** @return the position of the first exceptional edge of block {@code index} */
+    public int getExceptionalEdgesStart(int index) {
+        return exceptionalEdgesStart[index];
+    }
+
+    /** @return the position after the last exceptional edge of block {@code index} */
+    public int getExceptionalEdgesEnd(int index) {
+        return exceptionalEdgesStart[index + 1];
+    }
+
+    /** @return the index of the target of the exceptional edge at position {@code position} */
+    public int getExceptionalTarget(int position) {
+        return exceptionalTargets[position];
+    }
+
+    /** @return the exception type of the exceptional edge at position {@code position} */
+    public TypeMirror getExceptionalCause(int position) {
+        return exceptionalCauses[position];
+    }
+}
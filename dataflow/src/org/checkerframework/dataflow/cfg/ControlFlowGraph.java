@@ -8,6 +8,7 @@ import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.Tree;
 import com.sun.source.tree.UnaryTree;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashSet;
@@ -69,6 +70,12 @@ public class ControlFlowGraph {
     /** Map from AST {@link Tree}s to generated {@link Tree}s. */
     protected final IdentityHashMap<Tree, List<Tree>> generatedTreesLookupMap;
 
+    /** The result of {@link #getDepthFirstOrderedBlocks}, or null if not computed yet. */
+    private List<Block> depthFirstOrderedBlocks = null;
+
+    /** The result of {@link #getCompactView}, or null if not built yet. */
+    private CompactCFGView compactView = null;
+
     public ControlFlowGraph(
             SpecialBlock entryBlock,
             SpecialBlockImpl regularExitBlock,
@@ -170,11 +177,33 @@ public class ControlFlowGraph {
 
     /**
      * @return the list of all basic block in this control flow graph in reversed depth-first
-     *     postorder sequence.
-     *     <p>Blocks may appear more than once in the sequence.
+     *     postorder sequence. The list is computed once and cannot be modified.
+     *     <p>Blocks may appear more than once in the sequence; {@link #getCompactView} numbers each
+     *     block once, in the same order.
      */
     public List<Block> getDepthFirstOrderedBlocks() {
-        List<Block> dfsOrderResult = new LinkedList<>();
+        if (depthFirstOrderedBlocks == null) {
+            depthFirstOrderedBlocks =
+                    Collections.unmodifiableList(computeDepthFirstOrderedBlocks());
+        }
+        return depthFirstOrderedBlocks;
+    }
+
+    /**
+     * Returns the array-based view of this control flow graph, building it the first time. The
+     * control flow graph must be complete.
+     *
+     * @return the array-based view of this control flow graph
+     */
+    public CompactCFGView getCompactView() {
+        if (compactView == null) {
+            compactView = new CompactCFGView(this);
+        }
+        return compactView;
+    }
+
+    private List<Block> computeDepthFirstOrderedBlocks() {
+        List<Block> dfsOrderResult = new ArrayList<>();
         Set<Block> visited = new HashSet<>();
         Deque<Block> worklist = new LinkedList<>();
         worklist.add(entryBlock);
@@ -200,7 +229,7 @@ public class ControlFlowGraph {
      *
      * @return a Deque of successor Blocks
      */
-    private Deque<Block> getSuccessors(Block cur) {
+    static Deque<Block> getSuccessors(Block cur) {
         Deque<Block> succs = new LinkedList<>();
         if (cur.getType() == BlockType.CONDITIONAL_BLOCK) {
             ConditionalBlock ccur = ((ConditionalBlock) cur);
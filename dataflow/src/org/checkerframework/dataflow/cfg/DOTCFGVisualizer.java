@@ -264,12 +264,11 @@ public class DOTCFGVisualizer<
 
     protected IdentityHashMap<Block, List<Integer>> getProcessOrder(ControlFlowGraph cfg) {
         IdentityHashMap<Block, List<Integer>> depthFirstOrder = new IdentityHashMap<>();
-        int count = 1;
-        for (Block b : cfg.getDepthFirstOrderedBlocks()) {
-            if (depthFirstOrder.get(b) == null) {
-                depthFirstOrder.put(b, new ArrayList<Integer>());
-            }
-            depthFirstOrder.get(b).add(count++);
+        CompactCFGView view = cfg.getCompactView();
+        for (int i = 0; i < view.size(); i++) {
+            List<Integer> order = new ArrayList<>();
+            order.add(i + 1);
+            depthFirstOrder.put(view.getBlock(i), order);
         }
         return depthFirstOrder;
     }
@@ -18,6 +18,12 @@ public class ExceptionBlockImpl extends SingleSuccessorBlockImpl implements Exce
     /** Set of exceptional successors. */
     protected Map<TypeMirror, Set<Block>> exceptionalSuccessors;
 
+    /**
+     * Whether {@link #exceptionalSuccessors} may be shared with other blocks, in which case it is
+     * copied before being modified.
+     */
+    protected boolean exceptionalSuccessorsShared = false;
+
     public ExceptionBlockImpl() {
         type = BlockType.EXCEPTION_BLOCK;
         exceptionalSuccessors = new HashMap<>();
@@ -41,6 +47,13 @@ public class ExceptionBlockImpl extends SingleSuccessorBlockImpl implements Exce
     public void addExceptionalSuccessor(BlockImpl b, TypeMirror cause) {
         if (exceptionalSuccessors == null) {
             exceptionalSuccessors = new HashMap<>();
+        } else if (exceptionalSuccessorsShared) {
+            Map<TypeMirror, Set<Block>> copy = new HashMap<>();
+            for (Map.Entry<TypeMirror, Set<Block>> entry : exceptionalSuccessors.entrySet()) {
+                copy.put(entry.getKey(), new HashSet<>(entry.getValue()));
+            }
+            exceptionalSuccessors = copy;
+            exceptionalSuccessorsShared = false;
         }
         Set<Block> blocks = exceptionalSuccessors.get(cause);
         if (blocks == null) {
@@ -51,6 +64,28 @@ public class ExceptionBlockImpl extends SingleSuccessorBlockImpl implements Exce
         b.addPredecessor(this);
     }
 
+    /**
+     * Shares the exceptional successors of this block with the blocks that have the same ones. In
+     * a large try block, many blocks can throw the same exceptions to the same handlers; sharing
+     * keeps one map for all of them.
+     *
+     * @param shared maps each set of exceptional successors seen so far to the instance that is
+     *     shared; updated by this method
+     */
+    public void shareExceptionalSuccessors(
+            Map<Map<TypeMirror, Set<Block>>, Map<TypeMirror, Set<Block>>> shared) {
+        if (exceptionalSuccessors == null) {
+            return;
+        }
+        Map<TypeMirror, Set<Block>> existing = shared.get(exceptionalSuccessors);
+        if (existing == null) {
+            shared.put(exceptionalSuccessors, exceptionalSuccessors);
+        } else {
+            exceptionalSuccessors = existing;
+        }
+        exceptionalSuccessorsShared = true;
+    }
+
     @Override
     public Map<TypeMirror, Set<Block>> getExceptionalSuccessors() {
         if (exceptionalSuccessors == null) {
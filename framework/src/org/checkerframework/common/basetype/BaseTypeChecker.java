@@ -27,6 +27,7 @@ import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic;
 import org.checkerframework.common.reflection.MethodValChecker;
 import org.checkerframework.dataflow.cfg.CFGVisualizer;
+import org.checkerframework.framework.flow.CFGCache;
 import org.checkerframework.framework.qual.SubtypeOf;
 import org.checkerframework.framework.source.SourceChecker;
 import org.checkerframework.framework.type.AnnotatedTypeFactory;
@@ -486,26 +487,81 @@ public abstract class BaseTypeChecker extends SourceChecker implements BaseTypeC
         Context context = ((JavacProcessingEnvironment) processingEnv).getContext();
         Log log = Log.instance(context);
 
-        int nerrorsOfAllPreviousCheckers = this.errsOnLastExit;
-        for (BaseTypeChecker subchecker : getSubcheckers()) {
-            subchecker.errsOnLastExit = nerrorsOfAllPreviousCheckers;
-            subchecker.messageStore = messageStore;
-            int errorsBeforeTypeChecking = log.nerrors;
+        // Attribute the work of all subcheckers to the class being processed.
+        boolean startedProfilingClass = startProfilingClass(element, tree);
+        try {
+            int nerrorsOfAllPreviousCheckers = this.errsOnLastExit;
+            for (BaseTypeChecker subchecker : getSubcheckers()) {
+                subchecker.errsOnLastExit = nerrorsOfAllPreviousCheckers;
+                subchecker.messageStore = messageStore;
+                int errorsBeforeTypeChecking = log.nerrors;
 
-            subchecker.typeProcess(element, tree);
+                subchecker.typeProcess(element, tree);
 
-            int errorsAfterTypeChecking = log.nerrors;
-            nerrorsOfAllPreviousCheckers += errorsAfterTypeChecking - errorsBeforeTypeChecking;
-        }
+                int errorsAfterTypeChecking = log.nerrors;
+                nerrorsOfAllPreviousCheckers += errorsAfterTypeChecking - errorsBeforeTypeChecking;
+            }
 
-        this.errsOnLastExit = nerrorsOfAllPreviousCheckers;
-        super.typeProcess(element, tree);
+            this.errsOnLastExit = nerrorsOfAllPreviousCheckers;
+            super.typeProcess(element, tree);
+        } finally {
+            stopProfilingClass(startedProfilingClass);
+        }
 
         if (getSubcheckers().size() > 0) {
             printCollectedMessages(tree.getCompilationUnit());
             // Update errsOnLastExit to reflect the errors issued.
             this.errsOnLastExit = log.nerrors;
         }
+
+        // A compound checker queries the type factories of its subcheckers, so their flow
+        // results are needed until the compound checker itself is done with the class.
+        if (!isSubchecker()) {
+            for (BaseTypeChecker subchecker : getSubcheckers()) {
+                classProcessingFinished(subchecker, element);
+            }
+            classProcessingFinished(this, element);
+            if (getSubcheckers().size() > 0) {
+                // No checker builds the CFGs of this class again.
+                CFGCache.instance(processingEnv).clear();
+            }
+        }
+    }
+
+    /**
+     * Returns true if this checker is a compound checker or one of its subcheckers, which all
+     * process each class in turn.
+     *
+     * @return whether this checker runs together with the other checkers of a compound checker
+     */
+    public boolean isPartOfCompoundChecker() {
+        return isSubchecker() || getSubcheckers().size() > 0;
+    }
+
+    /**
+     * Returns true if this checker is a subchecker of a compound checker.
+     *
+     * @return whether this checker is a subchecker
+     */
+    public boolean isSubchecker() {
+        return parentChecker instanceof BaseTypeChecker;
+    }
+
+    /** The compound checker of a subchecker queries its type factory. */
+    @Override
+    protected boolean hasDependentCheckers() {
+        return isSubchecker();
+    }
+
+    /**
+     * Tells the type factory of {@code checker}, if it has been created, that all checkers are
+     * done with {@code element}.
+     */
+    private static void classProcessingFinished(BaseTypeChecker checker, TypeElement element) {
+        GenericAnnotatedTypeFactory<?, ?, ?, ?> factory = checker.getTypeFactory();
+        if (factory != null) {
+            factory.classProcessingFinished(element);
+        }
     }
 
     /**
@@ -672,6 +728,55 @@ public abstract class BaseTypeChecker extends SourceChecker implements BaseTypeC
         }
     }
 
+    /** The number of entries listed by {@link #printLargest}. */
+    private static final int FLOW_RESULT_SIZES_TO_PRINT = 10;
+
+    /**
+     * Prints the classes of {@code checker} whose flow results were the largest, and the number of
+     * entries of those flow results, followed by the methods whose flow analysis performed the most
+     * basic block analyses, counting a block once for each time it was analyzed.
+     */
+    private static void printFlowResultSizes(BaseTypeChecker checker) {
+        GenericAnnotatedTypeFactory<?, ?, ?, ?> factory = checker.getTypeFactory();
+        if (factory == null) {
+            return;
+        }
+        String name = checker.getClass().getSimpleName();
+        printLargest(
+                "Largest retained flow results of " + name,
+                factory.getPeakFlowResultSizes(),
+                "entries");
+        printLargest(
+                "Most flow analysis iterations of " + name,
+                factory.getFlowIterationCounts(),
+                "block analyses");
+    }
+
+    /**
+     * Prints {@code title}, followed by the keys of {@code counts} with the largest values, and
+     * their values. Prints nothing if {@code counts} is empty.
+     */
+    private static void printLargest(String title, Map<String, Integer> counts, String unit) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, Integer>> sizes = new ArrayList<>(counts.entrySet());
+        Collections.sort(
+                sizes,
+                new Comparator<Map.Entry<String, Integer>>() {
+                    @Override
+                    public int compare(
+                            Map.Entry<String, Integer> o1, Map.Entry<String, Integer> o2) {
+                        return o2.getValue().compareTo(o1.getValue());
+                    }
+                });
+        System.out.println(title);
+        for (Map.Entry<String, Integer> size :
+                sizes.subList(0, Math.min(FLOW_RESULT_SIZES_TO_PRINT, sizes.size()))) {
+            System.out.println("  " + size.getKey() + ": " + size.getValue() + " " + unit);
+        }
+    }
+
     @Override
     protected boolean shouldAddShutdownHook() {
         if (super.shouldAddShutdownHook() || getTypeFactory().getCFGVisualizer() != null) {
@@ -689,6 +794,13 @@ public abstract class BaseTypeChecker extends SourceChecker implements BaseTypeC
     protected void shutdownHook() {
         super.shutdownHook();
 
+        if (hasOption("resourceStats")) {
+            printFlowResultSizes(this);
+            for (BaseTypeChecker checker : getSubcheckers()) {
+                printFlowResultSizes(checker);
+            }
+        }
+
         CFGVisualizer<?, ?, ?> viz = getTypeFactory().getCFGVisualizer();
         if (viz != null) {
             viz.shutdown();
@@ -109,6 +109,8 @@ import org.checkerframework.framework.util.FieldInvariants;
 import org.checkerframework.framework.util.FlowExpressionParseUtil;
 import org.checkerframework.framework.util.FlowExpressionParseUtil.FlowExpressionContext;
 import org.checkerframework.framework.util.FlowExpressionParseUtil.FlowExpressionParseException;
+import org.checkerframework.framework.util.PhaseProfiler;
+import org.checkerframework.framework.util.PhaseProfiler.Phase;
 import org.checkerframework.framework.util.PluginUtil;
 import org.checkerframework.framework.util.QualifierPolymorphism;
 import org.checkerframework.javacutil.AnnotationUtils;
@@ -260,6 +262,13 @@ public class BaseTypeVisitor<Factory extends GenericAnnotatedTypeFactory<?, ?, ?
 
     @Override
     public Void scan(Tree tree, Void p) {
+        if (tree != null
+                && tree.getKind() == Tree.Kind.METHOD
+                && checker.shouldSkipSuppressedDefs(
+                        TreeUtils.elementFromDeclaration((MethodTree) tree))) {
+            // No warning about the method would be reported.
+            return null;
+        }
         if (tree != null && getCurrentPath() != null) {
             this.visitorState.setPath(new TreePath(getCurrentPath(), tree));
         }
@@ -267,7 +276,8 @@ public class BaseTypeVisitor<Factory extends GenericAnnotatedTypeFactory<?, ?, ?
     }
 
     /**
-     * Type-check classTree and skips classes specified by the skipDef option. Subclasses should
+     * Type-check classTree and skips classes specified by the skipDef option, or whose warnings are
+     * all suppressed (see {@link BaseTypeChecker#shouldSkipSuppressedDefs}). Subclasses should
      * override {@link #processClassTree(ClassTree)} instead of this method.
      *
      * @param classTree class to check
@@ -282,6 +292,9 @@ public class BaseTypeVisitor<Factory extends GenericAnnotatedTypeFactory<?, ?, ?
             // class entirely.
             return null;
         }
+        if (checker.shouldSkipSuppressedDefs(TreeUtils.elementFromDeclaration(classTree))) {
+            return null;
+        }
         atypeFactory.preProcessClassTree(classTree);
 
         AnnotatedDeclaredType preACT = visitorState.getClassType();
@@ -469,6 +482,8 @@ public class BaseTypeVisitor<Factory extends GenericAnnotatedTypeFactory<?, ?, ?
         visitorState.setMethodReceiver(methodType.getReceiverType());
         visitorState.setMethodTree(node);
         ExecutableElement methodElement = TreeUtils.elementFromDeclaration(node);
+        PhaseProfiler profiler = checker.getProfiler();
+        profiler.start(Phase.METHOD_TYPE_CHECKING, null, methodElement);
 
         try {
             if (InternalUtils.isAnonymousConstructor(node)) {
@@ -585,6 +600,7 @@ public class BaseTypeVisitor<Factory extends GenericAnnotatedTypeFactory<?, ?, ?
 
             visitorState.setMethodReceiver(preMRT);
             visitorState.setMethodTree(preMT);
+            profiler.stop();
         }
     }
 
@@ -1933,16 +1949,63 @@ public class BaseTypeVisitor<Factory extends GenericAnnotatedTypeFactory<?, ?, ?
 
         // Use an error key only if it's overridden by a checker.
         if (!success) {
-            String valueTypeString;
-            String varTypeString;
-            if (shouldPrintVerbose(varType, valueType)) {
-                valueTypeString = valueType.toString(true);
-                varTypeString = varType.toString(true);
-            } else {
-                valueTypeString = valueType.toString();
-                varTypeString = varType.toString();
+            // The types are formatted only if the message is not suppressed.
+            checker.report(
+                    Result.failure(
+                            errorKey,
+                            new TypeMismatchString(valueType, varType, valueType),
+                            new TypeMismatchString(varType, varType, valueType)),
+                    valueTree);
+        }
+    }
+
+    /**
+     * An annotated type as an argument of a type mismatch message. The type is formatted only when
+     * the message is printed, and verbosely if {@link #shouldPrintVerbose} says so.
+     */
+    private class TypeMismatchString {
+        /** The type to format: {@link #varType} or {@link #valueType}. */
+        private final AnnotatedTypeMirror type;
+
+        /** The type of the variable in the message. */
+        private final AnnotatedTypeMirror varType;
+
+        /** The type of the value in the message. */
+        private final AnnotatedTypeMirror valueType;
+
+        /** The formatted type, or null if it has not been formatted yet. */
+        private String string = null;
+
+        TypeMismatchString(
+                AnnotatedTypeMirror type,
+                AnnotatedTypeMirror varType,
+                AnnotatedTypeMirror valueType) {
+            this.type = type;
+            this.varType = varType;
+            this.valueType = valueType;
+        }
+
+        @Override
+        public String toString() {
+            if (string == null) {
+                string =
+                        shouldPrintVerbose(varType, valueType)
+                                ? type.toString(true)
+                                : type.toString();
             }
-            checker.report(Result.failure(errorKey, valueTypeString, varTypeString), valueTree);
+            return string;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj != null
+                    && obj.getClass() == getClass()
+                    && toString().equals(obj.toString());
+        }
+
+        @Override
+        public int hashCode() {
+            return toString().hashCode();
         }
     }
 
@@ -4,6 +4,7 @@ import com.sun.source.tree.ClassTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.Tree;
 import com.sun.tools.javac.code.Symbol.ClassSymbol;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import org.checkerframework.dataflow.cfg.node.FieldAccessNode;
 import org.checkerframework.dataflow.cfg.node.LocalVariableNode;
@@ -12,6 +13,7 @@ import org.checkerframework.dataflow.cfg.node.Node;
 import org.checkerframework.dataflow.cfg.node.ObjectCreationNode;
 import org.checkerframework.dataflow.cfg.node.ReturnNode;
 import org.checkerframework.framework.type.AnnotatedTypeFactory;
+import org.checkerframework.framework.type.AnnotatedTypeMirror;
 import org.checkerframework.framework.type.AnnotatedTypeMirror.AnnotatedExecutableType;
 
 /**
@@ -134,6 +136,20 @@ public interface WholeProgramInference {
             MethodTree methodTree,
             AnnotatedTypeFactory atf);
 
+    /**
+     * Adds to {@code type}, the declared type of the field, method, or parameter {@code elt}, the
+     * annotations inferred for {@code elt} so far. An inferred annotation is only added in a
+     * hierarchy in which {@code type} has no annotation, so explicit annotations and annotations
+     * from stub files take precedence. Implementations that only save their results for a later
+     * compilation, rather than feeding them back into the current one, do nothing.
+     *
+     * @param elt the element whose declared type is being computed
+     * @param type the declared type of {@code elt} before defaults are applied, which is
+     *     side-effected by this method
+     * @param atf the annotated type factory of a given type system
+     */
+    void addInferredAnnotations(Element elt, AnnotatedTypeMirror type, AnnotatedTypeFactory atf);
+
     /**
      * Saves the inferred results. Ideally should be called at the end of the type-checking process.
      */
@@ -0,0 +1,356 @@
+package org.checkerframework.common.wholeprograminference;
+
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+import com.sun.tools.javac.api.JavacTaskImpl;
+import com.sun.tools.javac.api.JavacTool;
+import com.sun.tools.javac.processing.JavacProcessingEnvironment;
+import com.sun.tools.javac.util.Context;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import org.checkerframework.framework.type.AnnotatedTypeFactory;
+import org.checkerframework.javacutil.ErrorReporter;
+
+/**
+ * Runs whole-program inference to a fixpoint within a single process.
+ *
+ * <p>The script {@code infer-and-annotate.sh} repeatedly runs javac with {@code -Ainfer}, inserts
+ * the resulting .jaif files into the source code, and stops when the .jaif files no longer change.
+ * This class computes the same kind of result without leaving the JVM:
+ *
+ * <ul>
+ *   <li>The {@link annotations.el.AScene}s are kept in memory from one round to the next, rather
+ *       than being written to and re-read from .jaif files.
+ *   <li>Instead of being inserted into the source code, the annotations inferred so far are added
+ *       to the declared types of the corresponding elements (see {@link
+ *       WholeProgramInferenceScenes#addInferredAnnotations}).
+ *   <li>The first round checks every source file. Each later round checks only the files that,
+ *       in an earlier round, read the inferred annotations of a class whose inferred annotations
+ *       changed in the previous round. The other classes are read from the class files of the
+ *       earlier rounds.
+ *   <li>The .jaif files are written once, when a round changes no inferred annotation.
+ * </ul>
+ *
+ * <p>The command-line arguments are the same as those of javac, and must include {@code
+ * -processor}. Arguments ending in {@code .jaif} are used as initial .jaif files, as by {@code
+ * infer-and-annotate.sh}. The additional argument {@code -maxRounds} <i>n</i> sets the number of
+ * rounds after which the driver stops even if inference has not reached a fixpoint; the default is
+ * {@value #DEFAULT_MAX_ROUNDS}. The Type Annotations Compiler must be on the bootclasspath; {@link
+ * WholeProgramInferenceMain} sets that up, like {@code checker/bin/javac} does for javac.
+ *
+ * @checker_framework.manual #whole-program-inference Whole-program inference
+ */
+public class WholeProgramInferenceDriver {
+
+    /** The default value of {@link #maxRounds}. */
+    public static final int DEFAULT_MAX_ROUNDS = 20;
+
+    /** The key for the driver in the context of each compilation that it runs. */
+    private static final Context.Key<WholeProgramInferenceDriver> driverKey = new Context.Key<>();
+
+    /** The javac options, without source files, .jaif files, and {@code -maxRounds}. */
+    private final List<String> options;
+
+    /** The source files of the program. */
+    private final List<File> sourceFiles;
+
+    /** The .jaif files used as input to inference. */
+    private final List<File> jaifFiles;
+
+    /** The number of rounds after which {@link #run} stops even if there is no fixpoint yet. */
+    private final int maxRounds;
+
+    /**
+     * One {@link WholeProgramInferenceScenes} per type system, keyed by the name of the class of
+     * its type factory. All of them share the Scenes of the first one.
+     */
+    private final Map<String, WholeProgramInferenceScenes> inferences = new LinkedHashMap<>();
+
+    /**
+     * Maps the .jaif path of each class to the source files that, while being type-checked, read
+     * the inferred annotations of that class. These files must be checked again when the inferred
+     * annotations of the class change.
+     */
+    private final Map<String, Set<JavaFileObject>> readers = new HashMap<>();
+
+    /** The source file being type-checked, or null between classes. */
+    private JavaFileObject currentFile = null;
+
+    /**
+     * Creates a driver.
+     *
+     * @param args the javac command-line arguments, source files, .jaif files, and {@code
+     *     -maxRounds}
+     */
+    public WholeProgramInferenceDriver(List<String> args) {
+        options = new ArrayList<>();
+        sourceFiles = new ArrayList<>();
+        jaifFiles = new ArrayList<>();
+        int maxRounds = DEFAULT_MAX_ROUNDS;
+        for (int i = 0; i < args.size(); i++) {
+            String arg = args.get(i);
+            if (arg.equals("-maxRounds") && i + 1 < args.size()) {
+                String value = args.get(++i);
+                try {
+                    maxRounds = Integer.parseInt(value);
+                } catch (NumberFormatException e) {
+                    ErrorReporter.errorAbort("-maxRounds was not an integer: " + value);
+                }
+            } else if (arg.endsWith(".java")) {
+                sourceFiles.add(new File(arg));
+            } else if (arg.endsWith(".jaif")) {
+                jaifFiles.add(new File(arg));
+            } else {
+                options.add(arg);
+            }
+        }
+        this.maxRounds = maxRounds;
+    }
+
+    public static void main(String[] args) {
+        int exitStatus = new WholeProgramInferenceDriver(Arrays.asList(args)).run();
+        System.exit(exitStatus);
+    }
+
+    /**
+     * Returns the driver that runs the compilation of {@code env}, or null if the compilation was
+     * not started by a driver. Type factories created in such a compilation use the {@link
+     * WholeProgramInference} returned by {@link #getWholeProgramInference}.
+     *
+     * @param env the processing environment of a compilation
+     * @return the driver of the compilation, or null
+     */
+    public static /*@Nullable*/ WholeProgramInferenceDriver instance(ProcessingEnvironment env) {
+        return ((JavacProcessingEnvironment) env).getContext().get(driverKey);
+    }
+
+    /**
+     * Makes this driver the driver of the compilation whose context is {@code context}. The driver
+     * is registered through a factory, since javac carries the factories, but not the other
+     * values, of a context over to the context of each new annotation processing round.
+     */
+    private void preRegister(Context context) {
+        context.put(
+                driverKey,
+                (Context.Factory<WholeProgramInferenceDriver>)
+                        c -> {
+                            c.put(driverKey, this);
+                            return this;
+                        });
+    }
+
+    /**
+     * Returns the {@link WholeProgramInference} for the type system of {@code atf}, creating it the
+     * first time. The same instance, and therefore the same Scenes, is returned in every round.
+     *
+     * @param atf the type factory that is being created
+     * @param ignoreNullAssignments whether assignments whose right-hand side is null are ignored
+     * @return the whole-program inference for the type system of {@code atf}
+     */
+    public WholeProgramInference getWholeProgramInference(
+            AnnotatedTypeFactory atf, boolean ignoreNullAssignments) {
+        String key = atf.getClass().getName();
+        WholeProgramInferenceScenes inference = inferences.get(key);
+        if (inference == null) {
+            WholeProgramInferenceScenesHelper helper;
+            if (inferences.isEmpty()) {
+                helper = new WholeProgramInferenceScenesHelper(ignoreNullAssignments);
+            } else {
+                helper =
+                        new WholeProgramInferenceScenesHelper(
+                                ignoreNullAssignments,
+                                inferences.values().iterator().next().getHelper());
+            }
+            inference = new WholeProgramInferenceScenes(helper, this);
+            inferences.put(key, inference);
+        }
+        return inference;
+    }
+
+    /**
+     * Records that the source file being type-checked depends on the inferred annotations stored
+     * in the Scene of {@code jaifPath}.
+     */
+    void recordRead(String jaifPath) {
+        if (currentFile == null) {
+            return;
+        }
+        Set<JavaFileObject> files = readers.get(jaifPath);
+        if (files == null) {
+            files = new LinkedHashSet<>();
+            readers.put(jaifPath, files);
+        }
+        files.add(currentFile);
+    }
+
+    /**
+     * Runs inference rounds until no inferred annotation changes or {@link #maxRounds} rounds have
+     * run, then writes the .jaif files.
+     *
+     * @return the exit status: 0 if inference reached a fixpoint, nonzero otherwise
+     */
+    public int run() {
+        if (sourceFiles.isEmpty()) {
+            System.err.println("WholeProgramInferenceDriver: no source files");
+            return 1;
+        }
+        JavacTool compiler = JavacTool.create();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+        File outputDir = null;
+        boolean deleteOutputDir = false;
+        try {
+            prepareJaifDirectory();
+            List<String> roundOptions = new ArrayList<>(options);
+            outputDir = getOutputDirectory(roundOptions);
+            if (outputDir == null) {
+                outputDir = Files.createTempDirectory("whole-program-inference").toFile();
+                deleteOutputDir = true;
+                roundOptions.add("-d");
+                roundOptions.add(outputDir.getPath());
+            }
+            // Classes that are not checked again are read from the class files of earlier rounds.
+            addToClasspath(roundOptions, outputDir);
+            addIfAbsent(roundOptions, "-Ainfer");
+            addIfAbsent(roundOptions, "-Awarns");
+
+            List<JavaFileObject> allFiles = new ArrayList<>();
+            for (JavaFileObject file : fileManager.getJavaFileObjectsFromFiles(sourceFiles)) {
+                allFiles.add(file);
+            }
+            Set<JavaFileObject> filesToCheck = new LinkedHashSet<>(allFiles);
+            TaskListener listener =
+                    new TaskListener() {
+                        @Override
+                        public void started(TaskEvent e) {
+                            if (e.getKind() == TaskEvent.Kind.ANALYZE) {
+                                currentFile = e.getSourceFile();
+                            }
+                        }
+
+                        @Override
+                        public void finished(TaskEvent e) {}
+                    };
+
+            for (int round = 1; !filesToCheck.isEmpty(); round++) {
+                if (round > maxRounds) {
+                    System.err.printf(
+                            "WholeProgramInferenceDriver: no fixpoint after %d rounds;"
+                                    + " writing the annotations inferred so far%n",
+                            maxRounds);
+                    break;
+                }
+                System.out.printf(
+                        "Whole-program inference round %d: checking %d of %d files%n",
+                        round, filesToCheck.size(), allFiles.size());
+                JavacTask task =
+                        compiler.getTask(null, fileManager, null, roundOptions, null, filesToCheck);
+                preRegister(((JavacTaskImpl) task).getContext());
+                task.addTaskListener(listener);
+                // Type-checking errors are expected while annotations are still being inferred.
+                task.call();
+                currentFile = null;
+
+                Set<String> changedScenes = new LinkedHashSet<>();
+                for (WholeProgramInferenceScenes inference : inferences.values()) {
+                    changedScenes.addAll(inference.getHelper().takeChangedScenes());
+                }
+                filesToCheck = new LinkedHashSet<>();
+                for (String jaifPath : changedScenes) {
+                    Set<JavaFileObject> files = readers.get(jaifPath);
+                    if (files != null) {
+                        filesToCheck.addAll(files);
+                    }
+                }
+            }
+
+            if (!inferences.isEmpty()) {
+                // All type systems share the same Scenes.
+                inferences.values().iterator().next().getHelper().writeScenesToJaif();
+            }
+            return filesToCheck.isEmpty() ? 0 : 1;
+        } catch (IOException e) {
+            ErrorReporter.errorAbort("WholeProgramInferenceDriver: " + e.getMessage(), e);
+            return 1; // dead code
+        } finally {
+            try {
+                fileManager.close();
+            } catch (IOException e) {
+                // Nothing useful to do.
+            }
+            if (deleteOutputDir) {
+                deleteRecursively(outputDir);
+            }
+        }
+    }
+
+    /**
+     * Creates an empty .jaif directory, and copies the input .jaif files into it, like {@code
+     * infer-and-annotate.sh} does.
+     */
+    private void prepareJaifDirectory() throws IOException {
+        File jaifDir = new File(WholeProgramInferenceScenesHelper.jaifFilesPath);
+        deleteRecursively(jaifDir);
+        jaifDir.mkdirs();
+        for (File jaifFile : jaifFiles) {
+            Files.copy(
+                    jaifFile.toPath(),
+                    new File(jaifDir, jaifFile.getName()).toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** Returns the directory given by {@code -d} in {@code options}, or null if there is none. */
+    private static File getOutputDirectory(List<String> options) {
+        int index = options.indexOf("-d");
+        if (index != -1 && index + 1 < options.size()) {
+            return new File(options.get(index + 1));
+        }
+        return null;
+    }
+
+    /**
+     * Appends {@code dir} to the classpath given in {@code options}, or to the classpath of this
+     * process if {@code options} gives none.
+     */
+    private static void addToClasspath(List<String> options, File dir) {
+        for (int i = 0; i + 1 < options.size(); i++) {
+            if (options.get(i).equals("-classpath") || options.get(i).equals("-cp")) {
+                options.set(i + 1, options.get(i + 1) + File.pathSeparator + dir.getPath());
+                return;
+            }
+        }
+        String classpath = System.getProperty("java.class.path");
+        options.add("-classpath");
+        options.add(classpath + File.pathSeparator + dir.getPath());
+    }
+
+    private static void addIfAbsent(List<String> options, String option) {
+        if (!options.contains(option)) {
+            options.add(option);
+        }
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
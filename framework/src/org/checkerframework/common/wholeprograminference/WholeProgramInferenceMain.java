@@ -0,0 +1,36 @@
+package org.checkerframework.common.wholeprograminference;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.checkerframework.framework.util.CheckerMain;
+
+/**
+ * Runs {@link WholeProgramInferenceDriver} in a JVM set up the same way as {@link CheckerMain} sets
+ * one up for javac: with the Type Annotations Compiler on the bootclasspath, and with the Checker
+ * Framework on the classpath and processor path.
+ *
+ * <p>The command-line arguments are those of {@link WholeProgramInferenceDriver}.
+ */
+public class WholeProgramInferenceMain extends CheckerMain {
+
+    public static void main(String[] args) {
+        final File pathToThisJar = new File(findPathTo(WholeProgramInferenceMain.class, false));
+        ArrayList<String> alargs = new ArrayList<>(args.length);
+        alargs.addAll(Arrays.asList(args));
+        final WholeProgramInferenceMain program =
+                new WholeProgramInferenceMain(pathToThisJar, alargs);
+        final int exitStatus = program.invokeCompiler();
+        System.exit(exitStatus);
+    }
+
+    public WholeProgramInferenceMain(File checkerJar, List<String> args) {
+        super(checkerJar, args);
+    }
+
+    @Override
+    protected void addMainToArgs(final List<String> args) {
+        args.add(WholeProgramInferenceDriver.class.getName());
+    }
+}
@@ -32,6 +32,7 @@ import org.checkerframework.framework.type.AnnotatedTypeFactory;
 import org.checkerframework.framework.type.AnnotatedTypeMirror;
 import org.checkerframework.framework.type.AnnotatedTypeMirror.AnnotatedDeclaredType;
 import org.checkerframework.framework.type.AnnotatedTypeMirror.AnnotatedExecutableType;
+import org.checkerframework.javacutil.ElementUtils;
 import org.checkerframework.javacutil.ErrorReporter;
 import org.checkerframework.javacutil.InternalUtils;
 
@@ -73,6 +74,11 @@ import org.checkerframework.javacutil.InternalUtils;
  *       same effect as writing it.
  * </ol>
  *
+ * <p>Normally the Scenes are written to .jaif files after each class is type-checked. When run by a
+ * {@link WholeProgramInferenceDriver}, the Scenes are instead kept in memory across repeated
+ * compilations, and the annotations inferred so far are added to the declared types of the
+ * corresponding elements, just as if they had been inserted into the source code.
+ *
  * @author pbsf
  */
 //  TODO: We could add an option to update the type of explicitly annotated
@@ -88,8 +94,36 @@ public class WholeProgramInferenceScenes implements WholeProgramInference {
 
     private final WholeProgramInferenceScenesHelper helper;
 
+    /**
+     * The driver that runs inference rounds in this process, or null if this instance only writes
+     * .jaif files for a later compilation. If non-null, the Scenes outlive each round, inferred
+     * annotations are fed back into the type factories by {@link #addInferredAnnotations}, and
+     * .jaif files are written only by the driver.
+     */
+    private final WholeProgramInferenceDriver driver;
+
+    /**
+     * True while an update* method computes the declared type of the element it updates. That type
+     * must not contain the annotations inferred so far: they are merged with the new type by the
+     * helper.
+     */
+    private boolean ignoreInferredAnnotations = false;
+
     public WholeProgramInferenceScenes(boolean ignoreNullAssignments) {
         helper = new WholeProgramInferenceScenesHelper(ignoreNullAssignments);
+        driver = null;
+    }
+
+    /** Creates an instance whose Scenes are kept in memory across the rounds of {@code driver}. */
+    WholeProgramInferenceScenes(
+            WholeProgramInferenceScenesHelper helper, WholeProgramInferenceDriver driver) {
+        this.helper = helper;
+        this.driver = driver;
+    }
+
+    /** Returns the helper that holds the Scenes of this instance. */
+    WholeProgramInferenceScenesHelper getHelper() {
+        return helper;
     }
 
     /**
@@ -174,7 +208,7 @@ public class WholeProgramInferenceScenes implements WholeProgramInference {
 
         for (int i = 0; i < overriddenMethod.getParameterTypes().size(); i++) {
             VariableElement ve = methodElt.getParameters().get(i);
-            AnnotatedTypeMirror paramATM = atf.getAnnotatedType(ve);
+            AnnotatedTypeMirror paramATM = getDeclaredType(atf, ve);
 
             AnnotatedTypeMirror argATM = overriddenMethod.getParameterTypes().get(i);
             AField param = method.parameters.vivify(i);
@@ -255,7 +289,7 @@ public class WholeProgramInferenceScenes implements WholeProgramInference {
             List<Node> arguments) {
         for (int i = 0; i < arguments.size(); i++) {
             VariableElement ve = methodElt.getParameters().get(i);
-            AnnotatedTypeMirror paramATM = atf.getAnnotatedType(ve);
+            AnnotatedTypeMirror paramATM = getDeclaredType(atf, ve);
 
             Node arg = arguments.get(i);
             Tree treeNode = arg.getTree();
@@ -329,7 +363,7 @@ public class WholeProgramInferenceScenes implements WholeProgramInference {
                     // https://github.com/typetools/checker-framework/issues/682
                     continue;
                 }
-                AnnotatedTypeMirror paramATM = atf.getAnnotatedType(vt);
+                AnnotatedTypeMirror paramATM = getDeclaredType(atf, vt);
                 AnnotatedTypeMirror argATM = atf.getAnnotatedType(treeNode);
                 AField param = method.parameters.vivify(i);
                 helper.updateAnnotationSetInScene(
@@ -376,7 +410,8 @@ public class WholeProgramInferenceScenes implements WholeProgramInference {
 
         AnnotatedDeclaredType argADT = overriddenMethod.getReceiverType();
         if (argADT != null) {
-            AnnotatedTypeMirror paramATM = atf.getAnnotatedType(methodTree).getReceiverType();
+            AnnotatedTypeMirror paramATM =
+                    ((AnnotatedExecutableType) getDeclaredType(atf, methodTree)).getReceiverType();
             if (paramATM != null) {
                 AField receiver = method.receiver;
                 helper.updateAnnotationSetInScene(
@@ -431,7 +466,7 @@ public class WholeProgramInferenceScenes implements WholeProgramInference {
         AClass clazz = helper.getAClass(className, jaifPath);
 
         AField field = clazz.fields.vivify(lhs.getFieldName());
-        AnnotatedTypeMirror lhsATM = atf.getAnnotatedType(lhs.getTree());
+        AnnotatedTypeMirror lhsATM = getDeclaredType(atf, lhs.getTree());
         AnnotatedTypeMirror rhsATM = atf.getAnnotatedType(rhs.getTree());
         helper.updateAnnotationSetInScene(
                 field.type, atf, jaifPath, rhsATM, lhsATM, TypeUseLocation.FIELD);
@@ -471,17 +506,139 @@ public class WholeProgramInferenceScenes implements WholeProgramInference {
 
         AMethod method = clazz.methods.vivify(JVMNames.getJVMMethodName(methodTree));
         // Method return type
-        AnnotatedTypeMirror lhsATM = atf.getAnnotatedType(methodTree).getReturnType();
+        AnnotatedTypeMirror lhsATM =
+                ((AnnotatedExecutableType) getDeclaredType(atf, methodTree)).getReturnType();
         // Type of the expression returned
         AnnotatedTypeMirror rhsATM = atf.getAnnotatedType(retNode.getTree().getExpression());
         helper.updateAnnotationSetInScene(
                 method.returnType, atf, jaifPath, rhsATM, lhsATM, TypeUseLocation.RETURN);
     }
 
-    /** Write all modified scenes into .jaif files. */
+    /**
+     * Adds the annotations stored in the Scenes for {@code elt} to {@code type}. Does nothing
+     * unless the Scenes are kept in memory by a {@link WholeProgramInferenceDriver}, which also
+     * learns that the compilation unit being checked depends on the inferred annotations of the
+     * enclosing class of {@code elt}.
+     */
+    @Override
+    public void addInferredAnnotations(
+            Element elt, AnnotatedTypeMirror type, AnnotatedTypeFactory atf) {
+        if (driver == null || ignoreInferredAnnotations) {
+            return;
+        }
+        ExecutableElement methodElt;
+        switch (elt.getKind()) {
+            case FIELD:
+            case METHOD:
+            case CONSTRUCTOR:
+                methodElt = null;
+                break;
+            case PARAMETER:
+                if (!(elt.getEnclosingElement() instanceof ExecutableElement)) {
+                    // A lambda parameter.
+                    return;
+                }
+                methodElt = (ExecutableElement) elt.getEnclosingElement();
+                break;
+            default:
+                return;
+        }
+        ClassSymbol classSymbol = (ClassSymbol) ElementUtils.enclosingClass(elt);
+        if (classSymbol == null) {
+            return;
+        }
+        String className = classSymbol.flatname.toString();
+        String jaifPath = helper.getJaifPath(className);
+        driver.recordRead(jaifPath);
+        AClass clazz = helper.getExistingAClass(className, jaifPath);
+        if (clazz == null) {
+            return;
+        }
+
+        switch (elt.getKind()) {
+            case FIELD:
+                AField field = clazz.fields.get(elt.getSimpleName().toString());
+                if (field != null) {
+                    helper.addAnnotationsFromScene(field.type, type, atf, TypeUseLocation.FIELD);
+                }
+                break;
+            case PARAMETER:
+                AMethod enclosingMethod = clazz.methods.get(JVMNames.getJVMMethodName(methodElt));
+                if (enclosingMethod != null) {
+                    AField param =
+                            enclosingMethod.parameters.get(methodElt.getParameters().indexOf(elt));
+                    if (param != null) {
+                        helper.addAnnotationsFromScene(
+                                param.type, type, atf, TypeUseLocation.PARAMETER);
+                    }
+                }
+                break;
+            default:
+                AMethod method =
+                        clazz.methods.get(JVMNames.getJVMMethodName((ExecutableElement) elt));
+                if (method != null) {
+                    addInferredAnnotations(method, (AnnotatedExecutableType) type, atf);
+                }
+                break;
+        }
+    }
+
+    /** Adds the annotations stored in {@code method} to the signature {@code type}. */
+    private void addInferredAnnotations(
+            AMethod method, AnnotatedExecutableType type, AnnotatedTypeFactory atf) {
+        helper.addAnnotationsFromScene(
+                method.returnType, type.getReturnType(), atf, TypeUseLocation.RETURN);
+        if (type.getReceiverType() != null) {
+            helper.addAnnotationsFromScene(
+                    method.receiver.type, type.getReceiverType(), atf, TypeUseLocation.RECEIVER);
+        }
+        List<AnnotatedTypeMirror> paramTypes = type.getParameterTypes();
+        for (int i = 0; i < paramTypes.size(); i++) {
+            AField param = method.parameters.get(i);
+            if (param != null) {
+                helper.addAnnotationsFromScene(
+                        param.type, paramTypes.get(i), atf, TypeUseLocation.PARAMETER);
+            }
+        }
+    }
+
+    /**
+     * Returns the type of {@code elt} without the annotations inferred so far, which is what the
+     * type would be in a fresh compilation of the program.
+     */
+    private AnnotatedTypeMirror getDeclaredType(AnnotatedTypeFactory atf, Element elt) {
+        boolean oldIgnoreInferredAnnotations = ignoreInferredAnnotations;
+        ignoreInferredAnnotations = true;
+        try {
+            return atf.getAnnotatedType(elt);
+        } finally {
+            ignoreInferredAnnotations = oldIgnoreInferredAnnotations;
+        }
+    }
+
+    /**
+     * Returns the type of {@code tree} without the annotations inferred so far, which is what the
+     * type would be in a fresh compilation of the program.
+     */
+    private AnnotatedTypeMirror getDeclaredType(AnnotatedTypeFactory atf, Tree tree) {
+        boolean oldIgnoreInferredAnnotations = ignoreInferredAnnotations;
+        ignoreInferredAnnotations = true;
+        try {
+            return atf.getAnnotatedType(tree);
+        } finally {
+            ignoreInferredAnnotations = oldIgnoreInferredAnnotations;
+        }
+    }
+
+    /**
+     * Write all modified scenes into .jaif files. If a {@link WholeProgramInferenceDriver} keeps
+     * the Scenes in memory, it writes them once inference reaches a fixpoint, so this does nothing.
+     */
     @Override
     public void saveResults() {
-        helper.writeScenesToJaif();
+        if (driver == null) {
+            helper.writeScenesToJaif();
+        }
     }
 
     /**
@@ -11,15 +11,32 @@ import annotations.el.InnerTypeLocation;
 import annotations.io.IndexFileParser;
 import annotations.io.IndexFileWriter;
 import com.sun.tools.javac.code.TypeAnnotationPosition;
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
 import java.lang.annotation.Target;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.type.MirroredTypesException;
@@ -59,7 +76,7 @@ public class WholeProgramInferenceScenesHelper {
      * Maps the toString() representation of an ATypeElement and its TypeUseLocation to a set of
      * names of annotations that should not be added to .jaif files for that location.
      */
-    private final Map<Pair<String, TypeUseLocation>, Set<String>> annosToIgnore = new HashMap<>();
+    private final Map<Pair<String, TypeUseLocation>, Set<String>> annosToIgnore;
 
     /**
      * Directory where .jaif files will be written to and read from. This directory is relative to
@@ -72,7 +89,7 @@ public class WholeProgramInferenceScenesHelper {
     private final boolean ignoreNullAssignments;
 
     /** Maps .jaif file paths (Strings) to Scenes. Relatives to jaifFilesPath. */
-    private final Map<String, AScene> scenes = new HashMap<>();
+    private final Map<String, AScene> scenes;
 
     /**
      * Set representing Scenes that were modified since the last time all Scenes were written into
@@ -81,18 +98,116 @@ public class WholeProgramInferenceScenesHelper {
      * #getJaifPath} method.
      *
      * <p>Modifying a Scene means adding (or changing) a type annotation for a field, method return
-     * type, or method parameter type in the Scene. (Scenes are modified by the method {@link
-     * #updateAnnotationSetInScene}.)
+     * type, or method parameter type in the Scene, or changing which of its annotations should not
+     * be written. An update that leaves a Scene as it was does not add it to this set. (Scenes are
+     * modified by the method {@link #updateAnnotationSetInScene}.)
+     */
+    private final Set<String> modifiedScenes;
+
+    /**
+     * Set of paths to the .jaif files of Scenes whose annotations actually changed since the last
+     * call to {@link #takeChangedScenes}. Unlike {@link #modifiedScenes}, an update that leaves the
+     * annotations of a location as they were does not add the Scene to this set.
+     */
+    private final Set<String> changedScenes;
+
+    /**
+     * Maps .jaif file paths to the hash of the file's contents, as last read or written by this
+     * class. Used to avoid rewriting a .jaif file with the contents it already has.
+     */
+    private final Map<String, String> jaifHashes;
+
+    /** True if the current call to {@link #updateAnnotationSetInScene} changed annosToIgnore. */
+    private boolean annosToIgnoreChanged;
+
+    /**
+     * The threads that write .jaif files. They are daemon threads, so they do not keep the compiler
+     * from exiting. .jaif files are read on the compiler thread, by {@link #getScene}.
      */
-    private final Set<String> modifiedScenes = new HashSet<>();
+    private static ExecutorService jaifExecutor;
 
     public WholeProgramInferenceScenesHelper(boolean ignoreNullAssignments) {
         this.ignoreNullAssignments = ignoreNullAssignments;
+        this.annosToIgnore = new HashMap<>();
+        this.scenes = new HashMap<>();
+        this.modifiedScenes = new HashSet<>();
+        this.changedScenes = new HashSet<>();
+        this.jaifHashes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates a helper that shares its Scenes with {@code other}. This lets several type systems
+     * that run in the same compilation store their inferred annotations in the same Scenes, so that
+     * writing the Scenes of one helper writes the annotations of all of them.
+     */
+    WholeProgramInferenceScenesHelper(
+            boolean ignoreNullAssignments, WholeProgramInferenceScenesHelper other) {
+        this.ignoreNullAssignments = ignoreNullAssignments;
+        this.annosToIgnore = other.annosToIgnore;
+        this.scenes = other.scenes;
+        this.modifiedScenes = other.modifiedScenes;
+        this.changedScenes = other.changedScenes;
+        this.jaifHashes = other.jaifHashes;
+    }
+
+    /** Returns the executor used to write .jaif files, creating it if necessary. */
+    private static synchronized ExecutorService getJaifExecutor() {
+        if (jaifExecutor == null) {
+            jaifExecutor =
+                    Executors.newFixedThreadPool(
+                            Runtime.getRuntime().availableProcessors(),
+                            runnable -> {
+                                Thread thread = new Thread(runnable, "jaif-io");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+        }
+        return jaifExecutor;
+    }
+
+    /**
+     * Parses the .jaif file at {@code jaifPath} into a new Scene, and records the hash of its
+     * contents.
+     */
+    private AScene readScene(String jaifPath) throws IOException {
+        AScene scene = new AScene();
+        jaifHashes.put(jaifPath, hash(Files.readAllBytes(Paths.get(jaifPath))));
+        IndexFileParser.parseFile(jaifPath, scene);
+        return scene;
+    }
+
+    /** Returns a hash of {@code contents}, used to detect .jaif files whose contents change. */
+    private static String hash(byte[] contents) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(contents);
+            StringBuilder result = new StringBuilder(2 * digest.length);
+            for (byte b : digest) {
+                result.append(String.format("%02x", b));
+            }
+            return result.toString();
+        } catch (NoSuchAlgorithmException e) {
+            ErrorReporter.errorAbort("SHA-256 is not available", e);
+            return null; // dead code
+        }
+    }
+
+    /**
+     * Returns the paths to the .jaif files of all Scenes whose annotations changed since the last
+     * call to this method, and clears that set.
+     */
+    public Set<String> takeChangedScenes() {
+        Set<String> result = new HashSet<>(changedScenes);
+        changedScenes.clear();
+        return result;
     }
 
     /**
      * Write all modified scenes into .jaif files. (Scenes are modified by the method {@link
      * #updateAnnotationSetInScene}.)
+     *
+     * <p>The files are written in parallel. Each file is written to a temporary file that is then
+     * renamed, so that a .jaif file is never seen half-written, and a file whose contents would
+     * not change is not written at all.
      */
     public void writeScenesToJaif() {
         // Create .jaif files directory if it doesn't exist already.
@@ -101,27 +216,73 @@ public class WholeProgramInferenceScenesHelper {
             jaifDir.mkdirs();
         }
         // Write scenes into .jaif files.
+        List<Future<?>> writes = new ArrayList<>();
+        List<String> jaifPaths = new ArrayList<>();
         for (String jaifPath : modifiedScenes) {
+            // Clone on this thread: the Scenes may change once this method returns.
+            AScene scene = scenes.get(jaifPath).clone();
+            writes.add(getJaifExecutor().submit(() -> writeScene(jaifPath, scene, jaifDir)));
+            jaifPaths.add(jaifPath);
+        }
+        modifiedScenes.clear();
+        for (int i = 0; i < writes.size(); i++) {
             try {
-                AScene scene = scenes.get(jaifPath).clone();
-                removeIgnoredAnnosFromScene(scene);
-                new File(jaifPath).delete();
-                if (!scene.prune()) {
-                    // Only write non-empty scenes into .jaif files.
-                    IndexFileWriter.write(scene, new FileWriter(jaifPath));
+                writes.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                ErrorReporter.errorAbort("Interrupted while writing .jaif files", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof DefException) {
+                    ErrorReporter.errorAbort(cause.getMessage(), cause);
                 }
-            } catch (IOException e) {
                 ErrorReporter.errorAbort(
-                        "Problem while reading file in: "
-                                + jaifPath
+                        "Problem while writing file in: "
+                                + jaifPaths.get(i)
                                 + ". Exception message: "
-                                + e.getMessage(),
-                        e);
-            } catch (DefException e) {
-                ErrorReporter.errorAbort(e.getMessage(), e);
+                                + cause.getMessage(),
+                        cause);
             }
         }
-        modifiedScenes.clear();
+    }
+
+    /**
+     * Writes {@code scene}, which belongs to this helper no more, into the .jaif file at {@code
+     * jaifPath}, unless the file already has the same contents. Deletes the file if the scene has
+     * no annotations to write.
+     */
+    private Void writeScene(String jaifPath, AScene scene, File jaifDir)
+            throws IOException, DefException {
+        removeIgnoredAnnosFromScene(scene);
+        Path target = Paths.get(jaifPath);
+        if (scene.prune()) {
+            // Only write non-empty scenes into .jaif files.
+            Files.deleteIfExists(target);
+            jaifHashes.remove(jaifPath);
+            return null;
+        }
+        StringWriter contents = new StringWriter();
+        IndexFileWriter.write(scene, contents);
+        byte[] bytes = contents.toString().getBytes(Charset.defaultCharset());
+        String hash = hash(bytes);
+        if (hash.equals(jaifHashes.get(jaifPath)) && Files.exists(target)) {
+            return null;
+        }
+        Path temp = Files.createTempFile(jaifDir.toPath(), target.getFileName().toString(), ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+            out.write(bytes);
+        }
+        try {
+            Files.move(
+                    temp,
+                    target,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        jaifHashes.put(jaifPath, hash);
+        return null;
     }
 
     /** Returns the String representing the .jaif path of a class given its name. */
@@ -133,15 +294,17 @@ public class WholeProgramInferenceScenesHelper {
     /**
      * Returns the Scene stored in a .jaif file path passed as input. If the file does not exist, an
      * empty Scene is created.
+     *
+     * <p>The file is parsed on the calling thread the first time its Scene is requested: {@link
+     * IndexFileParser} is not known to be thread-safe, and a helper that only ever needs a few
+     * Scenes does not parse the others.
      */
     protected AScene getScene(String jaifPath) {
-        AScene scene;
-        if (!scenes.containsKey(jaifPath)) {
-            File jaifFile = new File(jaifPath);
-            scene = new AScene();
-            if (jaifFile.exists()) {
+        AScene scene = scenes.get(jaifPath);
+        if (scene == null) {
+            if (new File(jaifPath).exists()) {
                 try {
-                    IndexFileParser.parseFile(jaifPath, scene);
+                    scene = readScene(jaifPath);
                 } catch (IOException e) {
                     ErrorReporter.errorAbort(
                             "Problem while reading file in: "
@@ -151,10 +314,10 @@ public class WholeProgramInferenceScenesHelper {
                                     + e.getMessage(),
                             e);
                 }
+            } else {
+                scene = new AScene();
             }
             scenes.put(jaifPath, scene);
-        } else {
-            scene = scenes.get(jaifPath);
         }
         return scene;
     }
@@ -166,6 +329,17 @@ public class WholeProgramInferenceScenesHelper {
         return scene.classes.vivify(className);
     }
 
+    /**
+     * Returns the AClass in an AScene, given a className and a jaifPath, or null if nothing has
+     * been inferred for that class. Unlike {@link #getAClass}, this method does not create the
+     * AClass.
+     */
+    protected AClass getExistingAClass(String className, String jaifPath) {
+        // Possibly reads .jaif file to obtain a Scene.
+        AScene scene = getScene(jaifPath);
+        return scene.classes.get(className);
+    }
+
     /**
      * Updates the set of annotations in a location of a Scene.
      *
@@ -210,8 +384,73 @@ public class WholeProgramInferenceScenesHelper {
                 return;
             }
         }
+        Map<String, Set<Annotation>> annosBefore = getAnnotationsByLocation(type);
+        annosToIgnoreChanged = false;
         updateTypeElementFromATM(rhsATM, lhsATM, atf, type, 1, defLoc);
-        modifiedScenes.add(jaifPath);
+        boolean annosChanged = !annosBefore.equals(getAnnotationsByLocation(type));
+        if (annosChanged || annosToIgnoreChanged) {
+            modifiedScenes.add(jaifPath);
+        }
+        if (annosChanged) {
+            changedScenes.add(jaifPath);
+        }
+    }
+
+    /**
+     * Returns a copy of the annotations of {@code type} and of its inner types, keyed by the inner
+     * type location ("" for {@code type} itself). Used to detect whether an update changed a
+     * location.
+     */
+    private static Map<String, Set<Annotation>> getAnnotationsByLocation(ATypeElement type) {
+        Map<String, Set<Annotation>> result = new HashMap<>();
+        collectAnnotationsByLocation(type, "", result);
+        return result;
+    }
+
+    private static void collectAnnotationsByLocation(
+            ATypeElement type, String location, Map<String, Set<Annotation>> result) {
+        result.put(location, new HashSet<>(type.tlAnnotationsHere));
+        for (Map.Entry<InnerTypeLocation, ATypeElement> inner : type.innerTypes.entrySet()) {
+            collectAnnotationsByLocation(inner.getValue(), location + "/" + inner.getKey(), result);
+        }
+    }
+
+    /**
+     * Adds to {@code atm} the annotations supported by {@code atf} that are stored in {@code type},
+     * except for those that {@link #writeScenesToJaif} would not write (see {@link #shouldIgnore}).
+     * An annotation is only added in a hierarchy in which {@code atm} has no annotation, so that,
+     * as when the annotations are inserted into the source code, explicit annotations and those
+     * from stub files are kept.
+     *
+     * @param type the ATypeElement holding the inferred annotations
+     * @param atm the AnnotatedTypeMirror to be modified
+     * @param atf the annotated type factory of a given type system
+     * @param loc the location of {@code type}
+     */
+    protected void addAnnotationsFromScene(
+            ATypeElement type,
+            AnnotatedTypeMirror atm,
+            AnnotatedTypeFactory atf,
+            TypeUseLocation loc) {
+        String firstKey = type.description.toString() + type.tlAnnotationsHere.toString();
+        Set<String> annosToIgnoreForLocation = annosToIgnore.get(Pair.of(firstKey, loc));
+        for (Annotation anno : getSupportedAnnosInSet(type.tlAnnotationsHere, atf)) {
+            if (annosToIgnoreForLocation != null
+                    && annosToIgnoreForLocation.contains(anno.def().toString())) {
+                continue;
+            }
+            AnnotationMirror am =
+                    AnnotationConverter.annotationToAnnotationMirror(anno, atf.getProcessingEnv());
+            if (!atm.isAnnotatedInHierarchy(am)) {
+                atm.addAnnotation(am);
+            }
+        }
+        if (atm.getKind() == TypeKind.ARRAY) {
+            AnnotatedArrayType aat = (AnnotatedArrayType) atm;
+            for (ATypeElement innerType : type.innerTypes.values()) {
+                addAnnotationsFromScene(innerType, aat.getComponentType(), atf, loc);
+            }
+        }
     }
 
     /**
@@ -550,7 +789,9 @@ public class WholeProgramInferenceScenesHelper {
                     annosIgnored = new HashSet<>();
                     annosToIgnore.put(key, annosIgnored);
                 }
-                annosIgnored.add(anno.def().toString());
+                if (annosIgnored.add(anno.def().toString())) {
+                    annosToIgnoreChanged = true;
+                }
             }
         }
     }
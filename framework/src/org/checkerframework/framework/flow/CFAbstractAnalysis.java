@@ -8,6 +8,11 @@ import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import org.checkerframework.common.basetype.BaseTypeChecker;
 import org.checkerframework.dataflow.analysis.Analysis;
+import org.checkerframework.dataflow.analysis.LiveVariables;
+import org.checkerframework.dataflow.analysis.Store;
+import org.checkerframework.dataflow.cfg.ControlFlowGraph;
+import org.checkerframework.dataflow.cfg.block.Block;
+import org.checkerframework.dataflow.cfg.node.Node;
 import org.checkerframework.framework.source.SourceChecker;
 import org.checkerframework.framework.type.AnnotatedTypeFactory;
 import org.checkerframework.framework.type.AnnotatedTypeMirror;
@@ -60,6 +65,15 @@ public abstract class CFAbstractAnalysis<
     /** Initial abstract types for fields. */
     protected final List<Pair<VariableElement, V>> fieldValues;
 
+    /** Whether to drop dead local variables from the stores; see {@link #setPruneDeadLocals}. */
+    protected boolean pruneDeadLocals = false;
+
+    /** The live variables of the CFG being analyzed if {@link #pruneDeadLocals}, null otherwise. */
+    protected LiveVariables liveVariables;
+
+    /** Whether the stores share their local variables; see {@link #setShareLocals}. */
+    protected boolean shareLocals = false;
+
     public CFAbstractAnalysis(
             BaseTypeChecker checker,
             GenericAnnotatedTypeFactory<V, S, T, ? extends CFAbstractAnalysis<V, S, T>> factory,
@@ -89,6 +103,45 @@ public abstract class CFAbstractAnalysis<
         return fieldValues;
     }
 
+    /**
+     * Sets whether the values of local variables that are not live before a block are removed from
+     * the stores that flow into the block. The stores are then smaller and cheaper to copy, merge,
+     * and compare, but a type system whose annotations refer to local variables by name may lose
+     * information about a variable that is not read again. By default, no variable is removed.
+     *
+     * @param pruneDeadLocals whether to remove dead local variables from the stores
+     */
+    public void setPruneDeadLocals(boolean pruneDeadLocals) {
+        this.pruneDeadLocals = pruneDeadLocals;
+    }
+
+    /**
+     * Sets whether the stores created from now on keep their local variables in a {@link
+     * SharedHashMap}, so that copies of a store share one table of local variables until they
+     * assign one. This saves memory for methods with many local variables, of which most blocks
+     * assign only a few. By default, every store has a table of its own.
+     *
+     * @param shareLocals whether the stores share their local variables
+     */
+    public void setShareLocals(boolean shareLocals) {
+        this.shareLocals = shareLocals;
+    }
+
+    @Override
+    protected void init(ControlFlowGraph cfg) {
+        super.init(cfg);
+        liveVariables = pruneDeadLocals ? new LiveVariables(cfg) : null;
+    }
+
+    @Override
+    protected void addStoreBefore(
+            Block b, Node node, S s, Store.Kind kind, boolean addBlockToWorklist) {
+        if (liveVariables != null) {
+            s = s.withoutDeadLocals(liveVariables, b);
+        }
+        super.addStoreBefore(b, node, s, kind, addBlockToWorklist);
+    }
+
     /** @return the transfer function to be used by the analysis */
     public T createTransferFunction() {
         return atypeFactory.createFlowTransferFunction(this);
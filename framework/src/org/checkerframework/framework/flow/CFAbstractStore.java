@@ -5,6 +5,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 */
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -21,18 +22,22 @@ import org.checkerframework.dataflow.analysis.FlowExpressions.FieldAccess;
 import org.checkerframework.dataflow.analysis.FlowExpressions.LocalVariable;
 import org.checkerframework.dataflow.analysis.FlowExpressions.MethodCall;
 import org.checkerframework.dataflow.analysis.FlowExpressions.Receiver;
+import org.checkerframework.dataflow.analysis.LiveVariables;
 import org.checkerframework.dataflow.analysis.Store;
 import org.checkerframework.dataflow.cfg.CFGVisualizer;
+import org.checkerframework.dataflow.cfg.block.Block;
 import org.checkerframework.dataflow.cfg.node.ArrayAccessNode;
 import org.checkerframework.dataflow.cfg.node.FieldAccessNode;
 import org.checkerframework.dataflow.cfg.node.LocalVariableNode;
 import org.checkerframework.dataflow.cfg.node.MethodInvocationNode;
 import org.checkerframework.dataflow.cfg.node.Node;
 import org.checkerframework.dataflow.cfg.node.ThisLiteralNode;
+import org.checkerframework.dataflow.qual.Pure;
 import org.checkerframework.dataflow.qual.SideEffectFree;
 import org.checkerframework.dataflow.util.PurityUtils;
 import org.checkerframework.framework.qual.MonotonicQualifier;
 import org.checkerframework.framework.type.AnnotatedTypeFactory;
+import org.checkerframework.framework.type.GenericAnnotatedTypeFactory;
 import org.checkerframework.javacutil.AnnotationBuilder;
 import org.checkerframework.javacutil.AnnotationUtils;
 import org.checkerframework.javacutil.Pair;
@@ -61,7 +66,11 @@ public abstract class CFAbstractStore<V extends CFAbstractValue<V>, S extends CF
     /** The analysis class this store belongs to. */
     protected final CFAbstractAnalysis<V, S, ?> analysis;
 
-    /** Information collected about local variables (including method arguments). */
+    /**
+     * Information collected about local variables (including method arguments). If the analysis
+     * {@link CFAbstractAnalysis#setShareLocals shares local variables}, this is a {@link
+     * SharedHashMap}, so copies of a store share it until they assign a local variable.
+     */
     protected final Map<FlowExpressions.LocalVariable, V> localVariableValues;
 
     /** Information collected about the current object. */
@@ -101,7 +110,8 @@ public abstract class CFAbstractStore<V extends CFAbstractValue<V>, S extends CF
 
     public CFAbstractStore(CFAbstractAnalysis<V, S, ?> analysis, boolean sequentialSemantics) {
         this.analysis = analysis;
-        localVariableValues = new HashMap<>();
+        localVariableValues =
+                analysis.shareLocals ? new SharedHashMap<>() : new HashMap<>();
         thisValue = null;
         fieldValues = new HashMap<>();
         methodValues = new HashMap<>();
@@ -113,7 +123,10 @@ public abstract class CFAbstractStore<V extends CFAbstractValue<V>, S extends CF
     /** Copy constructor. */
     protected CFAbstractStore(CFAbstractStore<V, S> other) {
         this.analysis = other.analysis;
-        localVariableValues = new HashMap<>(other.localVariableValues);
+        localVariableValues =
+                other.localVariableValues instanceof SharedHashMap
+                        ? sharedLocals(other).copy()
+                        : new HashMap<>(other.localVariableValues);
         thisValue = other.thisValue;
         fieldValues = new HashMap<>(other.fieldValues);
         methodValues = new HashMap<>(other.methodValues);
@@ -157,6 +170,12 @@ public abstract class CFAbstractStore<V extends CFAbstractValue<V>, S extends CF
      */
     protected boolean isSideEffectFree(
             AnnotatedTypeFactory atypeFactory, ExecutableElement method) {
+        if (atypeFactory instanceof GenericAnnotatedTypeFactory) {
+            // Use the purity kinds cached by the type factory.
+            return ((GenericAnnotatedTypeFactory<?, ?, ?, ?>) atypeFactory)
+                    .getPurityKinds(method)
+                    .contains(Pure.Kind.SIDE_EFFECT_FREE);
+        }
         return PurityUtils.isSideEffectFree(atypeFactory, method);
     }
 
@@ -188,9 +207,11 @@ public abstract class CFAbstractStore<V extends CFAbstractValue<V>, S extends CF
         // case 1: remove information if necessary
         if (!(analysis.checker.hasOption("assumeSideEffectFree")
                 || isSideEffectFree(atypeFactory, method))) {
-            // update field values
-            Map<FlowExpressions.FieldAccess, V> newFieldValues = new HashMap<>();
-            for (Entry<FlowExpressions.FieldAccess, V> e : fieldValues.entrySet()) {
+            // update field values, in place
+            Iterator<Entry<FlowExpressions.FieldAccess, V>> fieldEntries =
+                    fieldValues.entrySet().iterator();
+            while (fieldEntries.hasNext()) {
+                Entry<FlowExpressions.FieldAccess, V> e = fieldEntries.next();
                 FlowExpressions.FieldAccess fieldAccess = e.getKey();
                 V otherVal = e.getValue();
 
@@ -217,19 +238,16 @@ public abstract class CFAbstractStore<V extends CFAbstractValue<V>, S extends CF
                 if (newOtherVal != null) {
                     // keep information for all hierarchies where we had a
                     // monotone annotation.
-                    newFieldValues.put(fieldAccess, newOtherVal);
+                    e.setValue(newOtherVal);
                     continue;
                 }
 
                 // case 2:
                 if (!fieldAccess.isUnmodifiableByOtherCode()) {
-                    continue; // remove information completely
+                    fieldEntries.remove(); // remove information completely
                 }
-
-                // keep information
-                newFieldValues.put(fieldAccess, otherVal);
+                // otherwise, keep information
             }
-            fieldValues = newFieldValues;
 
             // update method values
             methodValues.clear();
@@ -787,6 +805,33 @@ public abstract class CFAbstractStore<V extends CFAbstractValue<V>, S extends CF
         return analysis.createCopiedStore((S) this);
     }
 
+    /**
+     * Returns this store if all of its local variables are live before {@code block}, and
+     * otherwise a copy of it without the values of the variables that are not.
+     *
+     * @param liveVariables the live variables of the CFG that contains {@code block}
+     * @param block the block that this store flows into
+     * @return a store with the values of this store for the variables that are live before {@code
+     *     block}
+     */
+    @SuppressWarnings("unchecked")
+    public S withoutDeadLocals(LiveVariables liveVariables, Block block) {
+        for (FlowExpressions.LocalVariable localVar : localVariableValues.keySet()) {
+            if (!liveVariables.isLiveBefore(block, localVar)) {
+                S result = copy();
+                Iterator<FlowExpressions.LocalVariable> it =
+                        result.localVariableValues.keySet().iterator();
+                while (it.hasNext()) {
+                    if (!liveVariables.isLiveBefore(block, it.next())) {
+                        it.remove();
+                    }
+                }
+                return result;
+            }
+        }
+        return (S) this;
+    }
+
     @Override
     public S leastUpperBound(S other) {
         return upperBound(other, false);
@@ -800,18 +845,26 @@ public abstract class CFAbstractStore<V extends CFAbstractValue<V>, S extends CF
     private S upperBound(S other, boolean shouldWiden) {
         S newStore = analysis.createEmptyStore(sequentialSemantics);
 
-        for (Entry<FlowExpressions.LocalVariable, V> e : other.localVariableValues.entrySet()) {
-            // local variables that are only part of one store, but not the
-            // other are discarded, as one of store implicitly contains 'top'
-            // for that variable.
-            FlowExpressions.LocalVariable localVar = e.getKey();
-            if (localVariableValues.containsKey(localVar)) {
-                V otherVal = e.getValue();
-                V thisVal = localVariableValues.get(localVar);
-                V mergedVal = upperBoundOfValues(otherVal, thisVal, shouldWiden);
-
-                if (mergedVal != null) {
-                    newStore.localVariableValues.put(localVar, mergedVal);
+        if (!shouldWiden
+                && newStore.localVariableValues instanceof SharedHashMap
+                && sharesLocalsWith(other)) {
+            // The least upper bound of each value with itself is the value.
+            sharedLocals(newStore).shareEntriesOf(sharedLocals(this));
+        } else {
+            for (Entry<FlowExpressions.LocalVariable, V> e :
+                    other.localVariableValues.entrySet()) {
+                // local variables that are only part of one store, but not the
+                // other are discarded, as one of store implicitly contains 'top'
+                // for that variable.
+                FlowExpressions.LocalVariable localVar = e.getKey();
+                if (localVariableValues.containsKey(localVar)) {
+                    V otherVal = e.getValue();
+                    V thisVal = localVariableValues.get(localVar);
+                    V mergedVal = upperBoundOfValues(otherVal, thisVal, shouldWiden);
+
+                    if (mergedVal != null) {
+                        newStore.localVariableValues.put(localVar, mergedVal);
+                    }
                 }
             }
         }
@@ -882,6 +935,23 @@ public abstract class CFAbstractStore<V extends CFAbstractValue<V>, S extends CF
         return newStore;
     }
 
+    /**
+     * Returns whether this store and {@code other} share their {@link #localVariableValues}, which
+     * implies that the maps are equal.
+     */
+    private boolean sharesLocalsWith(CFAbstractStore<V, ?> other) {
+        return localVariableValues instanceof SharedHashMap
+                && other.localVariableValues instanceof SharedHashMap
+                && sharedLocals(this).sharesEntriesWith(sharedLocals(other));
+    }
+
+    /** Returns the {@link #localVariableValues} of {@code store}, which must be shared. */
+    private static <V extends CFAbstractValue<V>>
+            SharedHashMap<FlowExpressions.LocalVariable, V> sharedLocals(
+                    CFAbstractStore<V, ?> store) {
+        return (SharedHashMap<FlowExpressions.LocalVariable, V>) store.localVariableValues;
+    }
+
     private V upperBoundOfValues(V otherVal, V thisVal, boolean shouldWiden) {
         return shouldWiden ? thisVal.widenUpperBound(otherVal) : thisVal.leastUpperBound(otherVal);
     }
@@ -4,8 +4,6 @@ package org.checkerframework.framework.flow;
 import org.checkerframework.checker.nullness.qual.Nullable;
 */
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Set;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.AnnotationMirror;
@@ -143,6 +141,9 @@ public abstract class CFAbstractValue<V extends CFAbstractValue<V>> implements A
 
     @Override
     public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
         if (obj == null || !(obj instanceof CFAbstractValue)) {
             return false;
         }
@@ -157,10 +158,12 @@ public abstract class CFAbstractValue<V extends CFAbstractValue<V>> implements A
     @Pure
     @Override
     public int hashCode() {
-        Collection<Object> objects = new ArrayList<>();
-        objects.addAll(getAnnotations());
-        objects.add(underlyingType);
-        return HashCodeUtils.hash(objects);
+        // Stores hash their values often, so don't allocate a collection of the annotations.
+        int annotationsHash = 1;
+        for (AnnotationMirror anno : getAnnotations()) {
+            annotationsHash = 31 * annotationsHash + anno.hashCode();
+        }
+        return HashCodeUtils.hash(annotationsHash, underlyingType);
     }
 
     /** @return the string representation as a comma-separated list */
@@ -185,7 +188,7 @@ public abstract class CFAbstractValue<V extends CFAbstractValue<V>> implements A
      * AnnotationMirror)}, then the respective value from {@code backup} is used.
      */
     public V mostSpecific(/*@Nullable*/ V other, /*@Nullable*/ V backup) {
-        if (other == null) {
+        if (other == null || other == this) {
             @SuppressWarnings("unchecked")
             V v = (V) this;
             return v;
@@ -326,7 +329,10 @@ public abstract class CFAbstractValue<V extends CFAbstractValue<V>> implements A
     }
 
     private V upperBound(/*@Nullable*/ V other, boolean shouldWiden) {
-        if (other == null) {
+        // The least upper bound of a value with itself is the value. Stores that are merged often
+        // share values, because copying a store does not copy its values. Widening may change
+        // even an identical value, so it is always computed.
+        if (other == null || (other == this && !shouldWiden)) {
             @SuppressWarnings("unchecked")
             V v = (V) this;
             return v;
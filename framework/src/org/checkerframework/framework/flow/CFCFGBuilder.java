@@ -8,8 +8,15 @@ import com.sun.source.tree.MethodInvocationTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.Tree;
 import com.sun.source.tree.VariableTree;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.VariableElement;
 import org.checkerframework.common.basetype.BaseTypeChecker;
@@ -19,7 +26,9 @@ import org.checkerframework.dataflow.cfg.UnderlyingAST;
 import org.checkerframework.framework.source.SourceChecker;
 import org.checkerframework.framework.type.AnnotatedTypeFactory;
 import org.checkerframework.framework.type.AnnotatedTypeMirror;
+import org.checkerframework.javacutil.AnnotationProvider;
 import org.checkerframework.javacutil.ErrorReporter;
+import org.checkerframework.javacutil.Pair;
 import org.checkerframework.javacutil.TreeUtils;
 
 /**
@@ -46,24 +55,144 @@ public class CFCFGBuilder extends CFGBuilder {
         }
         this.checker = checker;
         this.factory = factory;
+        this.useCache = checker.isPartOfCompoundChecker();
     }
 
-    /** Build the control flow graph of some code. */
+    /**
+     * Whether CFGs are shared through the {@link CFGCache}. Only the checkers of a compound checker
+     * build the CFGs of the same code, so other checkers do not use the cache.
+     */
+    private final boolean useCache;
+
+    /**
+     * The artificial trees created while building the current CFG, and the elements that enclose
+     * them.
+     */
+    private final List<Pair<Tree, Element>> artificialTrees = new ArrayList<>();
+
+    /**
+     * For each {@code assert} seen while building the current CFG, whether its detail message made
+     * the checker assume that assertions are enabled.
+     */
+    private final Map<AssertTree, Boolean> assertionDecisions = new IdentityHashMap<>();
+
+    /**
+     * For each declaration annotation looked up while building the current CFG, whether it was
+     * present.
+     */
+    private final Map<Pair<Element, Class<? extends Annotation>>, Boolean> declAnnotations =
+            new HashMap<>();
+
+    /**
+     * True if the current CFG contains trees with annotated types of this checker; such a CFG is
+     * not shared with other checkers.
+     */
+    private boolean usesCheckerTypes;
+
+    /** Looks up annotations in {@link #factory}, and records the results of the lookups. */
+    private final AnnotationProvider recordingAnnotationProvider =
+            new AnnotationProvider() {
+                @Override
+                public AnnotationMirror getDeclAnnotation(
+                        Element elt, Class<? extends Annotation> anno) {
+                    AnnotationMirror result = factory.getDeclAnnotation(elt, anno);
+                    declAnnotations.put(
+                            Pair.<Element, Class<? extends Annotation>>of(elt, anno),
+                            result != null);
+                    return result;
+                }
+
+                @Override
+                public AnnotationMirror getAnnotationMirror(
+                        Tree tree, Class<? extends Annotation> target) {
+                    // The result depends on the annotated types of this checker.
+                    usesCheckerTypes = true;
+                    return factory.getAnnotationMirror(tree, target);
+                }
+            };
+
+    /**
+     * Build the control flow graph of some code, or reuse the one that another checker of the same
+     * compound checker built, if building it again would give the same result; see {@link
+     * CFGCache}.
+     */
     @Override
     public ControlFlowGraph run(
             CompilationUnitTree root, ProcessingEnvironment env, UnderlyingAST underlyingAST) {
         declaredClasses.clear();
         declaredLambdas.clear();
 
+        CFGCache cache = useCache ? CFGCache.instance(env) : null;
+        CFGCache.Entry cached = cache != null ? cache.get(root, underlyingAST) : null;
+        if (cached != null && isValid(cached)) {
+            for (Pair<Tree, Element> artificialTree : cached.artificialTrees) {
+                factory.setPathHack(artificialTree.first, artificialTree.second);
+            }
+            declaredClasses.addAll(cached.declaredClasses);
+            declaredLambdas.addAll(cached.declaredLambdas);
+            return cached.cfg;
+        }
+
+        artificialTrees.clear();
+        assertionDecisions.clear();
+        declAnnotations.clear();
+        usesCheckerTypes = false;
+
         CFTreeBuilder builder = new CFTreeBuilder(env);
         PhaseOneResult phase1result =
                 new CFCFGTranslationPhaseOne()
-                        .process(root, env, underlyingAST, exceptionalExitLabel, builder, factory);
+                        .process(
+                                root,
+                                env,
+                                underlyingAST,
+                                exceptionalExitLabel,
+                                builder,
+                                recordingAnnotationProvider);
         ControlFlowGraph phase2result = new CFGTranslationPhaseTwo().process(phase1result);
         ControlFlowGraph phase3result = CFGTranslationPhaseThree.process(phase2result);
+
+        if (cache != null && !usesCheckerTypes) {
+            cache.put(
+                    root,
+                    underlyingAST,
+                    new CFGCache.Entry(
+                            phase3result,
+                            declaredClasses,
+                            declaredLambdas,
+                            new ArrayList<>(artificialTrees),
+                            new IdentityHashMap<>(assertionDecisions),
+                            new HashMap<>(declAnnotations),
+                            assumeAssertionsEnabled,
+                            assumeAssertionsDisabled));
+        }
         return phase3result;
     }
 
+    /**
+     * Returns true if building the CFG of {@code cached} with this builder would give the same
+     * CFG, because this checker makes each checker-specific decision the same way.
+     */
+    private boolean isValid(CFGCache.Entry cached) {
+        if (cached.assumeAssertionsEnabled != assumeAssertionsEnabled
+                || cached.assumeAssertionsDisabled != assumeAssertionsDisabled) {
+            return false;
+        }
+        for (Map.Entry<AssertTree, Boolean> decision : cached.assertionDecisions.entrySet()) {
+            if (assumeAssertionsActivatedForAssertTree(checker, decision.getKey())
+                    != decision.getValue()) {
+                return false;
+            }
+        }
+        for (Map.Entry<Pair<Element, Class<? extends Annotation>>, Boolean> lookup :
+                cached.declAnnotations.entrySet()) {
+            Pair<Element, Class<? extends Annotation>> key = lookup.getKey();
+            if ((factory.getDeclAnnotation(key.first, key.second) != null) != lookup.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /*
      * Given a SourceChecker and an AssertTree, returns whether the AssertTree
      * uses an @AssumeAssertion string that is relevant to the SourceChecker.
@@ -89,7 +218,9 @@ public class CFCFGBuilder extends CFGBuilder {
 
         @Override
         protected boolean assumeAssertionsEnabledFor(AssertTree tree) {
-            if (assumeAssertionsActivatedForAssertTree(checker, tree)) {
+            boolean activated = assumeAssertionsActivatedForAssertTree(checker, tree);
+            assertionDecisions.put(tree, activated);
+            if (activated) {
                 return true;
             }
             return super.assumeAssertionsEnabledFor(tree);
@@ -102,11 +233,13 @@ public class CFCFGBuilder extends CFGBuilder {
             if (enclosingMethod != null) {
                 Element methodElement = TreeUtils.elementFromDeclaration(enclosingMethod);
                 factory.setPathHack(tree, methodElement);
+                artificialTrees.add(Pair.of(tree, methodElement));
             } else {
                 ClassTree enclosingClass = TreeUtils.enclosingClass(getCurrentPath());
                 if (enclosingClass != null) {
                     Element classElement = TreeUtils.elementFromDeclaration(enclosingClass);
                     factory.setPathHack(tree, classElement);
+                    artificialTrees.add(Pair.of(tree, classElement));
                 }
             }
         }
@@ -116,6 +249,7 @@ public class CFCFGBuilder extends CFGBuilder {
                 MethodInvocationTree iteratorCall, VariableElement variableElement) {
             // We do not want to cache flow-insensitive types
             // retrieved during CFG building.
+            usesCheckerTypes = true;
             boolean oldShouldCache = factory.shouldCache;
             factory.shouldCache = false;
             AnnotatedTypeMirror annotatedIteratorType = factory.getAnnotatedType(iteratorCall);
@@ -140,6 +274,7 @@ public class CFCFGBuilder extends CFGBuilder {
                 ExpressionTree expression, VariableElement variableElement) {
             // We do not want to cache flow-insensitive types
             // retrieved during CFG building.
+            usesCheckerTypes = true;
             boolean oldShouldCache = factory.shouldCache;
             factory.shouldCache = false;
             AnnotatedTypeMirror annotatedArrayType = factory.getAnnotatedType(expression);
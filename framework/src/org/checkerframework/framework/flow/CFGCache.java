@@ -0,0 +1,163 @@
+package org.checkerframework.framework.flow;
+
+import com.sun.source.tree.AssertTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.LambdaExpressionTree;
+import com.sun.source.tree.Tree;
+import com.sun.tools.javac.processing.JavacProcessingEnvironment;
+import com.sun.tools.javac.util.Context;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import org.checkerframework.dataflow.cfg.ControlFlowGraph;
+import org.checkerframework.dataflow.cfg.UnderlyingAST;
+import org.checkerframework.dataflow.cfg.UnderlyingAST.CFGLambda;
+import org.checkerframework.dataflow.cfg.UnderlyingAST.CFGMethod;
+import org.checkerframework.javacutil.Pair;
+
+/**
+ * The control-flow graphs of the class being checked, shared by the checkers of a compound
+ * checker. A compound checker, such as the Index Checker, runs several subcheckers on each method;
+ * with this cache, each method's CFG is built once rather than once per subchecker. Checkers that
+ * are not part of a compound checker do not use the cache.
+ *
+ * <p>Building a CFG depends on the checker in only a few ways, which {@link CFCFGBuilder} records
+ * in the {@link Entry} of each CFG:
+ *
+ * <ul>
+ *   <li>artificial trees are associated with their enclosing element in the type factory;
+ *   <li>{@code @AssumeAssertion} strings are matched against the checker's warning keys;
+ *   <li>declaration annotations, such as {@code @TerminatesExecution}, are looked up in the type
+ *       factory, which may see different stub files;
+ *   <li>the variables introduced for enhanced for loops have the annotated types of the checker.
+ * </ul>
+ *
+ * A CFG of the last kind is never shared. Any other CFG is reused by a checker only if the
+ * checker answers each of the recorded questions the same way; the associations of artificial
+ * trees are then replayed in the checker's type factory.
+ *
+ * <p>The cache holds the CFGs of a single compilation unit, and is emptied when a checker builds a
+ * CFG for a different compilation unit. It is also emptied by {@link #clear} once every checker of
+ * the compound checker has processed a class, since no checker builds those CFGs again.
+ */
+public class CFGCache {
+
+    /** The key for the cache in the compilation's context. */
+    private static final Context.Key<CFGCache> cfgCacheKey = new Context.Key<>();
+
+    /** The compilation unit whose CFGs are in {@link #entries}. */
+    private CompilationUnitTree root = null;
+
+    /** Maps the tree of the analyzed code, as given by {@link #getKey}, to its CFG. */
+    private final Map<Tree, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * Returns the CFG cache of the compilation of {@code env}, creating it the first time.
+     *
+     * @param env the processing environment of the compilation
+     * @return the CFG cache of the compilation
+     */
+    public static CFGCache instance(ProcessingEnvironment env) {
+        Context context = ((JavacProcessingEnvironment) env).getContext();
+        CFGCache cache = context.get(cfgCacheKey);
+        if (cache == null) {
+            cache = new CFGCache();
+            context.put(cfgCacheKey, cache);
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the cached CFG of {@code ast}, or null if there is none.
+     *
+     * @param root the compilation unit that contains {@code ast}
+     * @param ast the code whose CFG is requested
+     */
+    Entry get(CompilationUnitTree root, UnderlyingAST ast) {
+        if (root != this.root) {
+            return null;
+        }
+        return entries.get(getKey(ast));
+    }
+
+    /** Caches {@code entry} as the CFG of {@code ast}, which is in {@code root}. */
+    void put(CompilationUnitTree root, UnderlyingAST ast, Entry entry) {
+        if (root != this.root) {
+            entries.clear();
+            this.root = root;
+        }
+        entries.put(getKey(ast), entry);
+    }
+
+    /** Removes all CFGs from the cache. */
+    public void clear() {
+        entries.clear();
+        root = null;
+    }
+
+    /**
+     * Returns the tree that identifies the code of {@code ast}. Each type factory creates its own
+     * {@link UnderlyingAST}s, so they cannot be used as keys themselves.
+     */
+    private static Tree getKey(UnderlyingAST ast) {
+        switch (ast.getKind()) {
+            case METHOD:
+                return ((CFGMethod) ast).getMethod();
+            case LAMBDA:
+                return ((CFGLambda) ast).getLambdaTree();
+            default:
+                return ast.getCode();
+        }
+    }
+
+    /** A cached CFG, together with the checker-specific decisions made while building it. */
+    static class Entry {
+        /** The CFG. */
+        final ControlFlowGraph cfg;
+
+        /** The classes declared in the code of the CFG. */
+        final List<ClassTree> declaredClasses;
+
+        /** The lambdas in the code of the CFG. */
+        final List<LambdaExpressionTree> declaredLambdas;
+
+        /** The artificial trees of the CFG, and the elements that enclose them. */
+        final List<Pair<Tree, Element>> artificialTrees;
+
+        /** Whether each {@code assert} was assumed to be enabled because of its detail message. */
+        final Map<AssertTree, Boolean> assertionDecisions;
+
+        /** Whether each declaration annotation that was looked up was present. */
+        final Map<Pair<Element, Class<? extends Annotation>>, Boolean> declAnnotations;
+
+        /** The value of {@code -AassumeAssertionsAreEnabled} when the CFG was built. */
+        final boolean assumeAssertionsEnabled;
+
+        /** The value of {@code -AassumeAssertionsAreDisabled} when the CFG was built. */
+        final boolean assumeAssertionsDisabled;
+
+        Entry(
+                ControlFlowGraph cfg,
+                List<ClassTree> declaredClasses,
+                List<LambdaExpressionTree> declaredLambdas,
+                List<Pair<Tree, Element>> artificialTrees,
+                Map<AssertTree, Boolean> assertionDecisions,
+                Map<Pair<Element, Class<? extends Annotation>>, Boolean> declAnnotations,
+                boolean assumeAssertionsEnabled,
+                boolean assumeAssertionsDisabled) {
+            this.cfg = cfg;
+            this.declaredClasses = new ArrayList<>(declaredClasses);
+            this.declaredLambdas = new ArrayList<>(declaredLambdas);
+            this.artificialTrees = artificialTrees;
+            this.assertionDecisions = assertionDecisions;
+            this.declAnnotations = declAnnotations;
+            this.assumeAssertionsEnabled = assumeAssertionsEnabled;
+            this.assumeAssertionsDisabled = assumeAssertionsDisabled;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package org.checkerframework.framework.flow;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A hash map whose copies share its entries until one of them is modified.
+ *
+ * <p>{@link CFAbstractStore} keeps the values of local variables in such a map. A store is copied
+ * for every node that the flow analysis visits and for the input of every basic block, but most
+ * nodes and blocks assign at most one or two local variables; with this map, the stores share one
+ * table of local variables until an assignment, rather than each holding a table of all of them.
+ *
+ * <p>A map and its copies are marked as shared, and each of them copies the entries before its
+ * first modification. Modifications through the views of the map, such as removing an entry
+ * through an iterator, are supported.
+ */
+class SharedHashMap<K, V> extends AbstractMap<K, V> {
+
+    /** The entries of this map; not modified while {@link #shared} is true. */
+    private HashMap<K, V> map;
+
+    /** Whether {@link #map} may also be the table of another map. */
+    private boolean shared;
+
+    /** The entry set view of this map, or null if it has not been requested yet. */
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /** Creates an empty map. */
+    SharedHashMap() {
+        this.map = new HashMap<>();
+        this.shared = false;
+    }
+
+    /** Creates a map with the entries of {@code map}, which it shares. */
+    private SharedHashMap(HashMap<K, V> map) {
+        this.map = map;
+        this.shared = true;
+    }
+
+    /**
+     * Returns a copy of this map. The copy and this map share their entries until either of them
+     * is modified, so copying takes constant time.
+     *
+     * @return a copy of this map
+     */
+    SharedHashMap<K, V> copy() {
+        shared = true;
+        return new SharedHashMap<>(map);
+    }
+
+    /**
+     * Replaces the entries of this map by those of {@code other}, which the maps then share.
+     *
+     * @param other the map whose entries to share
+     */
+    void shareEntriesOf(SharedHashMap<K, V> other) {
+        other.shared = true;
+        this.map = other.map;
+        this.shared = true;
+    }
+
+    /**
+     * Returns whether this map and {@code other} share their entries, which implies that they are
+     * equal.
+     */
+    boolean sharesEntriesWith(SharedHashMap<?, ?> other) {
+        return map == other.map;
+    }
+
+    /** Makes {@link #map} a table of this map only, copying it if it is shared. */
+    private void ensureOwned() {
+        if (shared) {
+            map = new HashMap<>(map);
+            shared = false;
+        }
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        ensureOwned();
+        return map.put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!map.containsKey(key)) {
+            return null;
+        }
+        ensureOwned();
+        return map.remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        if (!m.isEmpty()) {
+            ensureOwned();
+            map.putAll(m);
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (shared) {
+            map = new HashMap<>();
+            shared = false;
+        } else {
+            map.clear();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof SharedHashMap && sharesEntriesWith((SharedHashMap<?, ?>) o)) {
+            return true;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return map.hashCode();
+    }
+
+    /** The entry set view of the enclosing map. */
+    private class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return map.entrySet().contains(o);
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public void clear() {
+            SharedHashMap.this.clear();
+        }
+    }
+
+    /**
+     * An iterator over the entries of the enclosing map. It iterates over the table of the map
+     * when it was created; if the map copies its table later, modifications through the iterator
+     * go to the copy.
+     */
+    private class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        /** The table being iterated. */
+        private final HashMap<K, V> iterated = map;
+
+        /** The iterator over {@link #iterated}. */
+        private final Iterator<Map.Entry<K, V>> it = iterated.entrySet().iterator();
+
+        /** The entry last returned by {@link #next}. */
+        private Map.Entry<K, V> last;
+
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            last = it.next();
+            return new SharedEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            ensureOwned();
+            if (map == iterated) {
+                it.remove();
+            } else {
+                map.remove(last.getKey());
+            }
+        }
+    }
+
+    /** An entry of the enclosing map; setting its value modifies the map. */
+    private class SharedEntry extends SimpleEntry<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        SharedEntry(Map.Entry<K, V> entry) {
+            super(entry);
+        }
+
+        @Override
+        public V setValue(V value) {
+            ensureOwned();
+            map.put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
@@ -111,10 +111,15 @@ public abstract class AggregateChecker extends SourceChecker {
             // error was already output. Just quit.
             return;
         }
-        for (SourceChecker checker : checkers) {
-            checker.errsOnLastExit = this.errsOnLastExit;
-            checker.typeProcess(element, tree);
-            this.errsOnLastExit = checker.errsOnLastExit;
+        boolean startedProfilingClass = startProfilingClass(element, tree);
+        try {
+            for (SourceChecker checker : checkers) {
+                checker.errsOnLastExit = this.errsOnLastExit;
+                checker.typeProcess(element, tree);
+                this.errsOnLastExit = checker.errsOnLastExit;
+            }
+        } finally {
+            stopProfilingClass(startedProfilingClass);
         }
     }
 
@@ -0,0 +1,162 @@
+package org.checkerframework.framework.source;
+
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.tree.VariableTree;
+import com.sun.source.util.SourcePositions;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.TreePathScanner;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The declarations of a compilation unit, indexed by source position.
+ *
+ * <p>Whether a warning is suppressed depends on the variable, method, and class declarations that
+ * enclose the reported tree. {@link SourceChecker#shouldSuppressWarnings(Tree, String)} needs the
+ * path to the tree to find them; rather than searching the whole compilation unit for the tree, it
+ * uses this index to search only the innermost declaration whose source range contains the
+ * position of the tree.
+ */
+class DeclarationIndex {
+
+    /** The indexed compilation unit. */
+    private final CompilationUnitTree root;
+
+    /** The source positions of the trees of {@link #root}. */
+    private final SourcePositions positions;
+
+    /** The paths to the declarations, in preorder. */
+    private final List<TreePath> paths = new ArrayList<>();
+
+    /** The start position of each declaration. */
+    private int[] starts;
+
+    /** The largest start position of a tree within each declaration. */
+    private int[] ends;
+
+    /** The index of the innermost declaration that encloses each declaration, or -1. */
+    private int[] parents;
+
+    /**
+     * Indexes the declarations of {@code root}.
+     *
+     * @param root a compilation unit
+     * @param positions the source positions of the trees of {@code root}
+     */
+    DeclarationIndex(CompilationUnitTree root, SourcePositions positions) {
+        this.root = root;
+        this.positions = positions;
+        this.starts = new int[16];
+        this.ends = new int[16];
+        this.parents = new int[16];
+        new Indexer().scan(root, null);
+    }
+
+    /** @return the indexed compilation unit */
+    CompilationUnitTree getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns the path to {@code tree}, if it is within the innermost declaration that contains its
+     * start position.
+     *
+     * @param tree a tree
+     * @return the path to {@code tree}, or null if it was not found
+     */
+    /*@Nullable*/ TreePath getPath(Tree tree) {
+        long pos = positions.getStartPosition(root, tree);
+        if (pos < 0) {
+            return null;
+        }
+        // The last declaration that starts at or before pos ...
+        int low = 0;
+        int high = paths.size() - 1;
+        int index = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= pos) {
+                index = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // ... or the innermost one of its enclosing declarations that contains pos.
+        while (index >= 0 && ends[index] < pos) {
+            index = parents[index];
+        }
+        if (index < 0) {
+            return null;
+        }
+        return TreePath.getPath(paths.get(index), tree);
+    }
+
+    /** Records the declarations of the compilation unit, in preorder. */
+    private class Indexer extends TreePathScanner<Void, Void> {
+
+        /** The index of the innermost declaration being scanned, or -1. */
+        private int current = -1;
+
+        /** The largest start position of a tree scanned so far. */
+        private int maxStart = -1;
+
+        @Override
+        public Void scan(Tree tree, Void p) {
+            if (tree != null) {
+                maxStart = Math.max(maxStart, (int) positions.getStartPosition(root, tree));
+            }
+            return super.scan(tree, p);
+        }
+
+        @Override
+        public Void visitClass(ClassTree tree, Void p) {
+            int index = enter();
+            super.visitClass(tree, p);
+            exit(index);
+            return null;
+        }
+
+        @Override
+        public Void visitMethod(MethodTree tree, Void p) {
+            int index = enter();
+            super.visitMethod(tree, p);
+            exit(index);
+            return null;
+        }
+
+        @Override
+        public Void visitVariable(VariableTree tree, Void p) {
+            int index = enter();
+            super.visitVariable(tree, p);
+            exit(index);
+            return null;
+        }
+
+        /** Records the declaration at the current path, and makes it the current declaration. */
+        private int enter() {
+            int index = paths.size();
+            if (index == starts.length) {
+                starts = Arrays.copyOf(starts, 2 * index);
+                ends = Arrays.copyOf(ends, 2 * index);
+                parents = Arrays.copyOf(parents, 2 * index);
+            }
+            TreePath path = getCurrentPath();
+            paths.add(path);
+            starts[index] = (int) positions.getStartPosition(root, path.getLeaf());
+            parents[index] = current;
+            current = index;
+            return index;
+        }
+
+        /** Records the end of the declaration {@code index}, whose trees have been scanned. */
+        private void exit(int index) {
+            ends[index] = maxStart;
+            current = parents[index];
+        }
+    }
+}
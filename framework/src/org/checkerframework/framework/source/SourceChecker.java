@@ -16,8 +16,12 @@ import com.sun.source.util.Trees;
 import com.sun.tools.javac.processing.JavacProcessingEnvironment;
 import com.sun.tools.javac.util.Context;
 import com.sun.tools.javac.util.Log;
+import com.sun.tools.javac.util.Options;
+import java.io.BufferedWriter;
+import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryPoolMXBean;
 import java.util.ArrayList;
@@ -26,6 +30,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +58,8 @@ import org.checkerframework.framework.type.AnnotatedTypeFactory;
 import org.checkerframework.framework.util.CFContext;
 import org.checkerframework.framework.util.CheckerMain;
 import org.checkerframework.framework.util.OptionConfiguration;
+import org.checkerframework.framework.util.PhaseProfiler;
+import org.checkerframework.framework.util.PhaseProfiler.Phase;
 import org.checkerframework.javacutil.AbstractTypeProcessor;
 import org.checkerframework.javacutil.AnnotationProvider;
 import org.checkerframework.javacutil.AnnotationUtils;
@@ -107,6 +114,10 @@ import org.checkerframework.javacutil.TreeUtils;
     "skipDefs",
     "onlyDefs",
 
+    // Do not analyze or check declarations for which all warnings are suppressed
+    // org.checkerframework.framework.source.SourceChecker.shouldSkipSuppressedDefs
+    "skipSuppressedDefs",
+
     // Whether to ignore all subtype tests for type arguments that
     // were inferred for a raw type
     // org.checkerframework.framework.type.TypeHierarchy.isSubtypeTypeArguments
@@ -307,9 +318,44 @@ import org.checkerframework.javacutil.TreeUtils;
     // org.checkerframework.framework.source.SourceChecker.shutdownHook()
     "resourceStats",
 
+    // Whether to profile the time and allocation of the phases of the checker run, and where
+    // to write the profile as JSON
+    // org.checkerframework.framework.util.PhaseProfiler
+    "profile",
+    "profileOutput",
+
     // Set the cache size for caches in AnnotatedTypeFactory
     "atfCacheSize",
 
+    // Discard the flow results of each top-level class once all checkers are done with it
+    // org.checkerframework.framework.type.GenericAnnotatedTypeFactory.classProcessingFinished
+    "releaseFlowResults",
+
+    // Every how many nodes of a basic block the flow analysis records the store
+    // org.checkerframework.framework.type.GenericAnnotatedTypeFactory.getFlowCheckpointInterval
+    "flowCheckpointInterval",
+
+    // The blocks at which the flow analysis widens, and the number of narrowing rounds after it
+    // org.checkerframework.framework.type.GenericAnnotatedTypeFactory.getFlowWideningStrategy
+    "flowWideningStrategy",
+    "flowNarrowingIterations",
+
+    // Drop the local variables that are not live from the stores of the flow analysis
+    // org.checkerframework.framework.flow.CFAbstractAnalysis.setPruneDeadLocals
+    "flowPruneDeadLocals",
+
+    // Let copies of a store of the flow analysis share the values of local variables
+    // org.checkerframework.framework.flow.CFAbstractAnalysis.setShareLocals
+    "flowShareLocals",
+
+    // Propagate one exceptional store for consecutive nodes with the same exception handlers
+    // org.checkerframework.dataflow.analysis.Analysis.setCoalesceExceptionalEdges
+    "flowCoalesceExceptionalEdges",
+
+    // Analyze each method only when its flow results are first needed
+    // org.checkerframework.framework.type.GenericAnnotatedTypeFactory.performFlowAnalysis
+    "flowAnalyzeMethodsOnDemand",
+
     // Sets AnnotatedTypeFactory shouldCache to false
     "atfDoNotCache"
 })
@@ -384,6 +430,36 @@ public abstract class SourceChecker extends AbstractTypeProcessor
      */
     private Pattern onlyDefsPattern;
 
+    /**
+     * The result of {@link #shouldSkipUses(Element)} for each class whose elements were looked up.
+     * Matching the patterns is costly when they are long, and the result depends only on the name
+     * of the class.
+     */
+    private final Map<TypeElement, Boolean> shouldSkipUsesCache = new IdentityHashMap<>();
+
+    /** The result of {@link #shouldSkipDefs(ClassTree)} for each class that was looked up. */
+    private final Map<TypeElement, Boolean> shouldSkipDefsCache = new IdentityHashMap<>();
+
+    /**
+     * The result of {@link #shouldSuppressWarnings(Element, String)} for each element and error
+     * key that were looked up in the current compilation unit. Legacy code can produce many
+     * suppressed warnings within the same declarations.
+     */
+    private final Map<Element, Map<String, Boolean>> shouldSuppressWarningsCache =
+            new IdentityHashMap<>();
+
+    /**
+     * The declarations of the current compilation unit, indexed by source position; null until a
+     * warning is looked up in the compilation unit.
+     */
+    private /*@Nullable*/ DeclarationIndex declarationIndex = null;
+
+    /** The value of javac's {@code -Xmaxerrs} option, or -1 if it has not been read yet. */
+    private int maxErrors = -1;
+
+    /** The value of javac's {@code -Xmaxwarns} option, or -1 if it has not been read yet. */
+    private int maxWarnings = -1;
+
     /** The supported lint options */
     private Set<String> supportedLints;
 
@@ -424,6 +500,9 @@ public abstract class SourceChecker extends AbstractTypeProcessor
     /** List of upstream checker names. Includes the current checker. */
     protected List<String> upstreamCheckerNames = null;
 
+    /** The profiler shared by all checkers of this compilation; see {@link #getProfiler}. */
+    private PhaseProfiler profiler = null;
+
     @Override
     public final synchronized void init(ProcessingEnvironment env) {
         super.init(env);
@@ -466,6 +545,19 @@ public abstract class SourceChecker extends AbstractTypeProcessor
         return upstreamCheckerNames;
     }
 
+    /**
+     * Returns the profiler shared by all checkers of the current compilation. It only records
+     * anything if {@code -Aprofile} is passed.
+     *
+     * @return the profiler of the current compilation
+     */
+    public PhaseProfiler getProfiler() {
+        if (profiler == null) {
+            profiler = PhaseProfiler.instance(processingEnv, hasOption("profile"));
+        }
+        return profiler;
+    }
+
     /** @return the {@link CFContext} used by this checker */
     public CFContext getContext() {
         return this;
@@ -864,7 +956,7 @@ public abstract class SourceChecker extends AbstractTypeProcessor
      * of the JVM.
      */
     protected boolean shouldAddShutdownHook() {
-        return hasOption("resourceStats");
+        return hasOption("resourceStats") || hasOption("profile");
     }
 
     /**
@@ -878,6 +970,28 @@ public abstract class SourceChecker extends AbstractTypeProcessor
             // call the super implementations.
             printStats();
         }
+        if (hasOption("profile")) {
+            printProfile();
+        }
+    }
+
+    /**
+     * Print the slowest-methods report of the profiler and write the profile to the file given by
+     * {@code -AprofileOutput}, if any.
+     */
+    protected void printProfile() {
+        String output = getOption("profileOutput");
+        try {
+            if (output == null) {
+                getProfiler().report(System.out, null);
+            } else {
+                try (Writer writer = new BufferedWriter(new FileWriter(output))) {
+                    getProfiler().report(System.out, writer);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write profile to " + output + ": " + e.getMessage());
+        }
     }
 
     /** Print resource usage statistics */
@@ -955,8 +1069,14 @@ public abstract class SourceChecker extends AbstractTypeProcessor
         if (p.getCompilationUnit() != currentRoot) {
             currentRoot = p.getCompilationUnit();
             visitor.setRoot(currentRoot);
+            shouldSuppressWarningsCache.clear();
+            declarationIndex = null;
         }
 
+        PhaseProfiler profiler = getProfiler();
+        boolean startedProfilingClass = startProfilingClass(e, p);
+        profiler.start(Phase.CHECKER, getClass().getSimpleName());
+        profiler.start(Phase.TYPE_CHECKING);
         // Visit the attributed tree.
         try {
             visitor.visit(p);
@@ -965,12 +1085,45 @@ public abstract class SourceChecker extends AbstractTypeProcessor
         } catch (Throwable t) {
             logCheckerError(wrapThrowableAsCheckerError("SourceChecker.typeProcess", t, p));
         } finally {
+            profiler.stop();
+            profiler.stop();
+            stopProfilingClass(startedProfilingClass);
             // Also add possibly deferred diagnostics, which will get published back in
             // AbstractTypeProcessor.
             this.errsOnLastExit = log.nerrors;
         }
     }
 
+    /**
+     * Opens the profiler phases for the compilation unit and class that are about to be processed,
+     * unless an enclosing checker (such as the checker that runs this subchecker) already did.
+     *
+     * @param e the class that is about to be processed
+     * @param p the path to the class
+     * @return whether the phases were opened; pass this to {@link #stopProfilingClass}
+     */
+    protected boolean startProfilingClass(TypeElement e, TreePath p) {
+        PhaseProfiler profiler = getProfiler();
+        if (!profiler.isEnabled() || !profiler.isIdle()) {
+            return false;
+        }
+        profiler.start(Phase.COMPILATION_UNIT, p.getCompilationUnit().getSourceFile().getName());
+        profiler.start(Phase.CLASS, e.getQualifiedName());
+        return true;
+    }
+
+    /**
+     * Closes the profiler phases opened by {@link #startProfilingClass}.
+     *
+     * @param started the result of the corresponding call to {@link #startProfilingClass}
+     */
+    protected void stopProfilingClass(boolean started) {
+        if (started) {
+            getProfiler().stop();
+            getProfiler().stop();
+        }
+    }
+
     private CheckerError wrapThrowableAsCheckerError(
             String where, Throwable t, /*@Nullable*/ TreePath p) {
         return new CheckerError(
@@ -1060,6 +1213,11 @@ public abstract class SourceChecker extends AbstractTypeProcessor
 
         assert messages != null : "null messages";
 
+        if (isDiagnosticLimitReached(kind)) {
+            // javac would discard the message, so don't bother formatting it.
+            return;
+        }
+
         if (args != null) {
             for (int i = 0; i < args.length; ++i) {
                 if (args[i] == null) {
@@ -1161,6 +1319,55 @@ public abstract class SourceChecker extends AbstractTypeProcessor
         }
     }
 
+    /**
+     * Returns whether javac would discard a message of the given kind, because it has already
+     * printed as many messages of that kind as its {@code -Xmaxerrs} or {@code -Xmaxwarns} option
+     * allows.
+     *
+     * @param kind the kind of the message
+     * @return true if a message of kind {@code kind} would not be printed
+     */
+    private boolean isDiagnosticLimitReached(Diagnostic.Kind kind) {
+        if (kind != Diagnostic.Kind.ERROR
+                && kind != Diagnostic.Kind.WARNING
+                && kind != Diagnostic.Kind.MANDATORY_WARNING) {
+            return false;
+        }
+        Context context = ((JavacProcessingEnvironment) processingEnv).getContext();
+        if (maxErrors == -1) {
+            Options options = Options.instance(context);
+            maxErrors = getDiagnosticLimit(options, "-Xmaxerrs");
+            maxWarnings = getDiagnosticLimit(options, "-Xmaxwarns");
+        }
+        Log log = Log.instance(context);
+        if (kind == Diagnostic.Kind.ERROR) {
+            return log.nerrors >= maxErrors;
+        } else {
+            return log.nwarnings >= maxWarnings;
+        }
+    }
+
+    /**
+     * Returns the limit on the number of messages given by a javac option, interpreted the same
+     * way as by javac's {@link Log}.
+     *
+     * @param options javac's options
+     * @param name the name of the option, {@code -Xmaxerrs} or {@code -Xmaxwarns}
+     * @return the limit, which is 100 if the option is not given
+     */
+    private static int getDiagnosticLimit(Options options, String name) {
+        String value = options.get(name);
+        if (value != null) {
+            try {
+                int limit = Integer.parseInt(value);
+                return limit <= 0 ? Integer.MAX_VALUE : limit;
+            } catch (NumberFormatException e) {
+                // javac ignores ill-formed numbers, too.
+            }
+        }
+        return 100;
+    }
+
     /**
      * Do not call this method directly. Call {@link #report(Result, Object)} instead. (This method
      * exists so that the BaseTypeChecker can override it and treat messages from compound checkers
@@ -1179,7 +1386,8 @@ public abstract class SourceChecker extends AbstractTypeProcessor
      */
     protected Object processArg(Object arg) {
         // Check to see if the argument itself is a property to be expanded
-        return messages.getProperty(arg.toString(), arg.toString());
+        String argString = arg.toString();
+        return messages.getProperty(argString, argString);
     }
 
     /**
@@ -1322,7 +1530,7 @@ public abstract class SourceChecker extends AbstractTypeProcessor
             return false;
         }
 
-        /*@Nullable*/ TreePath path = trees.getPath(this.currentRoot, tree);
+        /*@Nullable*/ TreePath path = getPath(tree);
         if (path == null) {
             return false;
         }
@@ -1373,6 +1581,33 @@ public abstract class SourceChecker extends AbstractTypeProcessor
         return false;
     }
 
+    /**
+     * Returns the path to {@code tree} in the current compilation unit. Searching the whole
+     * compilation unit for each of many warnings is costly, so this first searches the tree that
+     * the visitor is visiting, which contains most reported trees, and then the innermost
+     * declaration whose source range contains {@code tree}.
+     *
+     * @param tree a tree of the current compilation unit
+     * @return the path to {@code tree}, or null if it is not in the current compilation unit
+     */
+    private /*@Nullable*/ TreePath getPath(Tree tree) {
+        TreePath visitorPath = visitor == null ? null : visitor.getCurrentPath();
+        if (visitorPath != null && visitorPath.getCompilationUnit() == currentRoot) {
+            TreePath path = TreePath.getPath(visitorPath, tree);
+            if (path != null) {
+                return path;
+            }
+        }
+        if (declarationIndex == null || declarationIndex.getRoot() != currentRoot) {
+            declarationIndex = new DeclarationIndex(currentRoot, trees.getSourcePositions());
+        }
+        TreePath path = declarationIndex.getPath(tree);
+        if (path != null) {
+            return path;
+        }
+        return trees.getPath(this.currentRoot, tree);
+    }
+
     /**
      * Should unchecked code defaults be used for the kind of code indicated by the parameter
      *
@@ -1422,6 +1657,21 @@ public abstract class SourceChecker extends AbstractTypeProcessor
             return false;
         }
 
+        Map<String, Boolean> cachedResults = shouldSuppressWarningsCache.get(elt);
+        if (cachedResults == null) {
+            cachedResults = new HashMap<>();
+            shouldSuppressWarningsCache.put(elt, cachedResults);
+        }
+        Boolean result = cachedResults.get(errKey);
+        if (result == null) {
+            result = computeShouldSuppressWarnings(elt, errKey);
+            cachedResults.put(errKey, result);
+        }
+        return result;
+    }
+
+    /** Computes the result of {@link #shouldSuppressWarnings(Element, String)}. */
+    private boolean computeShouldSuppressWarnings(Element elt, String errKey) {
         if (checkSuppressWarnings(elt.getAnnotation(SuppressWarnings.class), errKey)) {
             return true;
         }
@@ -1888,8 +2138,13 @@ public abstract class SourceChecker extends AbstractTypeProcessor
             return false;
         }
         TypeElement typeElement = ElementUtils.enclosingClass(element);
-        String name = typeElement.toString();
-        return shouldSkipUses(name);
+        Boolean result = shouldSkipUsesCache.get(typeElement);
+        if (result == null) {
+            String name = typeElement.toString();
+            result = shouldSkipUses(name);
+            shouldSkipUsesCache.put(typeElement, result);
+        }
+        return result;
     }
 
     /**
@@ -1901,18 +2156,6 @@ public abstract class SourceChecker extends AbstractTypeProcessor
      * @return true iff the enclosing class of element should be skipped
      */
     public final boolean shouldSkipUses(String typeName) {
-        // System.out.printf("shouldSkipUses(%s) %s%nskipUses %s%nonlyUses %s%nresult %s%n",
-        //                   element,
-        //                   name,
-        //                   skipUsesPattern.matcher(name).find(),
-        //                   onlyUsesPattern.matcher(name).find(),
-        //                   (skipUsesPattern.matcher(name).find()
-        //                    || ! onlyUsesPattern.matcher(name).find()));
-        // StackTraceElement[] stea = new Throwable().getStackTrace();
-        // for (int i=0; i<3; i++) {
-        //     System.out.println("  " + stea[i]);
-        // }
-        // System.out.println();
         if (skipUsesPattern == null) {
             skipUsesPattern = getSkipUsesPattern(getOptions());
         }
@@ -1931,14 +2174,23 @@ public abstract class SourceChecker extends AbstractTypeProcessor
      * @return true if checker should not test node
      */
     public final boolean shouldSkipDefs(ClassTree node) {
-        String qualifiedName = InternalUtils.typeOf(node).toString();
-        // System.out.printf("shouldSkipDefs(%s) %s%nskipDefs %s%nonlyDefs %s%nresult %s%n%n",
-        //                   node,
-        //                   qualifiedName,
-        //                   skipDefsPattern.matcher(qualifiedName).find(),
-        //                   onlyDefsPattern.matcher(qualifiedName).find(),
-        //                   (skipDefsPattern.matcher(qualifiedName).find()
-        //                    || ! onlyDefsPattern.matcher(qualifiedName).find()));
+        TypeElement typeElement = TreeUtils.elementFromDeclaration(node);
+        Boolean result = shouldSkipDefsCache.get(typeElement);
+        if (result == null) {
+            result = shouldSkipDefs(InternalUtils.typeOf(node).toString());
+            shouldSkipDefsCache.put(typeElement, result);
+        }
+        return result;
+    }
+
+    /**
+     * Tests whether the definition of the class with the given name should not be checked because
+     * it matches the {@code checker.skipDefs} property.
+     *
+     * @param qualifiedName the fully-qualified name of a class
+     * @return true if checker should not test the class
+     */
+    private boolean shouldSkipDefs(String qualifiedName) {
         if (skipDefsPattern == null) {
             skipDefsPattern = getSkipDefsPattern(getOptions());
         }
@@ -1964,6 +2216,45 @@ public abstract class SourceChecker extends AbstractTypeProcessor
         return shouldSkipDefs(cls);
     }
 
+    /**
+     * Tests whether the definition of {@code elt} should not be analyzed or checked because every
+     * warning about it would be suppressed. This is the case if the {@code -AskipSuppressedDefs}
+     * option is given, and {@code elt} or an enclosing declaration has a {@code @SuppressWarnings}
+     * annotation, or the {@code -AsuppressWarnings} option has a value, that suppresses all
+     * warnings of this checker whatever their key, such as {@code "nullness"} for the Nullness
+     * Checker. The types of the declarations within {@code elt} are still computed when used.
+     *
+     * <p>A checker whose results other checkers use, see {@link #hasDependentCheckers}, never
+     * skips a definition: the warnings of the other checkers about it may not be suppressed.
+     *
+     * @param elt the element of a class or method declaration
+     * @return true if checker should not analyze or check the definition of {@code elt}
+     */
+    public final boolean shouldSkipSuppressedDefs(Element elt) {
+        if (!hasOption("skipSuppressedDefs")
+                || useUncheckedCodeDefault("source")
+                || hasDependentCheckers()) {
+            // With unchecked code defaults, an @AnnotatedFor on a nested declaration may
+            // re-enable warnings that an enclosing declaration suppresses. The checkers that
+            // depend on this one need its results whether or not its warnings are suppressed.
+            return false;
+        }
+        // A value of @SuppressWarnings suppresses the warnings with the empty key only if it
+        // matches one of the checker's keys followed by ":", and then it suppresses all
+        // warnings; see checkSuppressWarnings.
+        return shouldSuppressWarnings(elt, "");
+    }
+
+    /**
+     * Returns true if other checkers use the results of this checker, such as the type factory
+     * and flow results of a subchecker, which its compound checker queries.
+     *
+     * @return whether other checkers use the results of this checker
+     */
+    protected boolean hasDependentCheckers() {
+        return false;
+    }
+
     /**
      * A helper function to parse a Properties file
      *
@@ -71,6 +71,7 @@ import org.checkerframework.common.reflection.MethodValAnnotatedTypeFactory;
 import org.checkerframework.common.reflection.MethodValChecker;
 import org.checkerframework.common.reflection.ReflectionResolver;
 import org.checkerframework.common.wholeprograminference.WholeProgramInference;
+import org.checkerframework.common.wholeprograminference.WholeProgramInferenceDriver;
 import org.checkerframework.common.wholeprograminference.WholeProgramInferenceScenes;
 import org.checkerframework.dataflow.qual.SideEffectFree;
 import org.checkerframework.framework.qual.FieldInvariant;
@@ -103,6 +104,9 @@ import org.checkerframework.framework.util.FieldInvariants;
 import org.checkerframework.framework.util.GraphQualifierHierarchy;
 import org.checkerframework.framework.util.MultiGraphQualifierHierarchy;
 import org.checkerframework.framework.util.MultiGraphQualifierHierarchy.MultiGraphFactory;
+import org.checkerframework.framework.util.OverrideIndex;
+import org.checkerframework.framework.util.PhaseProfiler;
+import org.checkerframework.framework.util.PhaseProfiler.Phase;
 import org.checkerframework.framework.util.TreePathCacher;
 import org.checkerframework.framework.util.typeinference.DefaultTypeArgumentInference;
 import org.checkerframework.framework.util.typeinference.TypeArgumentInference;
@@ -183,6 +187,13 @@ public class AnnotatedTypeFactory implements AnnotationProvider {
     /** performs whole program inference */
     private WholeProgramInference wholeProgramInference;
 
+    /**
+     * True if {@link #wholeProgramInference} adds the annotations inferred so far to declared
+     * types, which may then change while this factory is in use; see {@link
+     * WholeProgramInferenceDriver}.
+     */
+    private boolean addsInferredAnnotations = false;
+
     /**
      * This formatter is used for converting AnnotatedTypeMirrors to Strings. This formatter will be
      * used by all AnnotatedTypeMirrors created by this factory in their toString methods.
@@ -309,6 +320,9 @@ public class AnnotatedTypeFactory implements AnnotationProvider {
     /** Mapping from an Element to the source Tree of the declaration. */
     private final Map<Element, Tree> elementToTreeCache;
 
+    /** Mapping from a class to the index of the methods of its supertypes. */
+    private final Map<TypeElement, OverrideIndex> overrideIndexCache;
+
     /**
      * Whether to ignore uninferred type arguments. This is a temporary flag to work around Issue
      * 979.
@@ -353,11 +367,13 @@ public class AnnotatedTypeFactory implements AnnotationProvider {
             this.fromTreeCache = CollectionUtils.createLRUCache(cacheSize);
             this.elementCache = CollectionUtils.createLRUCache(cacheSize);
             this.elementToTreeCache = CollectionUtils.createLRUCache(cacheSize);
+            this.overrideIndexCache = CollectionUtils.createLRUCache(cacheSize);
         } else {
             this.classAndMethodTreeCache = null;
             this.fromTreeCache = null;
             this.elementCache = null;
             this.elementToTreeCache = null;
+            this.overrideIndexCache = null;
         }
 
         this.typeFormatter = createAnnotatedTypeFormatter();
@@ -366,10 +382,16 @@ public class AnnotatedTypeFactory implements AnnotationProvider {
         infer = checker.hasOption("infer");
         if (infer) {
             checkInvalidOptionsInferSignatures();
-            wholeProgramInference =
-                    new WholeProgramInferenceScenes(
-                            !"NullnessAnnotatedTypeFactory"
-                                    .equals(this.getClass().getSimpleName()));
+            boolean ignoreNullAssignments =
+                    !"NullnessAnnotatedTypeFactory".equals(this.getClass().getSimpleName());
+            WholeProgramInferenceDriver driver =
+                    WholeProgramInferenceDriver.instance(checker.getProcessingEnvironment());
+            if (driver != null) {
+                wholeProgramInference = driver.getWholeProgramInference(this, ignoreNullAssignments);
+                addsInferredAnnotations = true;
+            } else {
+                wholeProgramInference = new WholeProgramInferenceScenes(ignoreNullAssignments);
+            }
         }
         ignoreUninferredTypeArguments = !checker.hasOption("conservativeUninferredTypeArguments");
     }
@@ -484,7 +506,7 @@ public class AnnotatedTypeFactory implements AnnotationProvider {
         initializeReflectionResolution();
 
         if (this.getClass().equals(AnnotatedTypeFactory.class)) {
-            this.parseStubFiles();
+            parseStubFilesProfiled();
         }
     }
 
@@ -906,7 +928,7 @@ public class AnnotatedTypeFactory implements AnnotationProvider {
      *
      * @return cache size passed as argument to checker or DEFAULT_CACHE_SIZE
      */
-    protected int getCacheSize() {
+    public int getCacheSize() {
         String option = checker.getOption("atfCacheSize");
         if (option == null) {
             return DEFAULT_CACHE_SIZE;
@@ -971,6 +993,7 @@ public class AnnotatedTypeFactory implements AnnotationProvider {
             type = fromClass((ClassTree) tree);
         } else if (tree.getKind() == Tree.Kind.METHOD || tree.getKind() == Tree.Kind.VARIABLE) {
             type = fromMember(tree);
+            addInferredAnnotations(tree, type);
         } else if (TreeUtils.isExpressionTree(tree)) {
             tree = TreeUtils.skipParens((ExpressionTree) tree);
             type = fromExpression((ExpressionTree) tree);
@@ -983,8 +1006,9 @@ public class AnnotatedTypeFactory implements AnnotationProvider {
 
         addComputedTypeAnnotations(tree, type);
 
-        if (TreeUtils.isClassTree(tree) || tree.getKind() == Tree.Kind.METHOD) {
-            // Don't cache VARIABLE
+        if (TreeUtils.isClassTree(tree)
+                || (tree.getKind() == Tree.Kind.METHOD && !addsInferredAnnotations)) {
+            // Don't cache VARIABLE, nor METHOD if its inferred annotations may change
             if (shouldCache) {
                 classAndMethodTreeCache.put(tree, type.deepCopy());
             }
@@ -996,6 +1020,20 @@ public class AnnotatedTypeFactory implements AnnotationProvider {
         return type;
     }
 
+    /**
+     * Adds the annotations inferred so far by whole-program inference to {@code type}, the type of
+     * the method or variable declaration {@code tree} before defaults are applied. See {@link
+     * WholeProgramInference#addInferredAnnotations}.
+     */
+    private void addInferredAnnotations(Tree tree, AnnotatedTypeMirror type) {
+        if (addsInferredAnnotations) {
+            Element elt = InternalUtils.symbol(tree);
+            if (elt != null) {
+                wholeProgramInference.addInferredAnnotations(elt, type, this);
+            }
+        }
+    }
+
     /**
      * Called by {@link BaseTypeVisitor#visitClass(ClassTree, Void)} before the classTree is type
      * checked.
@@ -1060,7 +1098,11 @@ public class AnnotatedTypeFactory implements AnnotationProvider {
      */
     public AnnotatedTypeMirror fromElement(Element elt) {
         if (shouldCache && elementCache.containsKey(elt)) {
-            return elementCache.get(elt).deepCopy();
+            AnnotatedTypeMirror type = elementCache.get(elt).deepCopy();
+            if (addsInferredAnnotations) {
+                wholeProgramInference.addInferredAnnotations(elt, type, this);
+            }
+            return type;
         }
         if (elt.getKind() == ElementKind.PACKAGE) {
             return toAnnotatedType(elt.asType(), false);
@@ -1106,9 +1148,39 @@ public class AnnotatedTypeFactory implements AnnotationProvider {
         if (shouldCache && typesFromStubFiles != null) {
             elementCache.put(elt, type.deepCopy());
         }
+        if (addsInferredAnnotations) {
+            wholeProgramInference.addInferredAnnotations(elt, type, this);
+        }
         return type;
     }
 
+    /**
+     * Returns the index of the methods of all the supertypes of {@code elt}, which {@link
+     * AnnotatedTypes#overriddenMethods(Elements, AnnotatedTypeFactory, ExecutableElement)} uses to
+     * find the methods that a method of {@code elt} overrides.
+     *
+     * <p>The index is cached, like the types of elements. It is not cached before the stub files
+     * are read, nor under whole-program inference, which changes the types of the supertypes.
+     *
+     * @param elt a class
+     * @return the index of the methods of the supertypes of {@code elt}
+     */
+    public OverrideIndex getOverrideIndex(TypeElement elt) {
+        boolean cache = shouldCache && typesFromStubFiles != null && wholeProgramInference == null;
+        if (cache) {
+            OverrideIndex index = overrideIndexCache.get(elt);
+            if (index != null) {
+                return index;
+            }
+        }
+        OverrideIndex index =
+                new OverrideIndex(AnnotatedTypes.getSuperTypes(getAnnotatedType(elt)));
+        if (cache) {
+            overrideIndexCache.put(elt, index);
+        }
+        return index;
+    }
+
     /**
      * Adds @FromByteCode to methods, constructors, and fields declared in class files that are not
      * already annotated with @FromStubFile
@@ -2775,6 +2847,17 @@ public class AnnotatedTypeFactory implements AnnotationProvider {
         }
     }
 
+    /** Calls {@link #parseStubFiles} and records the time it takes in the checker's profiler. */
+    protected final void parseStubFilesProfiled() {
+        PhaseProfiler profiler = checker.getProfiler();
+        profiler.start(Phase.STUB_PARSING, checker.getClass().getSimpleName());
+        try {
+            parseStubFiles();
+        } finally {
+            profiler.stop();
+        }
+    }
+
     /**
      * Parses the stub files in the following order: <br>
      *
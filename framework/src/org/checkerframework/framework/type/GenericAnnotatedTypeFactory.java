@@ -36,6 +36,7 @@ import java.util.Queue;
 import java.util.Set;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
@@ -43,6 +44,7 @@ import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import org.checkerframework.common.basetype.BaseTypeChecker;
+import org.checkerframework.dataflow.analysis.Analysis;
 import org.checkerframework.dataflow.analysis.AnalysisResult;
 import org.checkerframework.dataflow.analysis.FlowExpressions;
 import org.checkerframework.dataflow.analysis.FlowExpressions.FieldAccess;
@@ -62,6 +64,8 @@ import org.checkerframework.dataflow.cfg.node.MethodInvocationNode;
 import org.checkerframework.dataflow.cfg.node.Node;
 import org.checkerframework.dataflow.cfg.node.ObjectCreationNode;
 import org.checkerframework.dataflow.cfg.node.ReturnNode;
+import org.checkerframework.dataflow.qual.Pure;
+import org.checkerframework.dataflow.util.PurityUtils;
 import org.checkerframework.framework.flow.CFAbstractAnalysis;
 import org.checkerframework.framework.flow.CFAbstractStore;
 import org.checkerframework.framework.flow.CFAbstractTransfer;
@@ -95,6 +99,8 @@ import org.checkerframework.framework.type.typeannotator.TypeAnnotator;
 import org.checkerframework.framework.util.AnnotatedTypes;
 import org.checkerframework.framework.util.FlowExpressionParseUtil;
 import org.checkerframework.framework.util.FlowExpressionParseUtil.FlowExpressionParseException;
+import org.checkerframework.framework.util.PhaseProfiler;
+import org.checkerframework.framework.util.PhaseProfiler.Phase;
 import org.checkerframework.framework.util.QualifierPolymorphism;
 import org.checkerframework.framework.util.defaults.QualifierDefaults;
 import org.checkerframework.framework.util.dependenttypes.DependentTypesHelper;
@@ -103,6 +109,7 @@ import org.checkerframework.framework.util.typeinference.TypeArgInferenceUtil;
 import org.checkerframework.javacutil.AnnotationBuilder;
 import org.checkerframework.javacutil.AnnotationUtils;
 import org.checkerframework.javacutil.CollectionUtils;
+import org.checkerframework.javacutil.ElementUtils;
 import org.checkerframework.javacutil.ErrorReporter;
 import org.checkerframework.javacutil.InternalUtils;
 import org.checkerframework.javacutil.Pair;
@@ -182,6 +189,116 @@ public abstract class GenericAnnotatedTypeFactory<
                     IdentityHashMap<Node, TransferResult<Value, Store>>>
             flowResultAnalysisCaches;
 
+    /**
+     * Cache for {@link #getPurityKinds}. This cache is enabled if {@link #shouldCache} is true.
+     */
+    private final Map<ExecutableElement, List<Pure.Kind>> purityKindsCache;
+
+    /** See {@link #getPeakFlowResultSizes}. */
+    private final Map<String, Integer> peakFlowResultSizes = new HashMap<>();
+
+    /**
+     * With -AresourceStats, the number of basic block analyses performed by the flow analysis of
+     * each method; see {@link #getFlowIterationCounts}. Null otherwise.
+     */
+    private final Map<String, Integer> flowIterationCounts;
+
+    /** The blocks at which the flow analyses widen, as given by -AflowWideningStrategy. */
+    private final Analysis.WideningStrategy flowWideningStrategy;
+
+    /** The number of narrowing rounds of the flow analyses, from -AflowNarrowingIterations. */
+    private final int flowNarrowingIterations;
+
+    /** Whether the flow analyses drop dead local variables, as given by -AflowPruneDeadLocals. */
+    private final boolean flowPruneDeadLocals;
+
+    /** Whether the stores of the flow analyses share local variables, from -AflowShareLocals. */
+    private final boolean flowShareLocals;
+
+    /**
+     * Whether the flow analyses coalesce the exceptional edges of consecutive nodes, as given by
+     * -AflowCoalesceExceptionalEdges.
+     */
+    private final boolean flowCoalesceExceptionalEdges;
+
+    /** Whether methods are analyzed only when needed, as given by -AflowAnalyzeMethodsOnDemand. */
+    private final boolean flowAnalyzeMethodsOnDemand;
+
+    /**
+     * Checkpoint interval of the flow analyses if none is given with -AflowCheckpointInterval: no
+     * checkpoints, since they cost memory for every long block whether or not it is queried.
+     */
+    private static final int DEFAULT_FLOW_CHECKPOINT_INTERVAL = 0;
+
+    /**
+     * Every how many nodes of a long basic block the flow analyses record the store, so that
+     * {@link AnalysisResult#runAnalysisFor(Node, boolean, TransferInput, Map)} only replays the
+     * nodes after the closest checkpoint. See {@link
+     * org.checkerframework.dataflow.analysis.Analysis#setCheckpointInterval}. 0 if no checkpoints
+     * are recorded.
+     */
+    private final int flowCheckpointInterval;
+
+    /**
+     * Returns the int supplied to the checker via the flowCheckpointInterval option or the default
+     * checkpoint interval.
+     */
+    private int getFlowCheckpointInterval() {
+        String option = checker.getOption("flowCheckpointInterval");
+        if (option == null) {
+            return DEFAULT_FLOW_CHECKPOINT_INTERVAL;
+        }
+        try {
+            int interval = Integer.valueOf(option);
+            if (interval >= 0) {
+                return interval;
+            }
+        } catch (NumberFormatException ex) {
+            // Fall through to the error below.
+        }
+        ErrorReporter.errorAbort(
+                "flowCheckpointInterval was not a non-negative integer: " + option);
+        return 0; // dead code
+    }
+
+    /**
+     * Returns the widening strategy supplied to the checker via the flowWideningStrategy option,
+     * "everyBlock" (the default) or "loopHeads".
+     */
+    private Analysis.WideningStrategy getFlowWideningStrategy() {
+        String option = checker.getOption("flowWideningStrategy");
+        if (option == null || option.equals("everyBlock")) {
+            return Analysis.WideningStrategy.EVERY_BLOCK;
+        } else if (option.equals("loopHeads")) {
+            return Analysis.WideningStrategy.LOOP_HEADS;
+        }
+        ErrorReporter.errorAbort(
+                "flowWideningStrategy was neither everyBlock nor loopHeads: " + option);
+        return null; // dead code
+    }
+
+    /**
+     * Returns the int supplied to the checker via the flowNarrowingIterations option, or 0 if none
+     * was given.
+     */
+    private int getFlowNarrowingIterations() {
+        String option = checker.getOption("flowNarrowingIterations");
+        if (option == null) {
+            return 0;
+        }
+        try {
+            int iterations = Integer.valueOf(option);
+            if (iterations >= 0) {
+                return iterations;
+            }
+        } catch (NumberFormatException ex) {
+            // Fall through to the error below.
+        }
+        ErrorReporter.errorAbort(
+                "flowNarrowingIterations was not a non-negative integer: " + option);
+        return 0; // dead code
+    }
+
     /**
      * Creates a type factory for checking the given compilation unit with respect to the given
      * annotation.
@@ -210,9 +327,19 @@ public abstract class GenericAnnotatedTypeFactory<
         if (shouldCache) {
             int cacheSize = getCacheSize();
             flowResultAnalysisCaches = CollectionUtils.createLRUCache(cacheSize);
+            purityKindsCache = CollectionUtils.createLRUCache(cacheSize);
         } else {
             flowResultAnalysisCaches = null;
+            purityKindsCache = null;
         }
+        flowCheckpointInterval = getFlowCheckpointInterval();
+        flowWideningStrategy = getFlowWideningStrategy();
+        flowNarrowingIterations = getFlowNarrowingIterations();
+        flowPruneDeadLocals = checker.hasOption("flowPruneDeadLocals");
+        flowShareLocals = checker.hasOption("flowShareLocals");
+        flowCoalesceExceptionalEdges = checker.hasOption("flowCoalesceExceptionalEdges");
+        flowAnalyzeMethodsOnDemand = checker.hasOption("flowAnalyzeMethodsOnDemand");
+        flowIterationCounts = checker.hasOption("resourceStats") ? new HashMap<>() : null;
 
         // Add common aliases.
         // addAliasedDeclAnnotation(checkers.nullness.quals.Pure.class,
@@ -222,6 +349,27 @@ public abstract class GenericAnnotatedTypeFactory<
         // all other initialization is finished.
     }
 
+    /**
+     * Returns the types of purity of {@code method}, as determined by {@link
+     * PurityUtils#getPurityKinds(org.checkerframework.javacutil.AnnotationProvider, Element)}. The
+     * stores of the flow analysis query them at every method invocation, so they are cached per
+     * method.
+     *
+     * @param method a method
+     * @return the types of purity of {@code method}
+     */
+    public List<Pure.Kind> getPurityKinds(ExecutableElement method) {
+        if (purityKindsCache == null) {
+            return PurityUtils.getPurityKinds(this, method);
+        }
+        List<Pure.Kind> kinds = purityKindsCache.get(method);
+        if (kinds == null) {
+            kinds = Collections.unmodifiableList(PurityUtils.getPurityKinds(this, method));
+            purityKindsCache.put(method, kinds);
+        }
+        return kinds;
+    }
+
     @Override
     protected void postInit() {
         super.postInit();
@@ -233,7 +381,7 @@ public abstract class GenericAnnotatedTypeFactory<
 
         this.poly = createQualifierPolymorphism();
 
-        this.parseStubFiles();
+        parseStubFilesProfiled();
     }
 
     /**
@@ -263,11 +411,17 @@ public abstract class GenericAnnotatedTypeFactory<
     public void setRoot(/*@Nullable*/ CompilationUnitTree root) {
         super.setRoot(root);
         this.analyses.clear();
+        clearFlowResults();
+    }
+
+    /** Discards the results of all flow analyses, so that classes are analyzed again if needed. */
+    private void clearFlowResults() {
         this.scannedClasses.clear();
         this.flowResult = null;
         this.regularExitStores = null;
         this.methodInvocationStores = null;
         this.returnStatementStores = null;
+        this.deferredMethods = null;
         this.initializationStore = null;
         this.initializationStaticStore = null;
 
@@ -276,6 +430,63 @@ public abstract class GenericAnnotatedTypeFactory<
         }
     }
 
+    /**
+     * Called once all checkers have finished with the top-level class {@code element}. Records how
+     * large the flow results are, for {@code -AresourceStats}. If {@code -AreleaseFlowResults} is
+     * given, also discards the flow results, which otherwise are kept until the next compilation
+     * unit. A class whose flow results were discarded is analyzed again if {@link
+     * #getAnnotatedType(Tree)} is later called on its tree.
+     *
+     * @param element the top-level class that was type-checked
+     */
+    public void classProcessingFinished(TypeElement element) {
+        if (flowResult == null || !analyses.isEmpty()) {
+            return;
+        }
+        int size = flowResult.size();
+        if (regularExitStores != null) {
+            size += regularExitStores.size();
+        }
+        if (returnStatementStores != null) {
+            size += returnStatementStores.size();
+        }
+        if (methodInvocationStores != null) {
+            size += methodInvocationStores.size();
+        }
+        String className = element.getQualifiedName().toString();
+        Integer peak = peakFlowResultSizes.get(className);
+        if (peak == null || peak < size) {
+            peakFlowResultSizes.put(className, size);
+        }
+
+        if (checker.hasOption("releaseFlowResults")) {
+            clearFlowResults();
+        }
+    }
+
+    /**
+     * Returns, for each top-level class, the largest number of entries that the flow results held
+     * when the class had been type-checked. With {@code -AreleaseFlowResults}, these are the flow
+     * results of that class alone; otherwise, they include those of the classes that precede it in
+     * its compilation unit.
+     */
+    public Map<String, Integer> getPeakFlowResultSizes() {
+        return Collections.unmodifiableMap(peakFlowResultSizes);
+    }
+
+    /**
+     * Returns, for each method whose body was analyzed, the total number of times that its flow
+     * analysis analyzed a basic block, counting a block once for each time it was analyzed. If the
+     * method was analyzed more than once, the largest such total is given. The counts are only
+     * recorded with {@code -AresourceStats}; otherwise, the result is empty.
+     */
+    public Map<String, Integer> getFlowIterationCounts() {
+        if (flowIterationCounts == null) {
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(flowIterationCounts);
+    }
+
     // **********************************************************************
     // Factory Methods for the appropriate annotator classes
     // **********************************************************************
@@ -847,12 +1058,14 @@ public abstract class GenericAnnotatedTypeFactory<
      *     method cannot exit through the regular exit block).
      */
     public /*@Nullable*/ Store getRegularExitStore(Tree t) {
+        analyzeIfDeferred(t);
         return regularExitStores.get(t);
     }
 
     /** @return all return node and store pairs for a given method */
     public List<Pair<ReturnNode, TransferResult<Value, Store>>> getReturnStatementStores(
             MethodTree methodTree) {
+        analyzeIfDeferred(methodTree);
         assert returnStatementStores.containsKey(methodTree);
         return returnStatementStores.get(methodTree);
     }
@@ -860,6 +1073,7 @@ public abstract class GenericAnnotatedTypeFactory<
     /** @return the store immediately before a given {@link Tree}. */
     public Store getStoreBefore(Tree tree) {
         if (analyses.isEmpty()) {
+            analyzeIfDeferred(visitorState.getMethodTree());
             return flowResult.getStoreBefore(tree);
         }
         FlowAnalysis analysis = analyses.getFirst();
@@ -876,6 +1090,7 @@ public abstract class GenericAnnotatedTypeFactory<
     /** @return the store immediately before a given {@link Node}. */
     public Store getStoreBefore(Node node) {
         if (analyses.isEmpty()) {
+            analyzeIfDeferred(visitorState.getMethodTree());
             return flowResult.getStoreBefore(node);
         }
         FlowAnalysis analysis = analyses.getFirst();
@@ -891,6 +1106,7 @@ public abstract class GenericAnnotatedTypeFactory<
     /** @return the store immediately after a given {@link Tree}. */
     public Store getStoreAfter(Tree tree) {
         if (analyses.isEmpty()) {
+            analyzeIfDeferred(visitorState.getMethodTree());
             return flowResult.getStoreAfter(tree);
         }
         FlowAnalysis analysis = analyses.getFirst();
@@ -903,6 +1119,7 @@ public abstract class GenericAnnotatedTypeFactory<
 
     /** @return the {@link Node} for a given {@link Tree}. */
     public Node getNodeForTree(Tree tree) {
+        analyzeIfDeferred(visitorState.getMethodTree());
         return flowResult.getNodeForTree(tree);
     }
 
@@ -911,11 +1128,13 @@ public abstract class GenericAnnotatedTypeFactory<
         if (!useFlow) {
             return Collections.emptyList();
         }
+        analyzeIfDeferred(visitorState.getMethodTree());
         return flowResult.getGeneratedTrees(tree);
     }
 
     /** @return the value of effectively final local variables */
     public HashMap<Element, Value> getFinalLocalValues() {
+        analyzeIfDeferred(visitorState.getMethodTree());
         return flowResult.getFinalLocalValues();
     }
 
@@ -928,6 +1147,7 @@ public abstract class GenericAnnotatedTypeFactory<
             regularExitStores = new IdentityHashMap<>();
             returnStatementStores = new IdentityHashMap<>();
             flowResult = new AnalysisResult<>(flowResultAnalysisCaches);
+            deferredMethods = flowAnalyzeMethodsOnDemand ? new IdentityHashMap<>() : null;
         }
 
         // no need to scan annotations
@@ -942,6 +1162,11 @@ public abstract class GenericAnnotatedTypeFactory<
         queue.add(classTree);
         while (!queue.isEmpty()) {
             ClassTree ct = queue.remove();
+            if (checker.shouldSkipSuppressedDefs(TreeUtils.elementFromDeclaration(ct))) {
+                // The visitor does not check the class, so its flow results are not needed.
+                scannedClasses.put(ct, ScanState.FINISHED);
+                continue;
+            }
             scannedClasses.put(ct, ScanState.IN_PROGRESS);
 
             AnnotatedDeclaredType preClassType = visitorState.getClassType();
@@ -980,6 +1205,11 @@ public abstract class GenericAnnotatedTypeFactory<
                             if (mt.getBody() == null) {
                                 break;
                             }
+                            // The visitor does not check methods whose warnings are suppressed.
+                            if (checker.shouldSkipSuppressedDefs(
+                                    TreeUtils.elementFromDeclaration(mt))) {
+                                break;
+                            }
 
                             // Wait with scanning the method until all other members
                             // have been processed.
@@ -1038,16 +1268,27 @@ public abstract class GenericAnnotatedTypeFactory<
                 // Now analyze all methods.
                 // TODO: at this point, we don't have any information about
                 // fields of superclasses.
+                // Given fieldValues and the initialization stores, the methods are independent
+                // of one another, but they must still be analyzed one at a time: the transfer
+                // functions query this type factory, whose caches, visitorState and analyses
+                // deque are not thread-safe, and javac's Types, Trees and symbol completion
+                // must only be used from the compiler's thread.
                 for (CFGMethod met : methods) {
-                    analyze(
-                            queue,
-                            lambdaQueue,
-                            met,
-                            fieldValues,
-                            classTree,
-                            TreeUtils.isConstructor(met.getMethod()),
-                            false,
-                            false);
+                    if (deferredMethods != null) {
+                        DeferredMethod deferred =
+                                new DeferredMethod(met, ct, classTree, fieldValues);
+                        deferredMethods.put(met.getMethod(), deferred);
+                    } else {
+                        analyze(
+                                queue,
+                                lambdaQueue,
+                                met,
+                                fieldValues,
+                                classTree,
+                                TreeUtils.isConstructor(met.getMethod()),
+                                false,
+                                false);
+                    }
                 }
 
                 while (lambdaQueue.size() > 0) {
@@ -1084,6 +1325,128 @@ public abstract class GenericAnnotatedTypeFactory<
         }
     }
 
+    /**
+     * With -AflowAnalyzeMethodsOnDemand, the methods whose analysis {@link #performFlowAnalysis}
+     * deferred until their flow results are first needed. Null otherwise.
+     */
+    protected IdentityHashMap<Tree, DeferredMethod> deferredMethods;
+
+    /**
+     * A method whose analysis was deferred, with the state of {@link #performFlowAnalysis} that its
+     * analysis depends on: the field values and the initialization stores of its class at the time
+     * it would have been analyzed.
+     */
+    protected class DeferredMethod {
+        /** The method. */
+        protected final CFGMethod method;
+
+        /** The class that declares the method. */
+        protected final ClassTree classTree;
+
+        /** The top-level class whose analysis deferred the method. */
+        protected final ClassTree topLevelClass;
+
+        /** The field values of the class. */
+        protected final List<Pair<VariableElement, Value>> fieldValues;
+
+        /** The value of {@link #initializationStore} when the method was deferred. */
+        protected final Store initializationStore;
+
+        /** The value of {@link #initializationStaticStore} when the method was deferred. */
+        protected final Store initializationStaticStore;
+
+        protected DeferredMethod(
+                CFGMethod method,
+                ClassTree classTree,
+                ClassTree topLevelClass,
+                List<Pair<VariableElement, Value>> fieldValues) {
+            this.method = method;
+            this.classTree = classTree;
+            this.topLevelClass = topLevelClass;
+            this.fieldValues = new ArrayList<>(fieldValues);
+            this.initializationStore = GenericAnnotatedTypeFactory.this.initializationStore;
+            this.initializationStaticStore =
+                    GenericAnnotatedTypeFactory.this.initializationStaticStore;
+        }
+
+        /** Analyzes the method and its lambdas, as {@link #performFlowAnalysis} would have. */
+        protected void analyze() {
+            AnnotatedDeclaredType preClassType = visitorState.getClassType();
+            ClassTree preClassTree = visitorState.getClassTree();
+            AnnotatedDeclaredType preAMT = visitorState.getMethodReceiver();
+            MethodTree preMT = visitorState.getMethodTree();
+            Store preInitStore = GenericAnnotatedTypeFactory.this.initializationStore;
+            Store preInitStaticStore = GenericAnnotatedTypeFactory.this.initializationStaticStore;
+
+            visitorState.setMethodReceiver(null);
+            visitorState.setMethodTree(null);
+            visitorState.setClassType(getAnnotatedType(classTree));
+            visitorState.setClassTree(classTree);
+            GenericAnnotatedTypeFactory.this.initializationStore = initializationStore;
+            GenericAnnotatedTypeFactory.this.initializationStaticStore = initializationStaticStore;
+
+            Queue<ClassTree> queue = new LinkedList<>();
+            Queue<Pair<LambdaExpressionTree, Store>> lambdaQueue = new LinkedList<>();
+            PhaseProfiler profiler = checker.getProfiler();
+            profiler.start(Phase.FLOW_ANALYSIS);
+            try {
+                GenericAnnotatedTypeFactory.this.analyze(
+                        queue,
+                        lambdaQueue,
+                        method,
+                        fieldValues,
+                        topLevelClass,
+                        TreeUtils.isConstructor(method.getMethod()),
+                        false,
+                        false);
+                while (!lambdaQueue.isEmpty()) {
+                    Pair<LambdaExpressionTree, Store> lambdaPair = lambdaQueue.poll();
+                    GenericAnnotatedTypeFactory.this.analyze(
+                            queue,
+                            lambdaQueue,
+                            new CFGLambda(lambdaPair.first),
+                            fieldValues,
+                            topLevelClass,
+                            false,
+                            false,
+                            false,
+                            lambdaPair.second);
+                }
+                // The classes declared in the method.
+                for (ClassTree ct : queue) {
+                    if (!scannedClasses.containsKey(ct)) {
+                        performFlowAnalysis(ct);
+                    }
+                }
+            } finally {
+                profiler.stop();
+                visitorState.setClassType(preClassType);
+                visitorState.setClassTree(preClassTree);
+                visitorState.setMethodReceiver(preAMT);
+                visitorState.setMethodTree(preMT);
+                GenericAnnotatedTypeFactory.this.initializationStore = preInitStore;
+                GenericAnnotatedTypeFactory.this.initializationStaticStore = preInitStaticStore;
+            }
+        }
+    }
+
+    /**
+     * With -AflowAnalyzeMethodsOnDemand, analyzes {@code tree} if it is a method whose analysis was
+     * deferred. Flow results are requested for the trees of the method that the visitor is in, so
+     * the callers pass that method unless they are given the method itself.
+     *
+     * @param tree a tree, or null
+     */
+    private void analyzeIfDeferred(/*@Nullable*/ Tree tree) {
+        if (deferredMethods == null || tree == null || !analyses.isEmpty()) {
+            return;
+        }
+        DeferredMethod deferred = deferredMethods.remove(tree);
+        if (deferred != null) {
+            deferred.analyze();
+        }
+    }
+
     // Maintain a deque of analyses to accommodate nested classes.
     protected final Deque<FlowAnalysis> analyses;
     // Maintain for every class the store that is used when we analyze initialization code
@@ -1131,9 +1494,27 @@ public abstract class GenericAnnotatedTypeFactory<
             boolean updateInitializationStore,
             boolean isStatic,
             Store lambdaStore) {
+        PhaseProfiler profiler = checker.getProfiler();
+        ExecutableElement profiledMethod = null;
+        if (profiler.isEnabled() && ast.getKind() == UnderlyingAST.Kind.METHOD) {
+            profiledMethod = TreeUtils.elementFromDeclaration(((CFGMethod) ast).getMethod());
+        }
+
         CFGBuilder builder = new CFCFGBuilder(checker, this);
-        ControlFlowGraph cfg = builder.run(root, processingEnv, ast);
+        profiler.start(Phase.CFG_CONSTRUCTION, null, profiledMethod);
+        ControlFlowGraph cfg;
+        try {
+            cfg = builder.run(root, processingEnv, ast);
+        } finally {
+            profiler.stop();
+        }
         FlowAnalysis newAnalysis = createFlowAnalysis(fieldValues);
+        newAnalysis.setCheckpointInterval(flowCheckpointInterval);
+        newAnalysis.setWideningStrategy(flowWideningStrategy);
+        newAnalysis.setNarrowingIterations(flowNarrowingIterations);
+        newAnalysis.setPruneDeadLocals(flowPruneDeadLocals);
+        newAnalysis.setShareLocals(flowShareLocals);
+        newAnalysis.setCoalesceExceptionalEdges(flowCoalesceExceptionalEdges);
         TransferFunction transfer = newAnalysis.getTransferFunction();
         if (emptyStore == null) {
             emptyStore = newAnalysis.createEmptyStore(transfer.usesSequentialSemantics());
@@ -1152,7 +1533,22 @@ public abstract class GenericAnnotatedTypeFactory<
                 }
             }
         }
-        analyses.getFirst().performAnalysis(cfg);
+        profiler.start(Phase.DATAFLOW_FIXPOINT, null, profiledMethod);
+        try {
+            analyses.getFirst().performAnalysis(cfg);
+        } finally {
+            profiler.stop();
+        }
+        if (flowIterationCounts != null && ast.getKind() == UnderlyingAST.Kind.METHOD) {
+            String method =
+                    ElementUtils.getVerboseName(
+                            TreeUtils.elementFromDeclaration(((CFGMethod) ast).getMethod()));
+            int count = analyses.getFirst().getIterationCount();
+            Integer previous = flowIterationCounts.get(method);
+            if (previous == null || previous < count) {
+                flowIterationCounts.put(method, count);
+            }
+        }
         AnalysisResult<Value, Store> result = analyses.getFirst().getResult();
 
         // store result
@@ -1319,6 +1715,7 @@ public abstract class GenericAnnotatedTypeFactory<
         if (!useFlow) {
             return getAnnotatedType(tree);
         }
+        analyzeIfDeferred(visitorState.getMethodTree());
         AssignmentNode n = flowResult.getAssignForUnaryTree(tree);
         return getAnnotatedType(n.getExpression().getTree());
     }
@@ -1414,8 +1811,16 @@ public abstract class GenericAnnotatedTypeFactory<
         // .visitClass for the call to getAnnotatedType that triggers analysis.
         if (tree instanceof ClassTree) {
             ClassTree classTree = (ClassTree) tree;
+            // A class declared in a deferred method is analyzed together with the method.
+            analyzeIfDeferred(visitorState.getMethodTree());
             if (!scannedClasses.containsKey(classTree)) {
-                performFlowAnalysis(classTree);
+                PhaseProfiler profiler = checker.getProfiler();
+                profiler.start(Phase.FLOW_ANALYSIS);
+                try {
+                    performFlowAnalysis(classTree);
+                } finally {
+                    profiler.stop();
+                }
             }
         }
     }
@@ -1432,6 +1837,8 @@ public abstract class GenericAnnotatedTypeFactory<
         Value as = null;
         if (!analyses.isEmpty()) {
             as = analyses.getFirst().getValue(tree);
+        } else {
+            analyzeIfDeferred(visitorState.getMethodTree());
         }
         if (as == null
                 &&
@@ -53,6 +53,7 @@ import org.checkerframework.framework.type.AnnotatedTypeMirror.AnnotatedWildcard
 import org.checkerframework.framework.type.AsSuperVisitor;
 import org.checkerframework.framework.type.QualifierHierarchy;
 import org.checkerframework.framework.type.SyntheticArrays;
+import org.checkerframework.framework.util.PhaseProfiler.Phase;
 import org.checkerframework.javacutil.AnnotationUtils;
 import org.checkerframework.javacutil.ElementUtils;
 import org.checkerframework.javacutil.ErrorReporter;
@@ -461,6 +462,9 @@ public class AnnotatedTypes {
      * A utility method that takes a Method element and returns a set of all elements that this
      * method overrides (as {@link ExecutableElement}s)
      *
+     * <p>The supertypes of the method's class and their methods are looked up in the {@link
+     * OverrideIndex} of the class, which the type factory caches.
+     *
      * @param method the overriding method
      * @return an unmodifiable set of {@link ExecutableElement}s representing the elements that
      *     method overrides
@@ -468,9 +472,7 @@ public class AnnotatedTypes {
     public static Map<AnnotatedDeclaredType, ExecutableElement> overriddenMethods(
             Elements elements, AnnotatedTypeFactory atypeFactory, ExecutableElement method) {
         final TypeElement elem = (TypeElement) method.getEnclosingElement();
-        final AnnotatedDeclaredType type = atypeFactory.getAnnotatedType(elem);
-        final Collection<AnnotatedDeclaredType> supertypes = getSuperTypes(type);
-        return overriddenMethods(elements, method, supertypes);
+        return atypeFactory.getOverrideIndex(elem).overriddenMethods(elements, method);
     }
 
     /**
@@ -572,9 +574,15 @@ public class AnnotatedTypes {
             }
             return typeArguments;
         } else {
-            return atypeFactory
-                    .getTypeArgumentInference()
-                    .inferTypeArgs(atypeFactory, expr, elt, preType);
+            PhaseProfiler profiler = atypeFactory.getContext().getChecker().getProfiler();
+            profiler.start(Phase.TYPE_ARGUMENT_INFERENCE);
+            try {
+                return atypeFactory
+                        .getTypeArgumentInference()
+                        .inferTypeArgs(atypeFactory, expr, elt, preType);
+            } finally {
+                profiler.stop();
+            }
         }
     }
     /**
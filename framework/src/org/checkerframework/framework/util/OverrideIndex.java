@@ -0,0 +1,102 @@
+package org.checkerframework.framework.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import org.checkerframework.framework.type.AnnotatedTypeMirror.AnnotatedDeclaredType;
+import org.checkerframework.javacutil.Pair;
+
+/**
+ * The methods of all the supertypes of a class, indexed by name and number of parameters.
+ *
+ * <p>A method can only override a method with the same name and the same number of parameters, so
+ * {@link #overriddenMethods} calls {@link Elements#overrides} only on those candidates rather than
+ * on every method of every supertype. An index is built once per class and cached by {@link
+ * org.checkerframework.framework.type.AnnotatedTypeFactory#getOverrideIndex}.
+ */
+public class OverrideIndex {
+
+    /** The supertypes of the class, as returned by {@link AnnotatedTypes#getSuperTypes}. */
+    private final List<AnnotatedDeclaredType> supertypes;
+
+    /**
+     * Maps the name and number of parameters of a method to the methods of the supertypes with
+     * that name and number of parameters. Each method is paired with the index of its supertype in
+     * {@link #supertypes}; the methods are in the order of the supertypes, and in declaration order
+     * within a supertype.
+     */
+    private final Map<Pair<Name, Integer>, List<Pair<Integer, ExecutableElement>>> methods;
+
+    /**
+     * Creates the index of the methods of {@code supertypes}.
+     *
+     * @param supertypes all the supertypes of a class; they are not copied and must not be
+     *     modified afterwards
+     */
+    public OverrideIndex(Collection<AnnotatedDeclaredType> supertypes) {
+        this.supertypes = new ArrayList<>(supertypes);
+        this.methods = new HashMap<>();
+        for (int i = 0; i < this.supertypes.size(); i++) {
+            TypeElement superElement =
+                    (TypeElement) this.supertypes.get(i).getUnderlyingType().asElement();
+            for (ExecutableElement supermethod :
+                    ElementFilter.methodsIn(superElement.getEnclosedElements())) {
+                Pair<Name, Integer> key = key(supermethod);
+                List<Pair<Integer, ExecutableElement>> candidates = methods.get(key);
+                if (candidates == null) {
+                    candidates = new ArrayList<>(1);
+                    methods.put(key, candidates);
+                }
+                candidates.add(Pair.of(i, supermethod));
+            }
+        }
+    }
+
+    private static Pair<Name, Integer> key(ExecutableElement method) {
+        return Pair.of(method.getSimpleName(), method.getParameters().size());
+    }
+
+    /**
+     * Returns the methods that {@code method} overrides in the supertypes of this index, with the
+     * same result as {@link AnnotatedTypes#overriddenMethods(Elements, ExecutableElement,
+     * Collection)}. The keys of the result are copies, which the caller may modify.
+     *
+     * @param elements the element utilities
+     * @param method a method of the class of this index
+     * @return an unmodifiable map from each supertype to the method of it that {@code method}
+     *     overrides
+     */
+    public Map<AnnotatedDeclaredType, ExecutableElement> overriddenMethods(
+            Elements elements, ExecutableElement method) {
+        List<Pair<Integer, ExecutableElement>> candidates = methods.get(key(method));
+        if (candidates == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<AnnotatedDeclaredType, ExecutableElement> overrides = new LinkedHashMap<>();
+        // Only the first overridden method of each supertype is reported.
+        int lastMatched = -1;
+        for (Pair<Integer, ExecutableElement> candidate : candidates) {
+            int index = candidate.first;
+            if (index == lastMatched) {
+                continue;
+            }
+            AnnotatedDeclaredType supertype = supertypes.get(index);
+            TypeElement superElement = (TypeElement) supertype.getUnderlyingType().asElement();
+            if (elements.overrides(method, candidate.second, superElement)) {
+                overrides.put(supertype.deepCopy(), candidate.second);
+                lastMatched = index;
+            }
+        }
+        return Collections.unmodifiableMap(overrides);
+    }
+}
@@ -0,0 +1,394 @@
+package org.checkerframework.framework.util;
+
+import com.sun.tools.javac.processing.JavacProcessingEnvironment;
+import com.sun.tools.javac.util.Context;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ExecutableElement;
+import org.checkerframework.javacutil.ElementUtils;
+
+/**
+ * Attributes wall-clock time and allocated bytes to the phases of a checker run.
+ *
+ * <p>Phases nest: each call to {@link #start} opens a phase inside the innermost open phase, and
+ * {@link #stop} closes it. Phases with the same kind and name under the same parent are merged, so
+ * the result is a tree such as compilation unit &rarr; class &rarr; checker &rarr; type checking
+ * &rarr; flow analysis &rarr; CFG construction. In addition, phases that are started for a specific
+ * method are summed per method, to report the slowest methods.
+ *
+ * <p>There is one profiler per compilation, shared by a checker and all of its subcheckers (or the
+ * checkers of an aggregate checker); see {@link #instance}. It is enabled by {@code -Aprofile}. When
+ * it is disabled, {@link #start} and {@link #stop} return immediately.
+ *
+ * <p>Allocated bytes are only measured if the JVM supports per-thread allocation accounting.
+ */
+public class PhaseProfiler {
+
+    /** The kinds of phases that are profiled. */
+    public enum Phase {
+        /** Processing of a compilation unit; the name is the source file. */
+        COMPILATION_UNIT,
+        /** Processing of a top-level class; the name is the class name. */
+        CLASS,
+        /** The work done by one checker; the name is the checker name. */
+        CHECKER,
+        /** Parsing of stub files, including the annotated JDK. */
+        STUB_PARSING,
+        /** {@code BaseTypeVisitor} checks, including the analyses they trigger. */
+        TYPE_CHECKING,
+        /** {@code BaseTypeVisitor} checks of one method, including the analyses they trigger. */
+        METHOD_TYPE_CHECKING,
+        /** {@code GenericAnnotatedTypeFactory.performFlowAnalysis} for a class. */
+        FLOW_ANALYSIS,
+        /** Construction of the control flow graph of a method, lambda, or initializer. */
+        CFG_CONSTRUCTION,
+        /** The dataflow fixpoint computation of a method, lambda, or initializer. */
+        DATAFLOW_FIXPOINT,
+        /** Inference of method type arguments. */
+        TYPE_ARGUMENT_INFERENCE
+    }
+
+    /** Key under which the shared profiler is stored in the javac {@link Context}. */
+    private static final Context.Key<PhaseProfiler> profilerKey = new Context.Key<>();
+
+    /** The number of methods in the slowest-methods report. */
+    public static final int SLOWEST_METHODS_COUNT = 20;
+
+    /**
+     * Returns the profiler for the compilation of {@code env}, creating it if necessary.
+     *
+     * @param env the processing environment of the compilation
+     * @param enabled whether the profiler should be enabled if it is created by this call
+     * @return the profiler shared by all checkers of the compilation
+     */
+    public static PhaseProfiler instance(ProcessingEnvironment env, boolean enabled) {
+        Context context = ((JavacProcessingEnvironment) env).getContext();
+        PhaseProfiler profiler = context.get(profilerKey);
+        if (profiler == null) {
+            profiler = new PhaseProfiler(enabled);
+            context.put(profilerKey, profiler);
+        }
+        return profiler;
+    }
+
+    /** A node of the phase tree; it accumulates all executions of a phase with the same parent. */
+    private static class Node {
+        final Phase phase;
+        final String name;
+        final Map<String, Node> children = new LinkedHashMap<>();
+        long count;
+        long wallNanos;
+        long allocatedBytes;
+
+        Node(Phase phase, String name) {
+            this.phase = phase;
+            this.name = name;
+        }
+
+        Node getChild(Phase phase, String name) {
+            String key = name == null ? phase.name() : phase.name() + ':' + name;
+            Node child = children.get(key);
+            if (child == null) {
+                child = new Node(phase, name);
+                children.put(key, child);
+            }
+            return child;
+        }
+    }
+
+    /** Totals for one method in the slowest-methods report. */
+    private static class MethodTotals {
+        final String method;
+        long wallNanos;
+        long allocatedBytes;
+
+        MethodTotals(String method) {
+            this.method = method;
+        }
+    }
+
+    /** An open phase. */
+    private static class Frame {
+        final Node node;
+        final String method;
+        final long startNanos;
+        final long startAllocatedBytes;
+
+        Frame(Node node, String method, long startNanos, long startAllocatedBytes) {
+            this.node = node;
+            this.method = method;
+            this.startNanos = startNanos;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+    }
+
+    /** Whether this profiler records anything. */
+    private final boolean enabled;
+
+    /** The root of the phase tree; it stands for the whole compilation. */
+    private final Node root = new Node(null, null);
+
+    /** The open phases, innermost first. */
+    private final Deque<Frame> stack = new ArrayDeque<>();
+
+    /** Totals of the phases started for a method, indexed by method. */
+    private final Map<String, MethodTotals> methodTotals = new HashMap<>();
+
+    /** Used to measure allocated bytes; null if the JVM does not support it. */
+    private final com.sun.management.ThreadMXBean allocationBean;
+
+    /** Whether {@link #report} has already been called. */
+    private boolean reported = false;
+
+    private PhaseProfiler(boolean enabled) {
+        this.enabled = enabled;
+        com.sun.management.ThreadMXBean bean = null;
+        if (enabled) {
+            ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+            if (threadBean instanceof com.sun.management.ThreadMXBean) {
+                bean = (com.sun.management.ThreadMXBean) threadBean;
+                if (!bean.isThreadAllocatedMemorySupported()) {
+                    bean = null;
+                } else if (!bean.isThreadAllocatedMemoryEnabled()) {
+                    bean.setThreadAllocatedMemoryEnabled(true);
+                }
+            }
+        }
+        this.allocationBean = bean;
+    }
+
+    /** @return true if this profiler records anything */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns true if no phase is open. Checkers use this to determine whether they are the
+     * outermost checker processing a class.
+     *
+     * @return true if no phase is open
+     */
+    public boolean isIdle() {
+        return stack.isEmpty();
+    }
+
+    /**
+     * Opens a phase inside the innermost open phase.
+     *
+     * @param phase the kind of the phase
+     */
+    public void start(Phase phase) {
+        start(phase, null, null);
+    }
+
+    /**
+     * Opens a phase inside the innermost open phase.
+     *
+     * @param phase the kind of the phase
+     * @param name the name of the phase, such as a class or checker name; only converted to a string
+     *     if this profiler is enabled
+     */
+    public void start(Phase phase, Object name) {
+        start(phase, name, null);
+    }
+
+    /**
+     * Opens a phase for a specific method inside the innermost open phase. The time spent in the
+     * phase is also attributed to the method in the slowest-methods report, unless an enclosing
+     * phase was started for the same method.
+     *
+     * @param phase the kind of the phase
+     * @param name the name of the phase, or null
+     * @param method the method, or null; only converted to a string if this profiler is enabled
+     */
+    public void start(Phase phase, Object name, ExecutableElement method) {
+        if (!enabled) {
+            return;
+        }
+        Node parent = stack.isEmpty() ? root : stack.peek().node;
+        Node node = parent.getChild(phase, name == null ? null : name.toString());
+        String methodName = null;
+        if (method != null) {
+            methodName = ElementUtils.enclosingClass(method).getQualifiedName() + "." + method;
+        }
+        stack.push(new Frame(node, methodName, System.nanoTime(), allocatedBytes()));
+    }
+
+    /** Closes the innermost open phase. */
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        Frame frame = stack.pop();
+        long wallNanos = System.nanoTime() - frame.startNanos;
+        long allocated = allocatedBytes() - frame.startAllocatedBytes;
+        frame.node.count++;
+        frame.node.wallNanos += wallNanos;
+        frame.node.allocatedBytes += allocated;
+
+        if (frame.method != null && !isOpenForMethod(frame.method)) {
+            MethodTotals totals = methodTotals.get(frame.method);
+            if (totals == null) {
+                totals = new MethodTotals(frame.method);
+                methodTotals.put(frame.method, totals);
+            }
+            totals.wallNanos += wallNanos;
+            totals.allocatedBytes += allocated;
+        }
+    }
+
+    /** Returns true if an open phase was started for {@code method}. */
+    private boolean isOpenForMethod(String method) {
+        for (Frame frame : stack) {
+            if (method.equals(frame.method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns the number of bytes allocated by the current thread, or 0 if unknown. */
+    private long allocatedBytes() {
+        if (allocationBean == null) {
+            return 0;
+        }
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Prints the slowest-methods report to {@code out} and, if {@code jsonOutput} is non-null,
+     * writes the phase tree and the per-method totals as JSON to it. Only the first call has an
+     * effect, as all checkers of a compilation share this profiler.
+     *
+     * @param out where to print the slowest-methods report
+     * @param jsonOutput where to write the JSON output, or null
+     * @throws IOException if writing the JSON output fails
+     */
+    public synchronized void report(PrintStream out, Appendable jsonOutput) throws IOException {
+        if (!enabled || reported) {
+            return;
+        }
+        reported = true;
+
+        List<MethodTotals> methods = sortedMethods();
+        out.println("Slowest methods (wall ms, allocated MB):");
+        for (int i = 0; i < methods.size() && i < SLOWEST_METHODS_COUNT; i++) {
+            MethodTotals totals = methods.get(i);
+            out.printf(
+                    "  %10.1f %10.1f  %s%n",
+                    totals.wallNanos / 1e6, totals.allocatedBytes / 1e6, totals.method);
+        }
+
+        if (jsonOutput != null) {
+            jsonOutput.append("{\"phases\":");
+            writeChildren(root, jsonOutput);
+            jsonOutput.append(",\"methods\":[");
+            boolean first = true;
+            for (MethodTotals totals : methods) {
+                if (!first) {
+                    jsonOutput.append(',');
+                }
+                first = false;
+                jsonOutput.append("{\"method\":");
+                appendJsonString(totals.method, jsonOutput);
+                jsonOutput.append(",\"wallNanos\":").append(Long.toString(totals.wallNanos));
+                jsonOutput
+                        .append(",\"allocatedBytes\":")
+                        .append(Long.toString(totals.allocatedBytes));
+                jsonOutput.append('}');
+            }
+            jsonOutput.append("]}\n");
+        }
+    }
+
+    /** Returns the per-method totals, slowest first. */
+    private List<MethodTotals> sortedMethods() {
+        List<MethodTotals> methods = new ArrayList<>(methodTotals.values());
+        Collections.sort(
+                methods,
+                new Comparator<MethodTotals>() {
+                    @Override
+                    public int compare(MethodTotals o1, MethodTotals o2) {
+                        return Long.compare(o2.wallNanos, o1.wallNanos);
+                    }
+                });
+        return methods;
+    }
+
+    /** Writes the children of {@code node} as a JSON array. */
+    private static void writeChildren(Node node, Appendable out) throws IOException {
+        out.append('[');
+        boolean first = true;
+        for (Node child : node.children.values()) {
+            if (!first) {
+                out.append(',');
+            }
+            first = false;
+            writeNode(child, out);
+        }
+        out.append(']');
+    }
+
+    /** Writes {@code node} and its descendants as a JSON object. */
+    private static void writeNode(Node node, Appendable out) throws IOException {
+        long childNanos = 0;
+        for (Node child : node.children.values()) {
+            childNanos += child.wallNanos;
+        }
+        out.append("{\"phase\":\"").append(node.phase.name()).append('"');
+        if (node.name != null) {
+            out.append(",\"name\":");
+            appendJsonString(node.name, out);
+        }
+        out.append(",\"count\":").append(Long.toString(node.count));
+        out.append(",\"wallNanos\":").append(Long.toString(node.wallNanos));
+        out.append(",\"selfWallNanos\":").append(Long.toString(node.wallNanos - childNanos));
+        out.append(",\"allocatedBytes\":").append(Long.toString(node.allocatedBytes));
+        if (!node.children.isEmpty()) {
+            out.append(",\"children\":");
+            writeChildren(node, out);
+        }
+        out.append('}');
+    }
+
+    /** Appends {@code s} as a quoted JSON string. */
+    private static void appendJsonString(String s, Appendable out) throws IOException {
+        out.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+}
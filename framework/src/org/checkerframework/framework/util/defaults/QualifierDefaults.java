@@ -12,7 +12,11 @@ import com.sun.source.tree.VariableTree;
 import com.sun.source.util.TreePath;
 import com.sun.tools.javac.code.Type.WildcardType;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -90,9 +94,20 @@ public class QualifierDefaults {
     /** Mapping from an Element to the source Tree of the declaration. */
     private static final int CACHE_SIZE = 300;
 
+    /**
+     * Mapping from a type parameter Element to the BoundType of its declaration, shared by all
+     * type factories. Only used by {@link #getWildcardBoundType(AnnotatedWildcardType,
+     * AnnotatedTypeFactory)}; the defaults of a type factory use {@link #boundTypeCache}.
+     */
     protected static final Map<Element, BoundType> elementToBoundType =
             CollectionUtils.createLRUCache(CACHE_SIZE);
 
+    /**
+     * Mapping from a type parameter Element to the BoundType of its declaration. Its size is given
+     * by the atfCacheSize option of the type factory.
+     */
+    private final Map<Element, BoundType> boundTypeCache;
+
     /**
      * Defaults that apply for a certain Element. On the one hand this is used for caching (an
      * earlier name for the field was "qualifierCache"). It can also be used by type systems to set
@@ -100,6 +115,23 @@ public class QualifierDefaults {
      */
     private final Map<Element, DefaultSet> elementDefaults = new IdentityHashMap<>();
 
+    /**
+     * The fully resolved defaults of each Element, as returned by {@link #defaultsAt}: its own
+     * defaults and those of its enclosing Elements. Unlike {@link #elementDefaults}, this also
+     * records the Elements without defaults, so that their enclosing Elements are not examined
+     * again.
+     */
+    private final Map<Element, DefaultSet> resolvedDefaults = new IdentityHashMap<>();
+
+    /**
+     * The defaults applied in each scope, in the order in which they are applied, for the scopes
+     * to which the unchecked code defaults do not apply. See {@link #defaultTableAt}.
+     */
+    private final Map<Element, DefaultTable> checkedDefaultTables = new IdentityHashMap<>();
+
+    /** The defaults applied in each scope to which the unchecked code defaults apply. */
+    private final Map<Element, DefaultTable> uncheckedDefaultTables = new IdentityHashMap<>();
+
     /** A mapping of Element &rarr; Whether or not that element is AnnotatedFor this type system. */
     private final Map<Element, Boolean> elementAnnotatedFors = new IdentityHashMap<>();
 
@@ -166,6 +198,7 @@ public class QualifierDefaults {
                 atypeFactory.getContext().getChecker().useUncheckedCodeDefault("bytecode");
         this.useUncheckedCodeDefaultsSource =
                 atypeFactory.getContext().getChecker().useUncheckedCodeDefault("source");
+        this.boundTypeCache = CollectionUtils.createLRUCache(atypeFactory.getCacheSize());
     }
 
     @Override
@@ -267,6 +300,7 @@ public class QualifierDefaults {
             AnnotationMirror absoluteDefaultAnno, TypeUseLocation location) {
         checkDuplicates(checkedCodeDefaults, absoluteDefaultAnno, location);
         checkedCodeDefaults.add(new Default(absoluteDefaultAnno, location));
+        clearDefaultTables();
     }
 
     /** Sets the default annotation for unchecked elements. */
@@ -276,6 +310,7 @@ public class QualifierDefaults {
         checkIsValidUncheckedCodeLocation(uncheckedDefaultAnno, location);
 
         uncheckedCodeDefaults.add(new Default(uncheckedDefaultAnno, location));
+        clearDefaultTables();
     }
 
     /** Sets the default annotation for unchecked elements, with specific locations. */
@@ -304,6 +339,8 @@ public class QualifierDefaults {
         }
         prevset.add(new Default(elementDefaultAnno, location));
         elementDefaults.put(elem, prevset);
+        resolvedDefaults.clear();
+        clearDefaultTables();
     }
 
     private void checkIsValidUncheckedCodeLocation(
@@ -579,11 +616,24 @@ public class QualifierDefaults {
         return elementAnnotatedForThisChecker;
     }
 
+    /**
+     * Returns the defaults that apply in the scope of {@code elt}: its own defaults, followed by
+     * those of its enclosing Elements. The result is cached per Element.
+     */
     private DefaultSet defaultsAt(final Element elt) {
         if (elt == null) {
             return DefaultSet.EMPTY;
         }
 
+        DefaultSet resolved = resolvedDefaults.get(elt);
+        if (resolved == null) {
+            resolved = computeDefaultsAt(elt);
+            resolvedDefaults.put(elt, resolved);
+        }
+        return resolved;
+    }
+
+    private DefaultSet computeDefaultsAt(final Element elt) {
         if (elementDefaults.containsKey(elt)) {
             return elementDefaults.get(elt);
         }
@@ -650,7 +700,8 @@ public class QualifierDefaults {
             return false;
         }
 
-        if (uncheckedCodeDefaults.size() > 0) {
+        if (uncheckedCodeDefaults.size() > 0
+                && (useUncheckedCodeDefaultsBytecode || useUncheckedCodeDefaultsSource)) {
             // TODO: I would expect this:
             //   atypeFactory.isFromByteCode(annotationScope)) {
             // to work instead of the
@@ -694,22 +745,79 @@ public class QualifierDefaults {
      */
     private void applyDefaultsElement(
             final Element annotationScope, final AnnotatedTypeMirror type) {
-        DefaultSet defaults = defaultsAt(annotationScope);
         DefaultApplierElement applier =
-                new DefaultApplierElement(atypeFactory, annotationScope, type, applyToTypeVar);
+                new DefaultApplierElement(
+                        atypeFactory, annotationScope, type, applyToTypeVar, boundTypeCache);
+        applier.applyDefaults(defaultTableAt(annotationScope));
+    }
 
-        for (Default def : defaults) {
-            applier.applyDefault(def);
+    /**
+     * Returns the defaults that {@link #applyDefaultsElement} applies for {@code annotationScope}:
+     * the defaults of the scope, the unchecked code defaults if they apply to the scope, and the
+     * checked code defaults, in that order. The result is cached per scope.
+     */
+    private DefaultTable defaultTableAt(final Element annotationScope) {
+        boolean applyUncheckedCodeDefaults = applyUncheckedCodeDefaults(annotationScope);
+        Map<Element, DefaultTable> tables =
+                applyUncheckedCodeDefaults ? uncheckedDefaultTables : checkedDefaultTables;
+        DefaultTable table = tables.get(annotationScope);
+        if (table == null) {
+            List<Default> defaults = new ArrayList<>(defaultsAt(annotationScope));
+            if (applyUncheckedCodeDefaults) {
+                defaults.addAll(uncheckedCodeDefaults);
+            }
+            defaults.addAll(checkedCodeDefaults);
+            table = new DefaultTable(defaults);
+            tables.put(annotationScope, table);
         }
+        return table;
+    }
+
+    /** Discards the cached default tables, after a default was added. */
+    private void clearDefaultTables() {
+        checkedDefaultTables.clear();
+        uncheckedDefaultTables.clear();
+    }
+
+    /**
+     * A list of defaults, in the order in which they are applied, grouped by location so that
+     * each location is tested once per visited type.
+     */
+    static class DefaultTable {
+
+        /** The defaults, in the order in which they are applied. */
+        private final Default[] defaults;
+
+        /** The distinct locations of {@link #defaults}. */
+        private final TypeUseLocation[] locations;
 
-        if (applyUncheckedCodeDefaults(annotationScope)) {
-            for (Default def : uncheckedCodeDefaults) {
-                applier.applyDefault(def);
+        /** For each location in {@link #locations}, the indices of its defaults, in order. */
+        private final int[][] indices;
+
+        DefaultTable(List<Default> defaults) {
+            this.defaults = defaults.toArray(new Default[defaults.size()]);
+
+            Map<TypeUseLocation, List<Integer>> byLocation = new EnumMap<>(TypeUseLocation.class);
+            for (int i = 0; i < this.defaults.length; i++) {
+                List<Integer> forLocation = byLocation.get(this.defaults[i].location);
+                if (forLocation == null) {
+                    forLocation = new ArrayList<>(1);
+                    byLocation.put(this.defaults[i].location, forLocation);
+                }
+                forLocation.add(i);
             }
-        }
 
-        for (Default def : checkedCodeDefaults) {
-            applier.applyDefault(def);
+            this.locations = new TypeUseLocation[byLocation.size()];
+            this.indices = new int[byLocation.size()][];
+            int k = 0;
+            for (Map.Entry<TypeUseLocation, List<Integer>> entry : byLocation.entrySet()) {
+                locations[k] = entry.getKey();
+                indices[k] = new int[entry.getValue().size()];
+                for (int j = 0; j < indices[k].length; j++) {
+                    indices[k][j] = entry.getValue().get(j);
+                }
+                k++;
+            }
         }
     }
 
@@ -719,13 +827,20 @@ public class QualifierDefaults {
         private final Element scope;
         private final AnnotatedTypeMirror type;
 
+        /** The defaults being applied. (Should only be set by the applyDefaults method.) */
+        private DefaultTable table;
+
         /**
-         * Location to which to apply the default. (Should only be set by the applyDefault method.)
+         * For each default in {@link #table}, the types to which the traversal found that it
+         * applies, in the order in which they were found.
          */
-        private TypeUseLocation location;
+        private List<List<AnnotatedTypeMirror>> targets;
 
         private final DefaultApplierElementImpl impl;
 
+        /** The cache of the BoundTypes of type parameters. */
+        private final Map<Element, BoundType> elementToBoundType;
+
         /*Local type variables are defaulted to top when flow is turned on
           We only want to default the top level type variable (and not type variables that are nested
           in its bounds). E.g.,
@@ -743,11 +858,21 @@ public class QualifierDefaults {
                 Element scope,
                 AnnotatedTypeMirror type,
                 boolean applyToTypeVar) {
+            this(atypeFactory, scope, type, applyToTypeVar, new HashMap<Element, BoundType>());
+        }
+
+        DefaultApplierElement(
+                AnnotatedTypeFactory atypeFactory,
+                Element scope,
+                AnnotatedTypeMirror type,
+                boolean applyToTypeVar,
+                Map<Element, BoundType> elementToBoundType) {
             this.atypeFactory = atypeFactory;
             this.scope = scope;
             this.type = type;
             this.impl = new DefaultApplierElementImpl();
             this.defaultableTypeVar = (applyToTypeVar) ? (AnnotatedTypeVariable) type : null;
+            this.elementToBoundType = elementToBoundType;
         }
 
         /**
@@ -756,8 +881,41 @@ public class QualifierDefaults {
          * @param def default to apply
          */
         public void applyDefault(Default def) {
-            this.location = def.location;
-            impl.visit(type, def.anno);
+            applyDefaults(new DefaultTable(Collections.singletonList(def)));
+        }
+
+        /**
+         * Apply the defaults of a table to the type, with the same result as applying each of them
+         * in turn with {@link #applyDefault}.
+         *
+         * <p>The type is traversed once, recording the types to which each default applies; which
+         * types those are does not depend on the annotations of the type. The defaults are then
+         * added in order, so that a type that is annotated in the hierarchy of a default, by an
+         * earlier default or otherwise, keeps its annotation.
+         *
+         * @param table the defaults to apply
+         */
+        void applyDefaults(DefaultTable table) {
+            this.table = table;
+            this.targets = new ArrayList<>(table.defaults.length);
+            for (int i = 0; i < table.defaults.length; i++) {
+                targets.add(new ArrayList<AnnotatedTypeMirror>());
+            }
+
+            impl.visit(type);
+
+            for (int i = 0; i < table.defaults.length; i++) {
+                AnnotationMirror qual = table.defaults[i].anno;
+                for (AnnotatedTypeMirror target : targets.get(i)) {
+                    // Add the default annotation, but only if no other
+                    // annotation is present.
+                    if (!target.isAnnotatedInHierarchy(qual)) {
+                        target.addAnnotation(qual);
+                    }
+                }
+            }
+            this.table = null;
+            this.targets = null;
         }
 
         /**
@@ -781,51 +939,69 @@ public class QualifierDefaults {
         }
 
         /**
-         * Add the qualifier to the type if it does not already have an annotation in the same
-         * hierarchy as qual.
+         * Record that the default with index {@code index} in {@link #table} is to be added to the
+         * type if it does not already have an annotation in the same hierarchy.
          *
-         * @param type type to add qual
-         * @param qual annotation to add
+         * @param type type to add the default to
+         * @param index the index of the default
          */
-        private static void addAnnotation(AnnotatedTypeMirror type, AnnotationMirror qual) {
-            // Add the default annotation, but only if no other
-            // annotation is present.
-            if (!type.isAnnotatedInHierarchy(qual)) {
-                type.addAnnotation(qual);
-            }
+        private void addAnnotation(AnnotatedTypeMirror type, int index) {
+            List<AnnotatedTypeMirror> forDefault = targets.get(index);
+            forDefault.add(type);
 
             /* Intersection types, list the types in the direct supertypes.
              * Make sure to apply the default there too.
+             * The supertypes are created lazily when the type is first traversed, which, when the
+             * defaults are applied one at a time, is after the first default reaches it.
              */
             if (type.getKind() == TypeKind.INTERSECTION) {
+                AnnotatedIntersectionType intersection = (AnnotatedIntersectionType) type;
                 List<AnnotatedDeclaredType> sups =
-                        ((AnnotatedIntersectionType) type).directSuperTypesField();
+                        index == 0
+                                ? intersection.directSuperTypesField()
+                                : intersection.directSuperTypes();
                 if (sups != null) {
-                    for (AnnotatedTypeMirror sup : sups) {
-                        if (!sup.isAnnotatedInHierarchy(qual)) {
-                            sup.addAnnotation(qual);
-                        }
-                    }
+                    forDefault.addAll(sups);
                 }
             }
         }
 
-        private class DefaultApplierElementImpl
-                extends AnnotatedTypeScanner<Void, AnnotationMirror> {
+        private class DefaultApplierElementImpl extends AnnotatedTypeScanner<Void, Void> {
+
+            /** The types to which the defaults of the current location apply. */
+            private final List<AnnotatedTypeMirror> locationTargets = new ArrayList<>();
 
             @Override
-            public Void scan(AnnotatedTypeMirror t, AnnotationMirror qual) {
+            public Void scan(AnnotatedTypeMirror t, Void p) {
                 if (!shouldBeAnnotated(t, t == defaultableTypeVar)) {
-                    return super.scan(t, qual);
+                    return super.scan(t, p);
+                }
+
+                for (int k = 0; k < table.locations.length; k++) {
+                    locationTargets.clear();
+                    addLocationTargets(table.locations[k], t);
+                    for (AnnotatedTypeMirror target : locationTargets) {
+                        for (int index : table.indices[k]) {
+                            addAnnotation(target, index);
+                        }
+                    }
                 }
 
+                return super.scan(t, p);
+            }
+
+            /**
+             * Adds to {@link #locationTargets} the types to which a default for {@code location}
+             * applies, when the traversal is at {@code t}.
+             */
+            private void addLocationTargets(TypeUseLocation location, AnnotatedTypeMirror t) {
                 switch (location) {
                     case FIELD:
                         {
                             if (scope != null
                                     && scope.getKind() == ElementKind.FIELD
                                     && t == type) {
-                                addAnnotation(t, qual);
+                                locationTargets.add(t);
                             }
                             break;
                         }
@@ -835,7 +1011,7 @@ public class QualifierDefaults {
                                     && scope.getKind() == ElementKind.LOCAL_VARIABLE
                                     && t == type) {
                                 // TODO: how do we determine that we are in a cast or instanceof type?
-                                addAnnotation(t, qual);
+                                locationTargets.add(t);
                             }
                             break;
                         }
@@ -844,7 +1020,7 @@ public class QualifierDefaults {
                             if (scope != null
                                     && scope.getKind() == ElementKind.RESOURCE_VARIABLE
                                     && t == type) {
-                                addAnnotation(t, qual);
+                                locationTargets.add(t);
                             }
                             break;
                         }
@@ -853,13 +1029,11 @@ public class QualifierDefaults {
                             if (scope != null
                                     && scope.getKind() == ElementKind.EXCEPTION_PARAMETER
                                     && t == type) {
-                                addAnnotation(t, qual);
+                                locationTargets.add(t);
                                 if (t.getKind() == TypeKind.UNION) {
                                     AnnotatedUnionType aut = (AnnotatedUnionType) t;
                                     // Also apply the default to the alternative types
-                                    for (AnnotatedDeclaredType anno : aut.getAlternatives()) {
-                                        addAnnotation(anno, qual);
-                                    }
+                                    locationTargets.addAll(aut.getAlternatives());
                                 }
                             }
                             break;
@@ -869,7 +1043,7 @@ public class QualifierDefaults {
                             if (scope != null
                                     && scope.getKind() == ElementKind.PARAMETER
                                     && t == type) {
-                                addAnnotation(t, qual);
+                                locationTargets.add(t);
                             } else if (scope != null
                                     && (scope.getKind() == ElementKind.METHOD
                                             || scope.getKind() == ElementKind.CONSTRUCTOR)
@@ -879,7 +1053,7 @@ public class QualifierDefaults {
                                 for (AnnotatedTypeMirror atm :
                                         ((AnnotatedExecutableType) t).getParameterTypes()) {
                                     if (shouldBeAnnotated(atm, false)) {
-                                        addAnnotation(atm, qual);
+                                        locationTargets.add(atm);
                                     }
                                 }
                             }
@@ -894,7 +1068,7 @@ public class QualifierDefaults {
                                 // TODO: comparison against "this" is ugly, won't work
                                 // for all possible names for receiver parameter.
                                 // Comparison to Names._this might be a bit faster.
-                                addAnnotation(t, qual);
+                                locationTargets.add(t);
                             } else if (scope != null
                                     && (scope.getKind() == ElementKind.METHOD)
                                     && t.getKind() == TypeKind.EXECUTABLE
@@ -903,7 +1077,7 @@ public class QualifierDefaults {
                                 final AnnotatedDeclaredType receiver =
                                         ((AnnotatedExecutableType) t).getReceiverType();
                                 if (shouldBeAnnotated(receiver, false)) {
-                                    addAnnotation(receiver, qual);
+                                    locationTargets.add(receiver);
                                 }
                             }
                             break;
@@ -917,7 +1091,7 @@ public class QualifierDefaults {
                                 final AnnotatedTypeMirror returnType =
                                         ((AnnotatedExecutableType) t).getReturnType();
                                 if (shouldBeAnnotated(returnType, false)) {
-                                    addAnnotation(returnType, qual);
+                                    locationTargets.add(returnType);
                                 }
                             }
                             break;
@@ -927,7 +1101,7 @@ public class QualifierDefaults {
                         {
                             if (isLowerBound
                                     && boundType.isOneOf(BoundType.UNBOUNDED, BoundType.UPPER)) {
-                                addAnnotation(t, qual);
+                                locationTargets.add(t);
                             }
                             break;
                         }
@@ -935,7 +1109,7 @@ public class QualifierDefaults {
                     case EXPLICIT_LOWER_BOUND:
                         {
                             if (isLowerBound && boundType.isOneOf(BoundType.LOWER)) {
-                                addAnnotation(t, qual);
+                                locationTargets.add(t);
                             }
                             break;
                         }
@@ -943,7 +1117,7 @@ public class QualifierDefaults {
                     case LOWER_BOUND:
                         {
                             if (isLowerBound) {
-                                addAnnotation(t, qual);
+                                locationTargets.add(t);
                             }
                             break;
                         }
@@ -952,21 +1126,21 @@ public class QualifierDefaults {
                         {
                             if (isUpperBound
                                     && boundType.isOneOf(BoundType.UNBOUNDED, BoundType.LOWER)) {
-                                addAnnotation(t, qual);
+                                locationTargets.add(t);
                             }
                             break;
                         }
                     case EXPLICIT_UPPER_BOUND:
                         {
                             if (isUpperBound && boundType.isOneOf(BoundType.UPPER)) {
-                                addAnnotation(t, qual);
+                                locationTargets.add(t);
                             }
                             break;
                         }
                     case UPPER_BOUND:
                         {
                             if (this.isUpperBound) {
-                                addAnnotation(t, qual);
+                                locationTargets.add(t);
                             }
                             break;
                         }
@@ -974,7 +1148,7 @@ public class QualifierDefaults {
                     case ALL:
                         {
                             // TODO: forbid ALL if anything else was given.
-                            addAnnotation(t, qual);
+                            locationTargets.add(t);
                             break;
                         }
                     default:
@@ -982,11 +1156,8 @@ public class QualifierDefaults {
                             ErrorReporter.errorAbort(
                                     "QualifierDefaults.DefaultApplierElement: unhandled location: "
                                             + location);
-                            return null;
                         }
                 }
-
-                return super.scan(t, qual);
             }
 
             @Override
@@ -1007,52 +1178,52 @@ public class QualifierDefaults {
             private BoundType boundType = BoundType.UNBOUNDED;
 
             @Override
-            public Void visitTypeVariable(AnnotatedTypeVariable type, AnnotationMirror qual) {
+            public Void visitTypeVariable(AnnotatedTypeVariable type, Void p) {
                 if (visitedNodes.containsKey(type)) {
                     return visitedNodes.get(type);
                 }
 
-                visitBounds(type, type.getUpperBound(), type.getLowerBound(), qual);
+                visitBounds(type, type.getUpperBound(), type.getLowerBound(), p);
                 return null;
             }
 
             @Override
-            public Void visitWildcard(AnnotatedWildcardType type, AnnotationMirror qual) {
+            public Void visitWildcard(AnnotatedWildcardType type, Void p) {
                 if (visitedNodes.containsKey(type)) {
                     return visitedNodes.get(type);
                 }
 
-                visitBounds(type, type.getExtendsBound(), type.getSuperBound(), qual);
+                visitBounds(type, type.getExtendsBound(), type.getSuperBound(), p);
                 return null;
             }
 
             /**
-             * Visit the bounds of a type variable or a wildcard and potentially apply qual to those
-             * bounds. This method will also update the boundType, isLowerBound, and isUpperbound
-             * fields.
+             * Visit the bounds of a type variable or a wildcard and potentially apply the defaults
+             * to those bounds. This method will also update the boundType, isLowerBound, and
+             * isUpperbound fields.
              */
             protected void visitBounds(
                     AnnotatedTypeMirror boundedType,
                     AnnotatedTypeMirror upperBound,
                     AnnotatedTypeMirror lowerBound,
-                    AnnotationMirror qual) {
+                    Void p) {
 
                 final boolean prevIsUpperBound = isUpperBound;
                 final boolean prevIsLowerBound = isLowerBound;
                 final BoundType prevBoundType = boundType;
 
-                boundType = getBoundType(boundedType, atypeFactory);
+                boundType = getBoundType(boundedType, atypeFactory, elementToBoundType);
 
                 try {
                     isLowerBound = true;
                     isUpperBound = false;
-                    scanAndReduce(lowerBound, qual, null);
+                    scanAndReduce(lowerBound, p, null);
 
                     visitedNodes.put(type, null);
 
                     isLowerBound = false;
                     isUpperBound = true;
-                    scanAndReduce(upperBound, qual, null);
+                    scanAndReduce(upperBound, p, null);
 
                     visitedNodes.put(type, null);
 
@@ -1098,16 +1269,21 @@ public class QualifierDefaults {
     /**
      * @param type the type whose boundType is returned. type must be an AnnotatedWildcardType or
      *     AnnotatedTypeVariable.
+     * @param elementToBoundType the cache of the BoundTypes of type parameters
      * @return the boundType for type
      */
     private static BoundType getBoundType(
-            final AnnotatedTypeMirror type, final AnnotatedTypeFactory typeFactory) {
+            final AnnotatedTypeMirror type,
+            final AnnotatedTypeFactory typeFactory,
+            final Map<Element, BoundType> elementToBoundType) {
         if (type instanceof AnnotatedTypeVariable) {
-            return getTypeVarBoundType((AnnotatedTypeVariable) type, typeFactory);
+            return getTypeVarBoundType(
+                    (AnnotatedTypeVariable) type, typeFactory, elementToBoundType);
         }
 
         if (type instanceof AnnotatedWildcardType) {
-            return getWildcardBoundType((AnnotatedWildcardType) type, typeFactory);
+            return getWildcardBoundType(
+                    (AnnotatedWildcardType) type, typeFactory, elementToBoundType);
         }
 
         ErrorReporter.errorAbort("Unexpected type kind: type=" + type);
@@ -1116,15 +1292,21 @@ public class QualifierDefaults {
 
     /** @return the bound type of the input typeVar */
     private static BoundType getTypeVarBoundType(
-            final AnnotatedTypeVariable typeVar, final AnnotatedTypeFactory typeFactory) {
+            final AnnotatedTypeVariable typeVar,
+            final AnnotatedTypeFactory typeFactory,
+            final Map<Element, BoundType> elementToBoundType) {
         return getTypeVarBoundType(
-                (TypeParameterElement) typeVar.getUnderlyingType().asElement(), typeFactory);
+                (TypeParameterElement) typeVar.getUnderlyingType().asElement(),
+                typeFactory,
+                elementToBoundType);
     }
 
     /** @return the boundType (UPPER or UNBOUNDED) of the declaration of typeParamElem */
     // Results are cached in {@link elementToBoundType}.
     private static BoundType getTypeVarBoundType(
-            final TypeParameterElement typeParamElem, final AnnotatedTypeFactory typeFactory) {
+            final TypeParameterElement typeParamElem,
+            final AnnotatedTypeFactory typeFactory,
+            final Map<Element, BoundType> elementToBoundType) {
         final BoundType prev = elementToBoundType.get(typeParamElem);
         if (prev != null) {
             return prev;
@@ -1179,6 +1361,18 @@ public class QualifierDefaults {
      */
     public static BoundType getWildcardBoundType(
             final AnnotatedWildcardType annotatedWildcard, final AnnotatedTypeFactory typeFactory) {
+        return getWildcardBoundType(annotatedWildcard, typeFactory, elementToBoundType);
+    }
+
+    /**
+     * @param elementToBoundType the cache of the BoundTypes of type parameters
+     * @return the BoundType of annotatedWildcard. If it is unbounded, use the type parameter to
+     *     which its an argument.
+     */
+    public static BoundType getWildcardBoundType(
+            final AnnotatedWildcardType annotatedWildcard,
+            final AnnotatedTypeFactory typeFactory,
+            final Map<Element, BoundType> elementToBoundType) {
 
         final WildcardType wildcard = (WildcardType) annotatedWildcard.getUnderlyingType();
 
@@ -1186,7 +1380,9 @@ public class QualifierDefaults {
         if (wildcard.isUnbound() && wildcard.bound != null) {
             boundType =
                     getTypeVarBoundType(
-                            (TypeParameterElement) wildcard.bound.asElement(), typeFactory);
+                            (TypeParameterElement) wildcard.bound.asElement(),
+                            typeFactory,
+                            elementToBoundType);
 
         } else {
             // note: isSuperBound will be true for unbounded and lowers, but the unbounded case is already handled
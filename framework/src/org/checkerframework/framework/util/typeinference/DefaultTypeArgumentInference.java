@@ -23,12 +23,15 @@ import javax.tools.Diagnostic.Kind;
 import org.checkerframework.framework.source.SourceChecker;
 import org.checkerframework.framework.type.AnnotatedTypeFactory;
 import org.checkerframework.framework.type.AnnotatedTypeMirror;
+import org.checkerframework.framework.type.AnnotatedTypeMirror.AnnotatedDeclaredType;
 import org.checkerframework.framework.type.AnnotatedTypeMirror.AnnotatedExecutableType;
 import org.checkerframework.framework.type.AnnotatedTypeMirror.AnnotatedPrimitiveType;
 import org.checkerframework.framework.type.AnnotatedTypeMirror.AnnotatedTypeVariable;
+import org.checkerframework.framework.type.AnnotatedTypeMirror.AnnotatedWildcardType;
 import org.checkerframework.framework.type.GeneralAnnotatedTypeFactory;
 import org.checkerframework.framework.type.QualifierHierarchy;
 import org.checkerframework.framework.type.TypeHierarchy;
+import org.checkerframework.framework.type.visitor.AnnotatedTypeScanner;
 import org.checkerframework.framework.util.AnnotatedTypes;
 import org.checkerframework.framework.util.AnnotationMirrorSet;
 import org.checkerframework.framework.util.PluginUtil;
@@ -51,6 +54,7 @@ import org.checkerframework.framework.util.typeinference.solver.InferredValue;
 import org.checkerframework.framework.util.typeinference.solver.InferredValue.InferredType;
 import org.checkerframework.framework.util.typeinference.solver.SubtypesSolver;
 import org.checkerframework.framework.util.typeinference.solver.SupertypesSolver;
+import org.checkerframework.javacutil.CollectionUtils;
 import org.checkerframework.javacutil.ErrorReporter;
 import org.checkerframework.javacutil.Pair;
 import org.checkerframework.javacutil.TreeUtils;
@@ -103,9 +107,31 @@ public class DefaultTypeArgumentInference implements TypeArgumentInference {
 
     private final boolean showInferenceSteps;
 
+    /**
+     * Cache of the results of {@link #infer}. The same invocation is usually inferred several times
+     * (during dataflow analysis, by the visitor, and for each pseudo-assignment of the result), and
+     * in stream-heavy code the same generic method is called with the same argument types over and
+     * over. Null if caching is disabled with {@code -AatfDoNotCache}.
+     */
+    private final Map<InferenceKey, Map<TypeVariable, AnnotatedTypeMirror>> inferenceCache;
+
+    /** Finds the keys whose results are not cached; see {@link InferenceKey}. */
+    private final RawOrUninferredScanner rawOrUninferredScanner = new RawOrUninferredScanner();
+
+    /** The factory for which {@link #reducers} were created. */
+    private AnnotatedTypeFactory reducersFactory;
+
+    /** The reducers used by {@link #reduceAfConstraints}; they are stateless for a given factory. */
+    private List<AFReducer> reducers;
+
     public DefaultTypeArgumentInference(AnnotatedTypeFactory typeFactory) {
         this.showInferenceSteps =
                 typeFactory.getContext().getChecker().hasOption("showInferenceSteps");
+        if (typeFactory.shouldCache) {
+            this.inferenceCache = CollectionUtils.createLRUCache(typeFactory.getCacheSize());
+        } else {
+            this.inferenceCache = null;
+        }
     }
 
     @Override
@@ -332,6 +358,70 @@ public class DefaultTypeArgumentInference implements TypeArgumentInference {
             final AnnotatedExecutableType methodType,
             final Set<TypeVariable> targets,
             final boolean useNullArguments) {
+        if (inferenceCache == null) {
+            return inferUncached(
+                    typeFactory,
+                    argumentTypes,
+                    assignedTo,
+                    methodElem,
+                    methodType,
+                    targets,
+                    useNullArguments);
+        }
+
+        final InferenceKey key =
+                new InferenceKey(
+                        methodElem, methodType, argumentTypes, assignedTo, useNullArguments);
+        if (key.hasRawOrUninferredTypes(rawOrUninferredScanner)) {
+            return inferUncached(
+                    typeFactory,
+                    argumentTypes,
+                    assignedTo,
+                    methodElem,
+                    methodType,
+                    targets,
+                    useNullArguments);
+        }
+        Map<TypeVariable, AnnotatedTypeMirror> result = inferenceCache.get(key);
+        if (result == null) {
+            result =
+                    inferUncached(
+                            typeFactory,
+                            argumentTypes,
+                            assignedTo,
+                            methodElem,
+                            methodType,
+                            targets,
+                            useNullArguments);
+            inferenceCache.put(key.deepCopy(), copyInferredArgs(result));
+            return result;
+        }
+        return copyInferredArgs(result);
+    }
+
+    /**
+     * Returns a copy of {@code inferredArgs} whose values are deep copies, so that neither callers
+     * nor {@link #inferenceCache} observe side effects on the other's types.
+     */
+    private static Map<TypeVariable, AnnotatedTypeMirror> copyInferredArgs(
+            Map<TypeVariable, AnnotatedTypeMirror> inferredArgs) {
+        final Map<TypeVariable, AnnotatedTypeMirror> copy =
+                new LinkedHashMap<>(inferredArgs.size());
+        for (Map.Entry<TypeVariable, AnnotatedTypeMirror> entry : inferredArgs.entrySet()) {
+            copy.put(entry.getKey(), entry.getValue().deepCopy());
+        }
+        return copy;
+    }
+
+    /** Implements {@link #infer} without consulting {@link #inferenceCache}. */
+    private Map<TypeVariable, AnnotatedTypeMirror> inferUncached(
+            final AnnotatedTypeFactory typeFactory,
+            final List<AnnotatedTypeMirror> argumentTypes,
+            final AnnotatedTypeMirror assignedTo,
+            final ExecutableElement methodElem,
+            final AnnotatedExecutableType methodType,
+            final Set<TypeVariable> targets,
+            final boolean useNullArguments) {
 
         //1.  Step 1 - Build up argument constraints
         // The AFConstraints for arguments are used also in the
@@ -339,6 +429,20 @@ public class DefaultTypeArgumentInference implements TypeArgumentInference {
                 createArgumentAFConstraints(
                         typeFactory, argumentTypes, methodType, targets, useNullArguments);
 
+        if (afArgumentConstraints.isEmpty() && assignedTo == null) {
+            // No argument mentions a target and there is no assignment context, so the only
+            // constraints are those between the targets themselves.  Those can only ever equate
+            // targets with one another, never with a concrete type, so nothing can be inferred.
+            //
+            // There is no corresponding shortcut for a call whose type arguments are fixed by the
+            // Java types.  Even then, the qualifiers of a type argument are the lub or glb of the
+            // qualifiers of all arguments and of the assignment context that mention the target,
+            // and a qualifier on a target's bound or use in a parameter type changes which of them
+            // constrain it; computing that is exactly what the reduction and the solvers do.  The
+            // cache in infer avoids repeating the work for such calls instead.
+            return new LinkedHashMap<>();
+        }
+
         //2. Step 2 - Solve the constraints.
         Pair<InferenceResult, InferenceResult> argInference =
                 inferFromArguments(typeFactory, afArgumentConstraints, targets);
@@ -761,10 +865,13 @@ public class DefaultTypeArgumentInference implements TypeArgumentInference {
 
         final Set<AFConstraint> visited = new HashSet<>();
 
-        List<AFReducer> reducers = new ArrayList<>();
-        reducers.add(new A2FReducer(typeFactory));
-        reducers.add(new F2AReducer(typeFactory));
-        reducers.add(new FIsAReducer(typeFactory));
+        if (reducers == null || reducersFactory != typeFactory) {
+            reducers = new ArrayList<>(3);
+            reducers.add(new A2FReducer(typeFactory));
+            reducers.add(new F2AReducer(typeFactory));
+            reducers.add(new FIsAReducer(typeFactory));
+            reducersFactory = typeFactory;
+        }
 
         Set<AFConstraint> newConstraints = new HashSet<>(10);
         while (!toProcess.isEmpty()) {
@@ -876,4 +983,144 @@ public class DefaultTypeArgumentInference implements TypeArgumentInference {
 
         return atv;
     }
+
+    /**
+     * The inputs of {@link #infer} that determine its result. Types are compared structurally (by
+     * underlying type and annotations), so a key built from re-computed types of the same
+     * invocation, or of another invocation of the same method with identically annotated argument
+     * types, is equal to the original one.
+     *
+     * <p>{@link AnnotatedTypeMirror#equals} ignores whether a declared type was raw and whether a
+     * wildcard is an uninferred type argument, which both change what a checker reports, so the
+     * results for keys with such types are not cached; see {@link #hasRawOrUninferredTypes}.
+     */
+    private static final class InferenceKey {
+        private final ExecutableElement methodElem;
+        private final List<AnnotatedTypeMirror> types;
+        private final boolean useNullArguments;
+        private final int hashCode;
+
+        private InferenceKey(
+                ExecutableElement methodElem,
+                List<AnnotatedTypeMirror> types,
+                boolean useNullArguments,
+                int hashCode) {
+            this.methodElem = methodElem;
+            this.types = types;
+            this.useNullArguments = useNullArguments;
+            this.hashCode = hashCode;
+        }
+
+        InferenceKey(
+                ExecutableElement methodElem,
+                AnnotatedExecutableType methodType,
+                List<AnnotatedTypeMirror> argumentTypes,
+                AnnotatedTypeMirror assignedTo,
+                boolean useNullArguments) {
+            this.methodElem = methodElem;
+            this.useNullArguments = useNullArguments;
+
+            // The method type is included because it is the viewpoint-adapted type of the method,
+            // which differs between receivers.
+            this.types = new ArrayList<>();
+            types.add(methodType.getReturnType());
+            types.add(assignedTo);
+            types.addAll(methodType.getTypeVariables());
+            types.addAll(methodType.getParameterTypes());
+            types.addAll(argumentTypes);
+
+            int hash = methodElem.hashCode() * 31 + (useNullArguments ? 1 : 0);
+            for (AnnotatedTypeMirror type : types) {
+                hash = hash * 31 + (type == null ? 0 : type.hashCode());
+            }
+            this.hashCode = hash;
+        }
+
+        /**
+         * Returns a key equal to this one whose types are deep copies. The types of a key are live
+         * types of the factory that may still be modified, so a key must be copied before it is
+         * stored in the cache; otherwise its hash code would no longer match its types.
+         */
+        /** Returns true if a type of this key is or contains a raw or uninferred type argument. */
+        boolean hasRawOrUninferredTypes(RawOrUninferredScanner scanner) {
+            for (AnnotatedTypeMirror type : types) {
+                if (type != null && scanner.visit(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        InferenceKey deepCopy() {
+            List<AnnotatedTypeMirror> copies = new ArrayList<>(types.size());
+            for (AnnotatedTypeMirror type : types) {
+                copies.add(type == null ? null : type.deepCopy());
+            }
+            return new InferenceKey(methodElem, copies, useNullArguments, hashCode);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InferenceKey)) {
+                return false;
+            }
+            InferenceKey other = (InferenceKey) o;
+            if (hashCode != other.hashCode
+                    || methodElem != other.methodElem
+                    || useNullArguments != other.useNullArguments
+                    || types.size() != other.types.size()) {
+                return false;
+            }
+            for (int i = 0; i < types.size(); i++) {
+                AnnotatedTypeMirror type = types.get(i);
+                AnnotatedTypeMirror otherType = other.types.get(i);
+                if (type == null || otherType == null) {
+                    if (type != otherType) {
+                        return false;
+                    }
+                } else if (type.getClass() != otherType.getClass()
+                        // AnnotatedTypeMirror.equals fails on types of different classes.
+                        || !type.equals(otherType)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /** Returns true for a type that is or contains a raw type or an uninferred type argument. */
+    private static final class RawOrUninferredScanner extends AnnotatedTypeScanner<Boolean, Void> {
+        @Override
+        public Boolean visitDeclared(AnnotatedDeclaredType type, Void p) {
+            if (type.wasRaw()) {
+                return true;
+            }
+            if (type.getEnclosingType() != null
+                    && Boolean.TRUE.equals(scan(type.getEnclosingType(), p))) {
+                return true;
+            }
+            return super.visitDeclared(type, p);
+        }
+
+        @Override
+        public Boolean visitWildcard(AnnotatedWildcardType type, Void p) {
+            if (type.isUninferredTypeArgument()) {
+                return true;
+            }
+            return super.visitWildcard(type, p);
+        }
+
+        @Override
+        protected Boolean reduce(Boolean r1, Boolean r2) {
+            return Boolean.TRUE.equals(r1) || Boolean.TRUE.equals(r2);
+        }
+    }
 }
@@ -0,0 +1,43 @@
+import java.util.Collections;
+import java.util.List;
+
+// Infers the same generic invocations repeatedly, in different assignment contexts, so that
+// cached and uncached type argument inference are exercised on identical calls.
+@SuppressWarnings({"unchecked", "rawtypes"})
+class InferenceCache {
+    static <T> T id(T t) {
+        return t;
+    }
+
+    static <T, U extends T> U dependent() {
+        throw new RuntimeException();
+    }
+
+    void contexts() {
+        for (int i = 0; i < 3; i++) {
+            String s = id("");
+            Object o = id("");
+            CharSequence c = id("");
+            id("").length();
+            id("");
+        }
+    }
+
+    void noArguments() {
+        Collections.emptyList();
+        List<String> l = Collections.emptyList();
+        List<Object> o = Collections.emptyList();
+        Collections.emptyList();
+        dependent();
+        InferenceCache.<Object, String>dependent();
+        dependent();
+    }
+
+    void raw(List raw, List<String> strings) {
+        Object d = id(raw);
+        id(raw);
+        List<String> r = id(raw);
+        List<String> s = id(strings);
+        id(strings);
+    }
+}
@@ -0,0 +1,33 @@
+package defaulting.upperbound;
+
+// Checks that the IMPLICIT_UPPER_BOUND, EXPLICIT_UPPER_BOUND, and LOWER_BOUND defaults are all
+// applied in the single traversal of a type: to a type variable whose upper bound is an
+// intersection type, and to several type variables of one declaration that get different defaults.
+
+import testlib.defaulting.UpperBoundQual.*;
+
+class MyIntersection<MI extends Number & Comparable<MI>> {}
+
+class MyPair<MP1, MP2 extends String> {}
+
+public class IntersectionDefaulting {
+
+    public <I extends Number & Comparable<I>> void explicitIntersectionUpperBound() {
+        MyIntersection<@UB_BOTTOM ? extends @UB_EXPLICIT Object> eubExplicit =
+                new MyIntersection<I>();
+
+        MyIntersection<@UB_BOTTOM ? extends @UB_BOTTOM Object> eubBottom =
+                //:: error: (assignment.type.incompatible)
+                new MyIntersection<I>();
+    }
+
+    public <P1, P2 extends String> void differentDefaultsInOneDeclaration() {
+        MyPair<@UB_BOTTOM ? extends @UB_IMPLICIT Object, @UB_BOTTOM ? extends @UB_EXPLICIT Object>
+                bothCompatible = new MyPair<P1, P2>();
+
+        MyPair<@UB_BOTTOM ? extends @UB_IMPLICIT Object, @UB_BOTTOM ? extends @UB_BOTTOM Object>
+                secondBottom =
+                        //:: error: (assignment.type.incompatible)
+                        new MyPair<P1, P2>();
+    }
+}
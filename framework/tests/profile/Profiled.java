@@ -0,0 +1,32 @@
+// Compiled by PhaseProfilerTest with -Aprofile; the methods give the flow analysis some work.
+class Profiled {
+    int field;
+
+    int loop(int n) {
+        int sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += i;
+        }
+        return sum;
+    }
+
+    Runnable lambda(final int x) {
+        return () -> field = x;
+    }
+
+    int tryCatch(String s) {
+        try {
+            return Integer.parseInt(s);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
+
+class ProfiledSecond {
+    static final int CONSTANT = 3;
+
+    int twice(int x) {
+        return x * CONSTANT * 2;
+    }
+}
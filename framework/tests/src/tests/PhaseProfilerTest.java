@@ -0,0 +1,262 @@
+package tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.checkerframework.common.value.ValueChecker;
+import org.checkerframework.framework.util.PhaseProfiler;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests {@link PhaseProfiler} by running the Constant Value Checker with {@code -Aprofile} on
+ * tests/profile/Profiled.java and reading the JSON written to {@code -AprofileOutput}.
+ *
+ * <p>The profile is written by a shutdown hook, so the compiler runs in a separate JVM.
+ */
+public class PhaseProfilerTest {
+
+    /** The file that is compiled. */
+    private static final String testFile =
+            "tests" + File.separator + "profile" + File.separator + "Profiled.java";
+
+    /**
+     * Compiles {@link #testFile} with -Aprofile in a new JVM and returns the parsed profile.
+     *
+     * @return the JSON object written to -AprofileOutput
+     */
+    private static Map<String, Object> runProfiledCompilation()
+            throws IOException, InterruptedException {
+        File profile = File.createTempFile("profile", ".json");
+        profile.deleteOnExit();
+
+        List<String> command = new ArrayList<>();
+        command.add(
+                System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("com.sun.tools.javac.Main");
+        command.add("-proc:only");
+        command.add("-processor");
+        command.add(ValueChecker.class.getName());
+        command.add("-Aprofile");
+        command.add("-AprofileOutput=" + profile.getPath());
+        command.add(testFile);
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = readFully(process.getInputStream());
+        int exitCode = process.waitFor();
+        Assert.assertEquals("javac failed:\n" + output, 0, exitCode);
+
+        String json = new String(Files.readAllBytes(profile.toPath()), StandardCharsets.UTF_8);
+        Assert.assertFalse("no profile was written:\n" + output, json.isEmpty());
+        Object parsed = new JsonParser(json).parse();
+        Assert.assertTrue("profile is not a JSON object: " + json, parsed instanceof Map);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> result = (Map<String, Object>) parsed;
+        return result;
+    }
+
+    /** Returns everything that can be read from {@code in}. */
+    private static String readFully(InputStream in) throws IOException {
+        StringBuilder result = new StringBuilder();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            result.append(new String(buffer, 0, read, StandardCharsets.UTF_8));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Adds to {@code phases} the phase of each node of {@code nodes} and of their descendants.
+     * Checks that every node was stopped at least once, so that each start had a matching stop,
+     * and that CFG construction and dataflow analysis only happen inside a CHECKER phase.
+     */
+    @SuppressWarnings("unchecked")
+    private static void collectPhases(
+            List<Object> nodes, boolean insideChecker, Set<String> phases) {
+        for (Object o : nodes) {
+            Map<String, Object> node = (Map<String, Object>) o;
+            String phase = (String) node.get("phase");
+            phases.add(phase);
+            // A node is created when its phase is started, and counted when it is stopped.
+            Assert.assertTrue(
+                    "phase " + phase + " was never stopped", (Long) node.get("count") >= 1);
+            if (phase.equals("CFG_CONSTRUCTION") || phase.equals("DATAFLOW_FIXPOINT")) {
+                Assert.assertTrue(phase + " outside of a CHECKER phase", insideChecker);
+            }
+            Object children = node.get("children");
+            if (children != null) {
+                collectPhases(
+                        (List<Object>) children,
+                        insideChecker || phase.equals("CHECKER"),
+                        phases);
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void writesBalancedPhaseTree() throws IOException, InterruptedException {
+        Map<String, Object> profile = runProfiledCompilation();
+
+        Set<String> phases = new HashSet<>();
+        collectPhases((List<Object>) profile.get("phases"), false, phases);
+        Assert.assertTrue(phases.toString(), phases.contains("CHECKER"));
+        Assert.assertTrue(phases.toString(), phases.contains("CFG_CONSTRUCTION"));
+        Assert.assertTrue(phases.toString(), phases.contains("DATAFLOW_FIXPOINT"));
+
+        List<Object> methods = (List<Object>) profile.get("methods");
+        Assert.assertNotNull(methods);
+        Assert.assertFalse(methods.isEmpty());
+    }
+
+    /**
+     * A parser for the subset of JSON that {@link PhaseProfiler} writes: objects, arrays, strings,
+     * and integers. Objects become maps, arrays lists, and integers longs.
+     */
+    private static class JsonParser {
+        private final String json;
+        private int pos = 0;
+
+        JsonParser(String json) {
+            this.json = json;
+        }
+
+        /** Parses the whole input as one value. */
+        Object parse() {
+            Object value = parseValue();
+            skipWhitespace();
+            Assert.assertEquals("trailing characters in JSON", json.length(), pos);
+            return value;
+        }
+
+        private Object parseValue() {
+            skipWhitespace();
+            Assert.assertTrue("unexpected end of JSON", pos < json.length());
+            char c = json.charAt(pos);
+            if (c == '{') {
+                return parseObject();
+            } else if (c == '[') {
+                return parseArray();
+            } else if (c == '"') {
+                return parseString();
+            } else {
+                return parseNumber();
+            }
+        }
+
+        private Map<String, Object> parseObject() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return result;
+            }
+            do {
+                skipWhitespace();
+                String key = parseString();
+                skipWhitespace();
+                expect(':');
+                Assert.assertFalse("duplicate key " + key, result.containsKey(key));
+                result.put(key, parseValue());
+                skipWhitespace();
+            } while (consume(','));
+            expect('}');
+            return result;
+        }
+
+        private List<Object> parseArray() {
+            List<Object> result = new ArrayList<>();
+            expect('[');
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+                return result;
+            }
+            do {
+                result.add(parseValue());
+                skipWhitespace();
+            } while (consume(','));
+            expect(']');
+            return result;
+        }
+
+        private String parseString() {
+            expect('"');
+            StringBuilder result = new StringBuilder();
+            while (peek() != '"') {
+                char c = json.charAt(pos++);
+                if (c == '\\') {
+                    char escaped = json.charAt(pos++);
+                    switch (escaped) {
+                        case 'n':
+                            result.append('\n');
+                            break;
+                        case 't':
+                            result.append('\t');
+                            break;
+                        case 'u':
+                            String hex = json.substring(pos, pos + 4);
+                            result.append((char) Integer.parseInt(hex, 16));
+                            pos += 4;
+                            break;
+                        default:
+                            result.append(escaped);
+                    }
+                } else {
+                    Assert.assertTrue("control character in JSON string", c >= 0x20);
+                    result.append(c);
+                }
+            }
+            pos++;
+            return result.toString();
+        }
+
+        private Long parseNumber() {
+            int start = pos;
+            if (peek() == '-') {
+                pos++;
+            }
+            while (pos < json.length() && Character.isDigit(json.charAt(pos))) {
+                pos++;
+            }
+            Assert.assertTrue("expected a value at " + start, pos > start);
+            return Long.valueOf(json.substring(start, pos));
+        }
+
+        private char peek() {
+            Assert.assertTrue("unexpected end of JSON", pos < json.length());
+            return json.charAt(pos);
+        }
+
+        private boolean consume(char c) {
+            if (pos < json.length() && json.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            Assert.assertEquals("at " + pos, c, peek());
+            pos++;
+        }
+
+        private void skipWhitespace() {
+            while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+                pos++;
+            }
+        }
+    }
+}
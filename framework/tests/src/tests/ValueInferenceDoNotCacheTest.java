@@ -0,0 +1,29 @@
+package tests;
+
+import java.io.File;
+import java.util.List;
+import org.checkerframework.common.value.ValueChecker;
+import org.checkerframework.framework.test.CheckerFrameworkPerDirectoryTest;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Runs the tests of {@link ValueInferenceTest} with -AatfDoNotCache, so that every type argument
+ * inference is computed anew.
+ */
+public class ValueInferenceDoNotCacheTest extends CheckerFrameworkPerDirectoryTest {
+
+    public ValueInferenceDoNotCacheTest(List<File> testFiles) {
+        super(
+                testFiles,
+                org.checkerframework.common.value.ValueChecker.class,
+                "value-inference",
+                "-Anomsgtext",
+                "-AatfDoNotCache",
+                "-A" + ValueChecker.REPORT_EVAL_WARNS);
+    }
+
+    @Parameters
+    public static String[] getTestDirs() {
+        return new String[] {"value-inference", "all-systems"};
+    }
+}
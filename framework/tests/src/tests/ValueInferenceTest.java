@@ -0,0 +1,29 @@
+package tests;
+
+import java.io.File;
+import java.util.List;
+import org.checkerframework.common.value.ValueChecker;
+import org.checkerframework.framework.test.CheckerFrameworkPerDirectoryTest;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Tests type argument inference for repeated generic invocations with the constant value
+ * propagation type system. {@link ValueInferenceDoNotCacheTest} runs the same files without
+ * caching.
+ */
+public class ValueInferenceTest extends CheckerFrameworkPerDirectoryTest {
+
+    public ValueInferenceTest(List<File> testFiles) {
+        super(
+                testFiles,
+                org.checkerframework.common.value.ValueChecker.class,
+                "value-inference",
+                "-Anomsgtext",
+                "-A" + ValueChecker.REPORT_EVAL_WARNS);
+    }
+
+    @Parameters
+    public static String[] getTestDirs() {
+        return new String[] {"value-inference", "all-systems"};
+    }
+}
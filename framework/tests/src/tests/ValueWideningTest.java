@@ -0,0 +1,30 @@
+package tests;
+
+import java.io.File;
+import java.util.List;
+import org.checkerframework.common.value.ValueChecker;
+import org.checkerframework.framework.test.CheckerFrameworkPerDirectoryTest;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Tests the constant value propagation type system with widening only at loop heads, followed by
+ * narrowing rounds.
+ */
+public class ValueWideningTest extends CheckerFrameworkPerDirectoryTest {
+
+    public ValueWideningTest(List<File> testFiles) {
+        super(
+                testFiles,
+                org.checkerframework.common.value.ValueChecker.class,
+                "value-widening",
+                "-Anomsgtext",
+                "-AflowWideningStrategy=loopHeads",
+                "-AflowNarrowingIterations=2",
+                "-A" + ValueChecker.REPORT_EVAL_WARNS);
+    }
+
+    @Parameters
+    public static String[] getTestDirs() {
+        return new String[] {"value-widening", "value/loops"};
+    }
+}
@@ -0,0 +1,67 @@
+package tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.checkerframework.common.wholeprograminference.WholeProgramInferenceDriver;
+import org.checkerframework.common.wholeprograminference.WholeProgramInferenceScenesHelper;
+import org.junit.Assert;
+import org.junit.Test;
+import testlib.wholeprograminference.WholeProgramInferenceTestChecker;
+
+/**
+ * Tests {@link WholeProgramInferenceDriver} on the files in tests/whole-program-inference/driver/.
+ *
+ * <p>The driver rewrites the .jaif files of the other whole-program inference tests, so it is run
+ * by the whole-program-inference-tests target after them.
+ */
+public class WholeProgramInferenceDriverTest {
+
+    /** The directory of the test files. */
+    private static final String testDir =
+            "tests" + File.separator + "whole-program-inference" + File.separator + "driver";
+
+    /** Runs the driver with the test checker on DriverChain.java, plus {@code extraArgs}. */
+    private static int runDriver(String... extraArgs) {
+        List<String> args = new ArrayList<>();
+        args.add("-processor");
+        args.add(WholeProgramInferenceTestChecker.class.getName());
+        args.addAll(Arrays.asList(extraArgs));
+        args.add(testDir + File.separator + "DriverChain.java");
+        return new WholeProgramInferenceDriver(args).run();
+    }
+
+    /** Returns the lines of DriverChain.jaif that describe {@code field}. */
+    private static String getFieldInJaif(String field) throws IOException {
+        Path jaifPath =
+                Paths.get(WholeProgramInferenceScenesHelper.jaifFilesPath + "DriverChain.jaif");
+        String jaif = new String(Files.readAllBytes(jaifPath), StandardCharsets.UTF_8);
+        int start = jaif.indexOf("field " + field + ":");
+        if (start == -1) {
+            return "";
+        }
+        int end = jaif.indexOf("field ", start + 1);
+        return end == -1 ? jaif.substring(start) : jaif.substring(start, end);
+    }
+
+    @Test
+    public void reachesFixpoint() throws IOException {
+        Assert.assertEquals(0, runDriver());
+        Assert.assertTrue(getFieldInJaif("field1").contains("Sibling1"));
+        Assert.assertTrue(getFieldInJaif("field2").contains("Sibling1"));
+    }
+
+    @Test
+    public void stopsAfterMaxRounds() throws IOException {
+        Assert.assertEquals(1, runDriver("-maxRounds", "1"));
+        // The annotations inferred in the first round are written nevertheless.
+        Assert.assertTrue(getFieldInJaif("field1").contains("Sibling1"));
+        Assert.assertFalse(getFieldInJaif("field2").contains("Sibling1"));
+    }
+}
@@ -0,0 +1,51 @@
+import org.checkerframework.common.value.qual.IntVal;
+
+// The same generic invocations are inferred in several assignment contexts; the expected
+// diagnostics must not depend on whether inference results are cached.
+class InferenceContexts {
+    static <T> T id(T t) {
+        return t;
+    }
+
+    static <T> T pick(T a, T b) {
+        return a;
+    }
+
+    static <T, U extends T> U dependent() {
+        throw new RuntimeException();
+    }
+
+    void identity(@IntVal(1) Integer one) {
+        @IntVal(1) Integer a = id(one);
+        @IntVal(1) Integer b = id(one);
+        @IntVal({1, 2}) Integer c = id(one);
+        //:: error: (assignment.type.incompatible)
+        @IntVal(2) Integer d = id(one);
+        @IntVal(1) Integer e = id(one);
+        Object f = id(one);
+        id(one);
+    }
+
+    void lub(@IntVal(1) Integer one, @IntVal(2) Integer two) {
+        @IntVal({1, 2}) Integer a = pick(one, two);
+        @IntVal({1, 2}) Integer b = pick(one, two);
+        @IntVal({1, 2, 3}) Integer c = pick(one, two);
+        Object d = pick(one, two);
+        pick(one, two);
+    }
+
+    void loop(@IntVal(1) Integer one) {
+        for (int i = 0; i < 3; i++) {
+            @IntVal(1) Integer a = id(one);
+            //:: error: (assignment.type.incompatible)
+            @IntVal(3) Integer b = id(one);
+        }
+    }
+
+    void noArguments() {
+        dependent();
+        InferenceContexts.<Object, Integer>dependent();
+        dependent();
+        InferenceContexts.<Object, Integer>dependent();
+    }
+}
@@ -0,0 +1,58 @@
+import org.checkerframework.common.value.qual.IntVal;
+
+// Widening at loop heads and narrowing must still reach a fixed point, and must not keep a value
+// that a loop changes.
+public class WideningLoops {
+
+    void grows(boolean b) {
+        int x = 0;
+        while (b) {
+            x = x + 1;
+        }
+        //:: error: (assignment.type.incompatible)
+        @IntVal(0) int after = x;
+    }
+
+    void constantInLoop(int n) {
+        int k = 5;
+        for (int i = 0; i < n; i++) {
+            k = 5;
+        }
+        @IntVal(5) int after = k;
+    }
+
+    void alternates(boolean b) {
+        int x = 1;
+        while (b) {
+            x = 3 - x;
+        }
+        @IntVal({1, 2}) int after = x;
+        //:: error: (assignment.type.incompatible)
+        @IntVal(1) int one = x;
+    }
+
+    void nested(int n) {
+        int total = 0;
+        for (int i = 0; i < n; i++) {
+            int j = 0;
+            while (j < i) {
+                total = total + j;
+                j++;
+            }
+        }
+        //:: error: (assignment.type.incompatible)
+        @IntVal(0) int after = total;
+    }
+
+    void afterBreak(boolean b) {
+        int x = 0;
+        while (true) {
+            if (b) {
+                x = 7;
+                break;
+            }
+            x = 1;
+        }
+        @IntVal(7) int after = x;
+    }
+}
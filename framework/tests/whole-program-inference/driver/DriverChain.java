@@ -0,0 +1,20 @@
+import testlib.wholeprograminference.qual.*;
+
+// The type of field2 is inferred from the type of field1, which is inferred after it in the first
+// round, so WholeProgramInferenceDriver needs a second round to infer it.
+public class DriverChain {
+    int field1; // sib1
+    int field2; // sib1, in the second round
+
+    void setField2() {
+        field2 = field1;
+    }
+
+    void setField1() {
+        field1 = getSibling1();
+    }
+
+    @Sibling1 int getSibling1() {
+        return (@Sibling1 int) 0;
+    }
+}